@@ -0,0 +1,48 @@
+#!/bin/sh
+# =============================================
+# Gera a imagem nativa de Main/SistemaAprendizado
+# Requer uma GraalVM instalada localmente (GRAALVM_HOME ou native-image
+# no PATH); nada é baixado, o build funciona offline
+# Saída: build/nativo/sistema-aprendizado
+# Após o build roda um teste rápido (sessão roteirizada até a primeira
+# questão); com --medir, compara partida e RSS com a JVM
+# =============================================
+set -e
+
+RAIZ=$(cd "$(dirname "$0")/.." && pwd)
+BUILD="$RAIZ/build/nativo"
+EXECUCOES=${EXECUCOES:-10}
+
+if [ -n "$GRAALVM_HOME" ]; then
+    NATIVE_IMAGE="$GRAALVM_HOME/bin/native-image"
+    JAVA="$GRAALVM_HOME/bin/java"
+else
+    NATIVE_IMAGE=$(command -v native-image || true)
+    JAVA=java
+fi
+if [ -z "$NATIVE_IMAGE" ] || [ ! -x "$NATIVE_IMAGE" ]; then
+    echo "native-image não encontrado: defina GRAALVM_HOME ou coloque native-image no PATH" >&2
+    exit 1
+fi
+
+rm -rf "$BUILD"
+mkdir -p "$BUILD/classes"
+javac -encoding UTF-8 -XDstringConcat=inline -d "$BUILD/classes" $(find "$RAIZ/src" -name '*.java')
+cp -r "$RAIZ/native/META-INF" "$BUILD/classes/"
+jar --create --file "$BUILD/sistema.jar" --main-class Main -C "$BUILD/classes" .
+
+"$NATIVE_IMAGE" -cp "$BUILD/sistema.jar" -o "$BUILD/sistema-aprendizado" Main
+
+# Teste rápido: a imagem precisa chegar à primeira questão e sair normalmente
+SAIDA=$(printf 'Teste\n1\n1\n2\nM\n4\n' | "$BUILD/sistema-aprendizado" \
+    -Dsistema.ordenacao.atrasoMs=0 -Dsistema.progresso.dir="$BUILD/progresso-teste")
+rm -rf "$BUILD/progresso-teste"
+if ! echo "$SAIDA" | grep -q "QUESTÃO \["; then
+    echo "❌ A imagem nativa não exibiu a primeira questão" >&2
+    exit 1
+fi
+echo "✅ Imagem nativa: $BUILD/sistema-aprendizado"
+
+if [ "$1" = "--medir" ]; then
+    "$JAVA" -cp "$BUILD/sistema.jar" BenchmarkInicializacao "$EXECUCOES" --nativo "$BUILD/sistema-aprendizado"
+fi
@@ -0,0 +1,38 @@
+#!/bin/sh
+# =============================================
+# Monta a inicialização rápida com AppCDS e snapshot do banco
+# 1. compila e empacota as classes em build/appcds/sistema.jar
+# 2. grava o snapshot do banco de questões (banco.tsv)
+# 3. faz uma execução de treino que grava o arquivo CDS (sistema.jsa)
+#    com as classes da aplicação carregadas até a primeira questão
+# Com --medir, roda o BenchmarkInicializacao nos três modos
+# =============================================
+set -e
+
+RAIZ=$(cd "$(dirname "$0")/.." && pwd)
+BUILD="$RAIZ/build/appcds"
+EXECUCOES=${EXECUCOES:-10}
+
+rm -rf "$BUILD"
+mkdir -p "$BUILD/classes"
+javac -encoding UTF-8 -XDstringConcat=inline -d "$BUILD/classes" $(find "$RAIZ/src" -name '*.java')
+jar --create --file "$BUILD/sistema.jar" --main-class Main -C "$BUILD/classes" .
+
+java -cp "$BUILD/sistema.jar" Main --gerar-snapshot "$BUILD/banco.tsv"
+
+# Treino: menu, tópico, uma resposta, estatísticas e saída
+printf 'Treino\n1\n1\n2\nB\n\nM\n2\n\n4\n' | java \
+    -XX:ArchiveClassesAtExit="$BUILD/sistema.jsa" \
+    -Dsistema.banco.snapshot="$BUILD/banco.tsv" \
+    -Dsistema.progresso.dir="$BUILD/progresso-treino" \
+    -Dsistema.ordenacao.atrasoMs=0 \
+    -cp "$BUILD/sistema.jar" Main > /dev/null
+rm -rf "$BUILD/progresso-treino"
+
+echo "Arquivo CDS: $BUILD/sistema.jsa"
+echo "Para iniciar: java -XX:SharedArchiveFile=$BUILD/sistema.jsa -Dsistema.banco.snapshot=$BUILD/banco.tsv -cp $BUILD/sistema.jar Main"
+
+if [ "$1" = "--medir" ]; then
+    java -cp "$BUILD/sistema.jar" BenchmarkInicializacao "$EXECUCOES" \
+        --snapshot "$BUILD/banco.tsv" --cds "$BUILD/sistema.jsa"
+fi
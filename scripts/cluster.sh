@@ -0,0 +1,50 @@
+#!/bin/sh
+# =============================================
+# Sobe um cluster local: N nós HTTP e o roteador na frente
+# Os nós compartilham os diretórios de sessões passivadas e de
+# progresso, então qualquer um assume os usuários de outro
+# Os nós ouvem só no loopback; um token sorteado a cada subida
+# autoriza o roteador a chamar as rotas /admin/* deles
+# Uso: scripts/cluster.sh [nos] [porta-roteador]
+#      scripts/cluster.sh --parar
+# Remover um nó (as sessões dele passam aos demais):
+#      curl -X DELETE 'http://localhost:8080/roteador/nos?endereco=localhost:8082'
+# =============================================
+set -e
+
+RAIZ=$(cd "$(dirname "$0")/.." && pwd)
+BUILD="$RAIZ/build/cluster"
+
+if [ "$1" = "--parar" ]; then
+    [ -f "$BUILD/pids" ] && kill $(cat "$BUILD/pids") 2>/dev/null || true
+    rm -f "$BUILD/pids"
+    exit 0
+fi
+
+NOS=${1:-3}
+PORTA=${2:-8080}
+TOKEN=$(od -An -N16 -tx1 /dev/urandom | tr -d ' \n')
+
+rm -rf "$BUILD/classes"
+mkdir -p "$BUILD/classes" "$BUILD/logs"
+javac -encoding UTF-8 -d "$BUILD/classes" $(find "$RAIZ/src" -name '*.java')
+
+: > "$BUILD/pids"
+ENDERECOS=""
+i=1
+while [ "$i" -le "$NOS" ]; do
+    PORTA_NO=$((PORTA + i))
+    java -Dsistema.sessoes.dir="$BUILD/sessoes" \
+         -Dsistema.admin.token="$TOKEN" \
+         -Dsistema.progresso.dir="$BUILD/progresso" \
+         -cp "$BUILD/classes" Main --http "$PORTA_NO" > "$BUILD/logs/no-$PORTA_NO.log" 2>&1 &
+    echo $! >> "$BUILD/pids"
+    ENDERECOS="$ENDERECOS${ENDERECOS:+,}localhost:$PORTA_NO"
+    i=$((i + 1))
+done
+
+java -Dsistema.admin.token="$TOKEN" -cp "$BUILD/classes" Main --roteador "$PORTA" "$ENDERECOS" > "$BUILD/logs/roteador.log" 2>&1 &
+echo $! >> "$BUILD/pids"
+
+echo "Roteador em http://localhost:$PORTA -> $ENDERECOS"
+echo "Logs em $BUILD/logs; para parar: $0 --parar"
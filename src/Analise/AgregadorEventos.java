@@ -0,0 +1,141 @@
+// =============================================
+// Classe AgregadorEventos
+// Agregação em fluxo por janelas fixas (tumbling) de tempo
+// Cada evento atualiza só o resumo da janela corrente (O(1));
+// ao virar a janela, ela é fechada e guardada entre as últimas N
+// Relatórios combinam as janelas retidas sob demanda
+// receber() só enfileira (fila limitada, descarta se cheia): a agregação
+// roda na thread "agregador-eventos", e os laços de rede e as threads
+// HTTP não disputam a trava do agregador a cada turno
+// =============================================
+
+package Analise;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public class AgregadorEventos implements OuvinteEventos {
+    private static final int CAPACIDADE_FILA = 16_384;
+
+    private final long duracaoJanelaMs;
+    private final int maxJanelas;
+    private final ArrayBlockingQueue<EventoAnalise> fila;
+    private final LongAdder descartados;
+    private final Thread agregador;
+    private final ArrayDeque<Janela> fechadas;  // Janelas e "atual" guardadas sob "this"
+    private Janela atual;
+    private volatile boolean encerrando;
+
+    // Resumo dos eventos de [inicioMs, inicioMs + duração)
+    public static final class Janela {
+        private final long inicioMs;
+        private final ResumoEventos resumo;
+
+        Janela(long inicioMs) {
+            this.inicioMs = inicioMs;
+            this.resumo = new ResumoEventos();
+        }
+
+        public long getInicioMs() { return inicioMs; }
+        public ResumoEventos getResumo() { return resumo; }
+    }
+
+    public AgregadorEventos(long duracaoJanelaMs, int maxJanelas) {
+        this.duracaoJanelaMs = Math.max(1, duracaoJanelaMs);
+        this.maxJanelas = Math.max(1, maxJanelas);
+        this.fechadas = new ArrayDeque<>(this.maxJanelas);
+        this.fila = new ArrayBlockingQueue<>(CAPACIDADE_FILA);
+        this.descartados = new LongAdder();
+
+        this.agregador = new Thread(this::executar, "agregador-eventos");
+        agregador.setDaemon(true);
+        agregador.start();
+    }
+
+    @Override
+    public void receber(EventoAnalise evento) {
+        if (!fila.offer(evento)) {
+            descartados.increment();
+        }
+    }
+
+    public long getDescartados() { return descartados.sum(); }
+
+    // Processa o que já estiver na fila e para a thread
+    public void encerrar() {
+        encerrando = true;
+        try {
+            agregador.join(5000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void executar() {
+        try {
+            while (!encerrando || !fila.isEmpty()) {
+                EventoAnalise evento = fila.poll(1, TimeUnit.SECONDS);
+                if (evento != null) {
+                    acumular(evento);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Só a thread do agregador escreve; a trava é disputada apenas pelos relatórios
+    private synchronized void acumular(EventoAnalise evento) {
+        long inicio = evento.getInstanteMs() - Math.floorMod(evento.getInstanteMs(), duracaoJanelaMs);
+        if (atual == null) {
+            atual = new Janela(inicio);
+        } else if (inicio > atual.inicioMs) {
+            fechar();
+            atual = new Janela(inicio);
+        }
+        // Eventos atrasados (de uma janela já fechada) entram na corrente
+        atual.resumo.acumular(evento);
+    }
+
+    // Soma das janelas retidas mais a corrente
+    public synchronized ResumoEventos getTotal() {
+        ResumoEventos total = new ResumoEventos();
+        for (Janela janela : fechadas) {
+            total.combinar(janela.resumo);
+        }
+        if (atual != null) {
+            total.combinar(atual.resumo);
+        }
+        return total;
+    }
+
+    // Última janela fechada, ou null se nenhuma fechou ainda
+    public synchronized Janela getUltimaFechada() {
+        return fechadas.peekLast();
+    }
+
+    public synchronized String getRelatorio() {
+        StringBuilder sb = new StringBuilder();
+        Janela ultima = fechadas.peekLast();
+        if (ultima != null) {
+            sb.append("=== Última janela (").append(Instant.ofEpochMilli(ultima.inicioMs))
+                    .append(", ").append(duracaoJanelaMs / 1000).append(" s) ===\n");
+            ultima.resumo.formatar(sb);
+            sb.append('\n');
+        }
+        sb.append("=== Últimas ").append(fechadas.size() + (atual != null ? 1 : 0)).append(" janelas ===\n");
+        getTotal().formatar(sb);
+        sb.append("Eventos descartados: ").append(getDescartados()).append('\n');
+        return sb.toString();
+    }
+
+    private void fechar() {
+        if (fechadas.size() == maxJanelas) {
+            fechadas.pollFirst();
+        }
+        fechadas.addLast(atual);
+    }
+}
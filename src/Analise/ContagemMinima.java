@@ -0,0 +1,58 @@
+// =============================================
+// Classe ContagemMinima
+// Esboço count-min: conta ocorrências de chaves (hashes de 64 bits)
+// em memória fixa, superestimando no máximo pelas colisões
+// Usa atualização conservadora: só sobe as células que estão no
+// mínimo, o que reduz bastante o erro para chaves raras
+// Não é thread-safe (usado só pela thread do DetectorFraude)
+// =============================================
+
+package Analise;
+
+import java.util.Arrays;
+
+public class ContagemMinima {
+    private final int profundidade;
+    private final int mascara;
+    private final int[] celulas;  // profundidade linhas de "largura" contadores
+
+    // largura é arredondada para potência de dois
+    public ContagemMinima(int profundidade, int largura) {
+        this.profundidade = Math.max(1, profundidade);
+        int potencia = Integer.highestOneBit(Math.max(16, largura - 1) << 1);
+        this.mascara = potencia - 1;
+        this.celulas = new int[this.profundidade * potencia];
+    }
+
+    // Soma uma ocorrência e devolve a nova estimativa da chave
+    public int incrementar(long chave) {
+        int minimo = estimar(chave);
+        int novo = minimo == Integer.MAX_VALUE ? minimo : minimo + 1;
+        for (int linha = 0; linha < profundidade; linha++) {
+            int indice = indice(chave, linha);
+            if (celulas[indice] < novo) {
+                celulas[indice] = novo;
+            }
+        }
+        return novo;
+    }
+
+    public int estimar(long chave) {
+        int minimo = Integer.MAX_VALUE;
+        for (int linha = 0; linha < profundidade; linha++) {
+            minimo = Math.min(minimo, celulas[indice(chave, linha)]);
+        }
+        return minimo;
+    }
+
+    public void limpar() {
+        Arrays.fill(celulas, 0);
+    }
+
+    // Cada linha usa uma metade diferente do hash duplo h1 + linha * h2
+    private int indice(long chave, int linha) {
+        int h1 = (int) chave;
+        int h2 = (int) (chave >>> 32) | 1;
+        return linha * (mascara + 1) + ((h1 + linha * h2) & mascara);
+    }
+}
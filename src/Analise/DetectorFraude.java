@@ -0,0 +1,311 @@
+// =============================================
+// Classe DetectorFraude
+// Detecção em tempo real de padrões suspeitos de resposta
+// receber() só enfileira (fila limitada, descarta se cheia): toda a
+// análise roda na thread "detector-fraude", fora do turno da sessão
+//
+// Sinais, por sessão (memória fixa por perfil, perfis em LRU):
+//   RESPOSTAS_RAPIDAS   mediana das últimas latências (exibição até a
+//                       resposta) abaixo do tempo mínimo de leitura
+//   RITMO_CONSTANTE     latências quase iguais (coef. de variação baixo),
+//                       típico de script
+//   MESMA_LETRA         muitas questões de alternativa seguidas com a mesma letra
+//   SEQUENCIA_COPIADA   a mesma sequência de respostas (com erros) vista
+//                       em outras sessões: count-min dos hashes das
+//                       sequências, em janela deslizante de duas gerações
+// Um HyperLogLog por geração estima quantas sequências distintas
+// circularam, para acompanhar a diversidade das respostas
+// =============================================
+
+package Analise;
+
+import enums.TipoQuestao;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public class DetectorFraude implements OuvinteEventos {
+    public enum Motivo {
+        RESPOSTAS_RAPIDAS,
+        RITMO_CONSTANTE,
+        MESMA_LETRA,
+        SEQUENCIA_COPIADA
+    }
+
+    // Sessão marcada, com o sinal que disparou
+    public static final class Suspeita {
+        private final long instanteMs;
+        private final long idSessao;
+        private final Motivo motivo;
+        private final String detalhe;
+
+        Suspeita(long instanteMs, long idSessao, Motivo motivo, String detalhe) {
+            this.instanteMs = instanteMs;
+            this.idSessao = idSessao;
+            this.motivo = motivo;
+            this.detalhe = detalhe;
+        }
+
+        public long getInstanteMs() { return instanteMs; }
+        public long getIdSessao() { return idSessao; }
+        public Motivo getMotivo() { return motivo; }
+        public String getDetalhe() { return detalhe; }
+
+        @Override
+        public String toString() {
+            return Instant.ofEpochMilli(instanteMs) + " sessão " + idSessao + " " + motivo + " (" + detalhe + ")";
+        }
+    }
+
+    private static final int CAPACIDADE_FILA = 16_384;
+    private static final int AMOSTRAS_LATENCIA = 16;
+    private static final int MINIMO_AMOSTRAS = 8;
+    private static final long LATENCIA_MINIMA_MS = 1500;
+    private static final double VARIACAO_MAXIMA = 0.05;
+    private static final int MESMA_LETRA_SEGUIDAS = 10;
+    private static final int TAMANHO_SEQUENCIA = 6;
+    private static final int ERROS_MINIMOS_SEQUENCIA = 2;  // Acertos em ordem igual são normais
+    private static final int REPETICOES_SEQUENCIA = 3;     // A própria sessão e mais duas
+    private static final int MAX_SUSPEITAS = 1000;
+
+    private final long duracaoJanelaMs;
+    private final ArrayBlockingQueue<EventoAnalise> fila;
+    private final LongAdder descartados;
+    private final Thread analisador;
+    private final Map<Long, Perfil> perfis;
+    private final ArrayDeque<Suspeita> suspeitas;  // Últimas, guardadas sob "this"
+    private volatile boolean encerrando;
+
+    // Esboços da geração corrente e da anterior; consultas somam as duas
+    private ContagemMinima sequenciasAtual;
+    private ContagemMinima sequenciasAnterior;
+    private HyperLogLog distintasAtual;
+    private HyperLogLog distintasAnterior;
+    private long inicioGeracaoMs;
+    private long sequenciasNaGeracao;
+    private volatile String resumoGeracao = "";
+
+    public DetectorFraude(long duracaoJanelaMs, int maxPerfis) {
+        this.duracaoJanelaMs = Math.max(1, duracaoJanelaMs);
+        this.fila = new ArrayBlockingQueue<>(CAPACIDADE_FILA);
+        this.descartados = new LongAdder();
+        this.perfis = new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Perfil> maisAntigo) {
+                return size() > maxPerfis;
+            }
+        };
+        this.suspeitas = new ArrayDeque<>();
+        this.sequenciasAtual = new ContagemMinima(4, 1 << 14);
+        this.sequenciasAnterior = new ContagemMinima(4, 1 << 14);
+        this.distintasAtual = new HyperLogLog(12);
+        this.distintasAnterior = new HyperLogLog(12);
+
+        this.analisador = new Thread(this::executar, "detector-fraude");
+        analisador.setDaemon(true);
+        analisador.start();
+    }
+
+    @Override
+    public void receber(EventoAnalise evento) {
+        if (evento.getTipo() == TipoEvento.RESPOSTA && !fila.offer(evento)) {
+            descartados.increment();
+        }
+    }
+
+    public long getDescartados() { return descartados.sum(); }
+
+    public synchronized List<Suspeita> getSuspeitas() {
+        return new ArrayList<>(suspeitas);
+    }
+
+    public synchronized String getRelatorio() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("=== Detector de fraude ===\n");
+        sb.append(resumoGeracao);
+        sb.append("Eventos descartados: ").append(getDescartados()).append('\n');
+        sb.append("Sessões suspeitas (últimas ").append(suspeitas.size()).append("):\n");
+        for (Suspeita suspeita : suspeitas) {
+            sb.append("  ").append(suspeita).append('\n');
+        }
+        return sb.toString();
+    }
+
+    // Processa o que já estiver na fila e para a thread
+    public void encerrar() {
+        encerrando = true;
+        try {
+            analisador.join(5000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void executar() {
+        try {
+            while (!encerrando || !fila.isEmpty()) {
+                EventoAnalise evento = fila.poll(1, TimeUnit.SECONDS);
+                if (evento != null) {
+                    analisar(evento);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void analisar(EventoAnalise evento) {
+        long agora = evento.getInstanteMs();
+        if (agora - inicioGeracaoMs >= duracaoJanelaMs) {
+            virarGeracao(agora);
+        }
+        Perfil perfil = perfis.computeIfAbsent(evento.getIdSessao(), id -> new Perfil());
+
+        long latenciaMs = evento.getTempoRespostaNanos() / 1_000_000;
+        if (latenciaMs > 0) {
+            perfil.latencias[perfil.totalLatencias++ % AMOSTRAS_LATENCIA] = latenciaMs;
+            verificarLatencias(evento, perfil);
+        }
+
+        // Letras só fazem sentido nas questões de alternativa
+        char letra = evento.getResposta();
+        if (evento.getTipoQuestao() != TipoQuestao.COMPLETAR.ordinal() && letra >= 'A' && letra <= 'Z') {
+            perfil.letraSeguidas = letra == perfil.ultimaLetra ? perfil.letraSeguidas + 1 : 1;
+            perfil.ultimaLetra = letra;
+            if (perfil.letraSeguidas >= MESMA_LETRA_SEGUIDAS) {
+                marcar(evento, perfil, Motivo.MESMA_LETRA, perfil.letraSeguidas + "x '" + letra + "'");
+            }
+        }
+
+        int posicao = perfil.totalRespostas++ % TAMANHO_SEQUENCIA;
+        perfil.sequencia[posicao] = hashResposta(evento);
+        perfil.erradas[posicao] = !evento.isCorreta();
+        if (perfil.totalRespostas >= TAMANHO_SEQUENCIA) {
+            verificarSequencia(evento, perfil);
+        }
+    }
+
+    private void verificarLatencias(EventoAnalise evento, Perfil perfil) {
+        int n = Math.min(perfil.totalLatencias, AMOSTRAS_LATENCIA);
+        if (n < MINIMO_AMOSTRAS) {
+            return;
+        }
+        long[] amostras = Arrays.copyOf(perfil.latencias, n);
+        Arrays.sort(amostras);
+        long mediana = amostras[n / 2];
+        if (mediana < LATENCIA_MINIMA_MS) {
+            marcar(evento, perfil, Motivo.RESPOSTAS_RAPIDAS, "mediana " + mediana + " ms");
+        }
+        double media = 0;
+        for (long amostra : amostras) {
+            media += amostra;
+        }
+        media /= n;
+        double variancia = 0;
+        for (long amostra : amostras) {
+            variancia += (amostra - media) * (amostra - media);
+        }
+        double coeficiente = Math.sqrt(variancia / n) / media;
+        if (coeficiente < VARIACAO_MAXIMA) {
+            marcar(evento, perfil, Motivo.RITMO_CONSTANTE, String.format("variação %.1f%%", coeficiente * 100));
+        }
+    }
+
+    // Sequência das últimas respostas, da mais antiga para a mais recente
+    private void verificarSequencia(EventoAnalise evento, Perfil perfil) {
+        int erros = 0;
+        long hash = 0x9E3779B97F4A7C15L;
+        for (int i = 0; i < TAMANHO_SEQUENCIA; i++) {
+            int posicao = (perfil.totalRespostas + i) % TAMANHO_SEQUENCIA;
+            hash = misturar(hash * 31 + perfil.sequencia[posicao]);
+            if (perfil.erradas[posicao]) {
+                erros++;
+            }
+        }
+        distintasAtual.adicionar(hash);
+        sequenciasNaGeracao++;
+        if (erros < ERROS_MINIMOS_SEQUENCIA) {
+            return;
+        }
+        int vistas = sequenciasAtual.incrementar(hash) + sequenciasAnterior.estimar(hash);
+        if (vistas >= REPETICOES_SEQUENCIA) {
+            marcar(evento, perfil, Motivo.SEQUENCIA_COPIADA,
+                    "vista ~" + vistas + "x com " + erros + " erros em " + TAMANHO_SEQUENCIA);
+        }
+    }
+
+    private void virarGeracao(long agora) {
+        if (inicioGeracaoMs > 0) {
+            long distintas = distintasAtual.copia().combinar(distintasAnterior).estimar();
+            resumoGeracao = "Janela de " + duracaoJanelaMs / 1000 + " s até " + Instant.ofEpochMilli(agora)
+                    + ": " + sequenciasNaGeracao + " sequências, ~" + distintas
+                    + " distintas nas duas últimas janelas\n";
+        }
+        ContagemMinima contagem = sequenciasAnterior;
+        sequenciasAnterior = sequenciasAtual;
+        sequenciasAtual = contagem;
+        sequenciasAtual.limpar();
+        HyperLogLog distintas = distintasAnterior;
+        distintasAnterior = distintasAtual;
+        distintasAtual = distintas;
+        distintasAtual.limpar();
+        sequenciasNaGeracao = 0;
+        inicioGeracaoMs = agora - Math.floorMod(agora, duracaoJanelaMs);
+    }
+
+    // Cada motivo é registrado uma vez por sessão
+    private void marcar(EventoAnalise evento, Perfil perfil, Motivo motivo, String detalhe) {
+        int bit = 1 << motivo.ordinal();
+        if ((perfil.motivos & bit) != 0) {
+            return;
+        }
+        perfil.motivos |= bit;
+        Suspeita suspeita = new Suspeita(evento.getInstanteMs(), evento.getIdSessao(), motivo, detalhe);
+        synchronized (this) {
+            if (suspeitas.size() == MAX_SUSPEITAS) {
+                suspeitas.pollFirst();
+            }
+            suspeitas.addLast(suspeita);
+        }
+        System.err.println("🚩 Suspeita: " + suspeita);
+    }
+
+    // Questão (tópico + posição no banco) e a letra respondida
+    private static long hashResposta(EventoAnalise evento) {
+        long h = evento.getTopico() == null ? 0 : evento.getTopico().hashCode();
+        h = h * 1_000_003 + evento.getPosicaoBanco();
+        h = h * 31 + (evento.getTipoQuestao() == TipoQuestao.COMPLETAR.ordinal()
+                ? (evento.isCorreta() ? 1 : 0) : evento.getResposta());
+        return misturar(h);
+    }
+
+    // Finalizador do MurmurHash3
+    private static long misturar(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    // Estado de uma sessão: vetores de tamanho fixo
+    private static final class Perfil {
+        final long[] latencias = new long[AMOSTRAS_LATENCIA];
+        int totalLatencias;
+        char ultimaLetra;
+        int letraSeguidas;
+        final long[] sequencia = new long[TAMANHO_SEQUENCIA];
+        final boolean[] erradas = new boolean[TAMANHO_SEQUENCIA];
+        int totalRespostas;
+        int motivos;
+    }
+}
@@ -0,0 +1,101 @@
+// =============================================
+// Classe EventoAnalise
+// Um evento do motor de exercícios (imutável)
+// Identifica a questão pela posição no banco do tópico (ordem da
+// fábrica), que é estável entre sessões e ordenações
+// O id de sessão só é único dentro de um processo: eventos lidos do
+// log trazem também o idProcesso do bloco (0 nos eventos ao vivo)
+// =============================================
+
+package Analise;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+public final class EventoAnalise {
+    public static final int SEM_VALOR = -1;
+
+    private final long instanteMs;
+    private final long idProcesso;    // Do cabeçalho do bloco no log; 0 = processo atual
+    private final long idSessao;
+    private final TipoEvento tipo;
+    private final String topico;
+    private final int posicao;        // Posição na sessão (ordem exibida)
+    private final int posicaoBanco;   // Posição na ordem original do banco
+    private final byte tipoQuestao;   // Ordinal de TipoQuestao ou SEM_VALOR
+    private final byte nivel;         // Ordinal de NivelDificuldade ou SEM_VALOR
+    private final boolean correta;
+    private final long tempoRespostaNanos;
+    private final char resposta;      // Primeiro caractere da resposta, em maiúscula (0 se não houver)
+
+    public EventoAnalise(long instanteMs, long idSessao, TipoEvento tipo, String topico, int posicao,
+                         int posicaoBanco, int tipoQuestao, int nivel, boolean correta, long tempoRespostaNanos,
+                         char resposta) {
+        this(instanteMs, 0, idSessao, tipo, topico, posicao, posicaoBanco, tipoQuestao, nivel, correta,
+                tempoRespostaNanos, resposta);
+    }
+
+    public EventoAnalise(long instanteMs, long idProcesso, long idSessao, TipoEvento tipo, String topico, int posicao,
+                         int posicaoBanco, int tipoQuestao, int nivel, boolean correta, long tempoRespostaNanos,
+                         char resposta) {
+        this.instanteMs = instanteMs;
+        this.idProcesso = idProcesso;
+        this.idSessao = idSessao;
+        this.tipo = tipo;
+        this.topico = topico;
+        this.posicao = posicao;
+        this.posicaoBanco = posicaoBanco;
+        this.tipoQuestao = (byte) tipoQuestao;
+        this.nivel = (byte) nivel;
+        this.correta = correta;
+        this.tempoRespostaNanos = tempoRespostaNanos;
+        this.resposta = resposta;
+    }
+
+    // Evento de tópico (início, saída para o menu, conclusão), sem questão associada
+    public static EventoAnalise deTopico(TipoEvento tipo, long idSessao, String topico, int posicao) {
+        return new EventoAnalise(System.currentTimeMillis(), idSessao, tipo, topico, posicao,
+                SEM_VALOR, SEM_VALOR, SEM_VALOR, false, 0, (char) 0);
+    }
+
+    public void gravar(DataOutput out) throws IOException {
+        out.writeLong(instanteMs);
+        out.writeLong(idSessao);
+        out.writeByte(tipo.ordinal());
+        out.writeUTF(topico);
+        out.writeInt(posicao);
+        out.writeInt(posicaoBanco);
+        out.writeByte(tipoQuestao);
+        out.writeByte(nivel);
+        out.writeBoolean(correta);
+        out.writeLong(tempoRespostaNanos);
+        out.writeChar(resposta);
+    }
+
+    // O idProcesso não vai no evento: é gravado uma vez por bloco (RegistroEventos)
+    public static EventoAnalise ler(DataInput in, long idProcesso) throws IOException {
+        return new EventoAnalise(in.readLong(), idProcesso, in.readLong(), TipoEvento.porCodigo(in.readUnsignedByte()),
+                in.readUTF(), in.readInt(), in.readInt(), in.readByte(), in.readByte(),
+                in.readBoolean(), in.readLong(), in.readChar());
+    }
+
+    public long getInstanteMs() { return instanteMs; }
+    public long getIdProcesso() { return idProcesso; }
+    public long getIdSessao() { return idSessao; }
+    public TipoEvento getTipo() { return tipo; }
+    public String getTopico() { return topico; }
+    public int getPosicao() { return posicao; }
+    public int getPosicaoBanco() { return posicaoBanco; }
+    public int getTipoQuestao() { return tipoQuestao; }
+    public int getNivel() { return nivel; }
+    public boolean isCorreta() { return correta; }
+    public long getTempoRespostaNanos() { return tempoRespostaNanos; }
+    public char getResposta() { return resposta; }
+
+    // Normaliza a resposta digitada para o campo "resposta"
+    public static char primeiraLetra(String resposta) {
+        String texto = resposta == null ? "" : resposta.trim();
+        return texto.isEmpty() ? 0 : Character.toUpperCase(texto.charAt(0));
+    }
+}
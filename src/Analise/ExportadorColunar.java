@@ -0,0 +1,312 @@
+// =============================================
+// Classe ExportadorColunar
+// Exporta as respostas (eventos RESPOSTA) em arquivo colunar para a
+// equipe de dados, em grupos de linhas de tamanho fixo: a memória
+// fica constante mesmo exportando milhões de eventos
+//
+// Layout (inteiros big-endian):
+//   "SACOL" | byte versão | byte totalColunas | (UTF nome, byte codificação)*
+//   grupos: int linhas | por coluna: int tamanho + bytes
+//   rodapé: int totalGrupos | (long posição, int linhas)* | long posiçãoRodapé | "SACOL"
+//
+// Codificações por coluna:
+//   DELTA       diferença para a linha anterior (zigzag + varint)
+//   DICIONARIO  varint n | n strings UTF | byte largura | códigos empacotados em bits
+//   VARINT      zigzag + varint
+//   BITS        1 bit por linha
+//
+// Uma sessão é o par (id_processo, id_sessao): o id de sessão
+// recomeça em 1 a cada processo e em cada nó do cluster
+// Versão 2: coluna id_processo (a versão 1 não tinha)
+// =============================================
+
+package Analise;
+
+import enums.NivelDificuldade;
+import enums.TipoQuestao;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+
+public class ExportadorColunar implements Closeable {
+    static final byte[] MAGICO = {'S', 'A', 'C', 'O', 'L'};
+    static final int VERSAO = 2;
+
+    static final byte DELTA = 1;
+    static final byte DICIONARIO = 2;
+    static final byte VARINT = 3;
+    static final byte BITS = 4;
+
+    static final String[] COLUNAS = {"instante_ms", "id_processo", "id_sessao", "topico", "tipo", "nivel",
+            "questao", "correta", "tempo_resposta_us"};
+    static final byte[] CODIFICACOES = {DELTA, DELTA, DELTA, DICIONARIO, DICIONARIO, DICIONARIO,
+            VARINT, BITS, VARINT};
+
+    private static final TipoQuestao[] TIPOS = TipoQuestao.values();
+    private static final NivelDificuldade[] NIVEIS = NivelDificuldade.values();
+
+    private final DataOutputStream saida;
+    private final int linhasPorGrupo;
+    private final ArrayList<long[]> indiceGrupos;  // {posição, linhas} de cada grupo
+    private long posicao;
+
+    // Colunas do grupo corrente, em vetores primitivos reaproveitados
+    private final long[] instantes;
+    private final long[] processos;
+    private final long[] sessoes;
+    private final String[] topicos;
+    private final byte[] tipos;
+    private final byte[] niveis;
+    private final int[] questoes;
+    private final boolean[] corretas;
+    private final long[] temposMicros;
+    private int linhas;
+    private long totalLinhas;
+    private final Buffer coluna;
+    private boolean fechado;
+
+    public ExportadorColunar(Path arquivo, int linhasPorGrupo) throws IOException {
+        this(Files.newOutputStream(arquivo), linhasPorGrupo);
+    }
+
+    public ExportadorColunar(OutputStream destino, int linhasPorGrupo) throws IOException {
+        this.saida = new DataOutputStream(new BufferedOutputStream(destino, 1 << 16));
+        this.linhasPorGrupo = Math.max(1, linhasPorGrupo);
+        this.indiceGrupos = new ArrayList<>();
+        this.instantes = new long[this.linhasPorGrupo];
+        this.processos = new long[this.linhasPorGrupo];
+        this.sessoes = new long[this.linhasPorGrupo];
+        this.topicos = new String[this.linhasPorGrupo];
+        this.tipos = new byte[this.linhasPorGrupo];
+        this.niveis = new byte[this.linhasPorGrupo];
+        this.questoes = new int[this.linhasPorGrupo];
+        this.corretas = new boolean[this.linhasPorGrupo];
+        this.temposMicros = new long[this.linhasPorGrupo];
+        this.coluna = new Buffer(this.linhasPorGrupo * 4);
+        escreverCabecalho();
+    }
+
+    // Acrescenta o evento se for uma resposta; os demais tipos são ignorados
+    public void adicionar(EventoAnalise evento) throws IOException {
+        if (evento.getTipo() != TipoEvento.RESPOSTA) {
+            return;
+        }
+        instantes[linhas] = evento.getInstanteMs();
+        processos[linhas] = evento.getIdProcesso();
+        sessoes[linhas] = evento.getIdSessao();
+        topicos[linhas] = evento.getTopico();
+        tipos[linhas] = (byte) evento.getTipoQuestao();
+        niveis[linhas] = (byte) evento.getNivel();
+        questoes[linhas] = evento.getPosicaoBanco();
+        corretas[linhas] = evento.isCorreta();
+        temposMicros[linhas] = evento.getTempoRespostaNanos() / 1000;
+        if (++linhas == linhasPorGrupo) {
+            gravarGrupo();
+        }
+    }
+
+    public long getTotalLinhas() { return totalLinhas + linhas; }
+    public int getTotalGrupos() { return indiceGrupos.size(); }
+
+    // Grava o grupo parcial e o rodapé
+    @Override
+    public void close() throws IOException {
+        if (fechado) {
+            return;
+        }
+        fechado = true;
+        if (linhas > 0) {
+            gravarGrupo();
+        }
+        long posicaoRodape = posicao;
+        saida.writeInt(indiceGrupos.size());
+        for (long[] grupo : indiceGrupos) {
+            saida.writeLong(grupo[0]);
+            saida.writeInt((int) grupo[1]);
+        }
+        saida.writeLong(posicaoRodape);
+        saida.write(MAGICO);
+        saida.close();
+    }
+
+    private void escreverCabecalho() throws IOException {
+        saida.write(MAGICO);
+        saida.writeByte(VERSAO);
+        saida.writeByte(COLUNAS.length);
+        for (int i = 0; i < COLUNAS.length; i++) {
+            saida.writeUTF(COLUNAS[i]);
+            saida.writeByte(CODIFICACOES[i]);
+        }
+        posicao = saida.size();
+    }
+
+    private void gravarGrupo() throws IOException {
+        indiceGrupos.add(new long[]{posicao, linhas});
+        saida.writeInt(linhas);
+        posicao += 4;
+
+        codificarDelta(instantes);
+        codificarDelta(processos);  // Constante por trechos longos: quase tudo delta 0
+        codificarDelta(sessoes);
+        codificarDicionario(topicos);
+        codificarEnum(tipos, TIPOS);
+        codificarEnum(niveis, NIVEIS);
+        coluna.limpar();
+        for (int i = 0; i < linhas; i++) {
+            coluna.varint(questoes[i]);
+        }
+        gravarColuna();
+        coluna.limpar();
+        coluna.empacotar(corretas, linhas);
+        gravarColuna();
+        coluna.limpar();
+        for (int i = 0; i < linhas; i++) {
+            coluna.varint(temposMicros[i]);
+        }
+        gravarColuna();
+
+        totalLinhas += linhas;
+        linhas = 0;
+        Arrays.fill(topicos, null);
+    }
+
+    private void codificarDelta(long[] valores) throws IOException {
+        coluna.limpar();
+        long anterior = 0;
+        for (int i = 0; i < linhas; i++) {
+            coluna.varint(valores[i] - anterior);
+            anterior = valores[i];
+        }
+        gravarColuna();
+    }
+
+    // Dicionário por grupo (o grupo é autocontido); códigos na ordem da primeira ocorrência
+    private void codificarDicionario(String[] valores) throws IOException {
+        HashMap<String, Integer> codigos = new HashMap<>();
+        ArrayList<String> dicionario = new ArrayList<>();
+        int[] indices = new int[linhas];
+        for (int i = 0; i < linhas; i++) {
+            Integer codigo = codigos.get(valores[i]);
+            if (codigo == null) {
+                codigo = dicionario.size();
+                codigos.put(valores[i], codigo);
+                dicionario.add(valores[i]);
+            }
+            indices[i] = codigo;
+        }
+        gravarDicionario(dicionario, indices);
+    }
+
+    // Enums viram dicionário pelo nome (SEM_VALOR vira "")
+    private void codificarEnum(byte[] ordinais, Enum<?>[] valores) throws IOException {
+        String[] nomes = new String[linhas];
+        for (int i = 0; i < linhas; i++) {
+            int ordinal = ordinais[i];
+            nomes[i] = ordinal >= 0 && ordinal < valores.length ? valores[ordinal].name() : "";
+        }
+        codificarDicionario(nomes);
+    }
+
+    private void gravarDicionario(ArrayList<String> dicionario, int[] indices) throws IOException {
+        coluna.limpar();
+        coluna.varint(dicionario.size());
+        for (String valor : dicionario) {
+            coluna.utf(valor);
+        }
+        int largura = Math.max(1, 32 - Integer.numberOfLeadingZeros(Math.max(0, dicionario.size() - 1)));
+        coluna.escreverByte(largura);
+        coluna.empacotar(indices, linhas, largura);
+        gravarColuna();
+    }
+
+    private void gravarColuna() throws IOException {
+        saida.writeInt(coluna.tamanho);
+        saida.write(coluna.dados, 0, coluna.tamanho);
+        posicao += 4 + coluna.tamanho;
+    }
+
+    // ---------------------------------------------
+    // Buffer de bytes de uma coluna (reaproveitado entre colunas e grupos)
+    // ---------------------------------------------
+    static final class Buffer {
+        byte[] dados;
+        int tamanho;
+
+        Buffer(int capacidade) {
+            this.dados = new byte[Math.max(16, capacidade)];
+        }
+
+        void limpar() {
+            tamanho = 0;
+        }
+
+        void escreverByte(int valor) {
+            garantir(1);
+            dados[tamanho++] = (byte) valor;
+        }
+
+        // Zigzag: valores pequenos, positivos ou negativos, ocupam poucos bytes
+        void varint(long valor) {
+            long v = (valor << 1) ^ (valor >> 63);
+            garantir(10);
+            while ((v & ~0x7FL) != 0) {
+                dados[tamanho++] = (byte) ((v & 0x7F) | 0x80);
+                v >>>= 7;
+            }
+            dados[tamanho++] = (byte) v;
+        }
+
+        void utf(String valor) {
+            byte[] bytes = valor.getBytes(StandardCharsets.UTF_8);
+            varint(bytes.length);
+            garantir(bytes.length);
+            System.arraycopy(bytes, 0, dados, tamanho, bytes.length);
+            tamanho += bytes.length;
+        }
+
+        void empacotar(boolean[] bits, int total) {
+            garantir((total + 7) / 8);
+            for (int i = 0; i < total; i += 8) {
+                int b = 0;
+                for (int j = 0; j < 8 && i + j < total; j++) {
+                    if (bits[i + j]) {
+                        b |= 1 << j;
+                    }
+                }
+                dados[tamanho++] = (byte) b;
+            }
+        }
+
+        // Códigos de "largura" bits cada, do bit menos significativo para o mais
+        void empacotar(int[] valores, int total, int largura) {
+            int bytes = (int) (((long) total * largura + 7) / 8);
+            garantir(bytes);
+            Arrays.fill(dados, tamanho, tamanho + bytes, (byte) 0);
+            long bit = 0;
+            for (int i = 0; i < total; i++, bit += largura) {
+                for (int j = 0; j < largura; j++) {
+                    if ((valores[i] & (1 << j)) != 0) {
+                        long p = bit + j;
+                        dados[tamanho + (int) (p >>> 3)] |= (byte) (1 << (p & 7));
+                    }
+                }
+            }
+            tamanho += bytes;
+        }
+
+        private void garantir(int adicional) {
+            if (tamanho + adicional > dados.length) {
+                dados = Arrays.copyOf(dados, Math.max(dados.length * 2, tamanho + adicional));
+            }
+        }
+    }
+}
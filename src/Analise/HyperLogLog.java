@@ -0,0 +1,65 @@
+// =============================================
+// Classe HyperLogLog
+// Estimativa de cardinalidade (quantas chaves distintas) com 2^p
+// registradores de um byte; erro padrão de ~1,04 / sqrt(2^p)
+// Dois esboços se combinam pelo máximo de cada registrador
+// Não é thread-safe (usado só pela thread do DetectorFraude)
+// =============================================
+
+package Analise;
+
+import java.util.Arrays;
+
+public class HyperLogLog {
+    private final int bitsIndice;
+    private final byte[] registradores;
+
+    public HyperLogLog(int bitsIndice) {
+        this.bitsIndice = Math.max(4, Math.min(16, bitsIndice));
+        this.registradores = new byte[1 << this.bitsIndice];
+    }
+
+    // A chave já deve ser um hash bem distribuído
+    public void adicionar(long chave) {
+        int indice = (int) (chave >>> (64 - bitsIndice));
+        long resto = chave << bitsIndice;
+        int posicao = resto == 0 ? 64 - bitsIndice + 1 : Long.numberOfLeadingZeros(resto) + 1;
+        if (posicao > registradores[indice]) {
+            registradores[indice] = (byte) posicao;
+        }
+    }
+
+    public long estimar() {
+        int m = registradores.length;
+        double soma = 0;
+        int zeros = 0;
+        for (byte registrador : registradores) {
+            soma += 1.0 / (1L << registrador);
+            if (registrador == 0) {
+                zeros++;
+            }
+        }
+        double alfa = 0.7213 / (1 + 1.079 / m);
+        double estimativa = alfa * m * m / soma;
+        // Faixa baixa: contagem linear pelos registradores vazios
+        if (estimativa <= 2.5 * m && zeros > 0) {
+            estimativa = m * Math.log((double) m / zeros);
+        }
+        return Math.round(estimativa);
+    }
+
+    public HyperLogLog combinar(HyperLogLog outro) {
+        for (int i = 0; i < registradores.length; i++) {
+            registradores[i] = (byte) Math.max(registradores[i], outro.registradores[i]);
+        }
+        return this;
+    }
+
+    public HyperLogLog copia() {
+        return new HyperLogLog(bitsIndice).combinar(this);
+    }
+
+    public void limpar() {
+        Arrays.fill(registradores, (byte) 0);
+    }
+}
@@ -0,0 +1,149 @@
+// =============================================
+// Classe LeitorColunar
+// Lê os arquivos do ExportadorColunar grupo a grupo
+// Só o grupo corrente fica decodificado em memória
+// Arquivos da versão 1 (sem id_processo) são lidos com processo 0
+// =============================================
+
+package Analise;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+public final class LeitorColunar {
+    private LeitorColunar() {
+    }
+
+    // Colunas decodificadas de um grupo (vetores com "linhas" posições válidas)
+    public static final class Grupo {
+        public int linhas;
+        public long[] instantes = new long[0];
+        public long[] processos = new long[0];
+        public long[] sessoes = new long[0];
+        public String[] topicos = new String[0];
+        public String[] tipos = new String[0];
+        public String[] niveis = new String[0];
+        public int[] questoes = new int[0];
+        public boolean[] corretas = new boolean[0];
+        public long[] temposMicros = new long[0];
+
+        private void preparar(int total) {
+            linhas = total;
+            if (instantes.length < total) {
+                instantes = new long[total];
+                processos = new long[total];
+                sessoes = new long[total];
+                topicos = new String[total];
+                tipos = new String[total];
+                niveis = new String[total];
+                questoes = new int[total];
+                corretas = new boolean[total];
+                temposMicros = new long[total];
+            }
+        }
+    }
+
+    public interface ConsumidorGrupo {
+        void aceitar(Grupo grupo) throws IOException;
+    }
+
+    // Percorre os grupos na ordem em que foram gravados, reaproveitando o mesmo Grupo
+    public static void percorrer(Path arquivo, ConsumidorGrupo consumidor) throws IOException {
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            ByteBuffer mapa = canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size());
+            byte[] magico = new byte[ExportadorColunar.MAGICO.length];
+            mapa.get(magico);
+            int versao = mapa.get();
+            if (!Arrays.equals(magico, ExportadorColunar.MAGICO) || versao < 1 || versao > ExportadorColunar.VERSAO) {
+                throw new IOException("Arquivo colunar inválido: " + arquivo);
+            }
+            int fimRodape = mapa.limit() - ExportadorColunar.MAGICO.length - 8;
+            int rodape = (int) mapa.getLong(fimRodape);
+            int totalGrupos = mapa.getInt(rodape);
+
+            Grupo grupo = new Grupo();
+            for (int g = 0; g < totalGrupos; g++) {
+                mapa.position((int) mapa.getLong(rodape + 4 + g * 12));
+                grupo.preparar(mapa.getInt());
+                lerDelta(proximaColuna(mapa), grupo.instantes, grupo.linhas);
+                if (versao >= 2) {
+                    lerDelta(proximaColuna(mapa), grupo.processos, grupo.linhas);
+                } else {
+                    Arrays.fill(grupo.processos, 0, grupo.linhas, 0);
+                }
+                lerDelta(proximaColuna(mapa), grupo.sessoes, grupo.linhas);
+                lerDicionario(proximaColuna(mapa), grupo.topicos, grupo.linhas);
+                lerDicionario(proximaColuna(mapa), grupo.tipos, grupo.linhas);
+                lerDicionario(proximaColuna(mapa), grupo.niveis, grupo.linhas);
+                ByteBuffer questoes = proximaColuna(mapa);
+                for (int i = 0; i < grupo.linhas; i++) {
+                    grupo.questoes[i] = (int) varint(questoes);
+                }
+                ByteBuffer corretas = proximaColuna(mapa);
+                for (int i = 0; i < grupo.linhas; i++) {
+                    grupo.corretas[i] = (corretas.get(i >>> 3) & (1 << (i & 7))) != 0;
+                }
+                ByteBuffer tempos = proximaColuna(mapa);
+                for (int i = 0; i < grupo.linhas; i++) {
+                    grupo.temposMicros[i] = varint(tempos);
+                }
+                consumidor.aceitar(grupo);
+            }
+        }
+    }
+
+    // Fatia da próxima coluna (int tamanho + bytes) e avança o mapa
+    private static ByteBuffer proximaColuna(ByteBuffer mapa) {
+        int tamanho = mapa.getInt();
+        ByteBuffer coluna = mapa.slice().limit(tamanho);
+        mapa.position(mapa.position() + tamanho);
+        return coluna;
+    }
+
+    private static void lerDelta(ByteBuffer coluna, long[] destino, int linhas) {
+        long anterior = 0;
+        for (int i = 0; i < linhas; i++) {
+            anterior += varint(coluna);
+            destino[i] = anterior;
+        }
+    }
+
+    private static void lerDicionario(ByteBuffer coluna, String[] destino, int linhas) {
+        String[] dicionario = new String[(int) varint(coluna)];
+        for (int i = 0; i < dicionario.length; i++) {
+            byte[] bytes = new byte[(int) varint(coluna)];
+            coluna.get(bytes);
+            dicionario[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        int largura = coluna.get();
+        int base = coluna.position();
+        long bit = 0;
+        for (int i = 0; i < linhas; i++, bit += largura) {
+            int codigo = 0;
+            for (int j = 0; j < largura; j++) {
+                long p = bit + j;
+                if ((coluna.get(base + (int) (p >>> 3)) & (1 << (p & 7))) != 0) {
+                    codigo |= 1 << j;
+                }
+            }
+            destino[i] = dicionario[codigo];
+        }
+    }
+
+    private static long varint(ByteBuffer coluna) {
+        long v = 0;
+        int deslocamento = 0;
+        byte b;
+        do {
+            b = coluna.get();
+            v |= (long) (b & 0x7F) << deslocamento;
+            deslocamento += 7;
+        } while ((b & 0x80) != 0);
+        return (v >>> 1) ^ -(v & 1);
+    }
+}
@@ -0,0 +1,77 @@
+// =============================================
+// Classe LeitorEventos
+// Lê os arquivos do RegistroEventos mapeando-os em memória:
+// cada bloco é descomprimido direto do buffer mapeado
+// (Inflater.setInput(ByteBuffer)), sem copiar o arquivo para o heap
+// =============================================
+
+package Analise;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+public final class LeitorEventos {
+    private LeitorEventos() {
+    }
+
+    // Entrega cada evento do arquivo, em ordem; um bloco final truncado é ignorado
+    public static void percorrer(Path arquivo, Consumer<EventoAnalise> consumidor) throws IOException {
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            MappedByteBuffer mapa = canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size());
+            Inflater descompressor = new Inflater();
+            byte[] original = new byte[0];
+            try {
+                while (mapa.remaining() >= RegistroEventos.TAMANHO_CABECALHO_BLOCO) {
+                    int versao = mapa.get();
+                    if (versao != RegistroEventos.VERSAO_BLOCO) {
+                        throw new IOException("Versão de bloco desconhecida (" + versao + ") em " + arquivo);
+                    }
+                    int tamanhoComprimido = mapa.getInt();
+                    int tamanhoOriginal = mapa.getInt();
+                    long idProcesso = mapa.getLong();
+                    int totalEventos = mapa.getInt();
+                    if (tamanhoComprimido < 0 || tamanhoComprimido > mapa.remaining() || tamanhoOriginal < 0) {
+                        break;
+                    }
+                    if (original.length < tamanhoOriginal) {
+                        original = new byte[tamanhoOriginal];
+                    }
+
+                    // O Inflater consome uma fatia do mapa; o mapa pula para o próximo bloco
+                    int fimBloco = mapa.position() + tamanhoComprimido;
+                    descompressor.reset();
+                    descompressor.setInput(mapa.slice().limit(tamanhoComprimido));
+                    int lidos = 0;
+                    while (lidos < tamanhoOriginal && !descompressor.finished()) {
+                        lidos += descompressor.inflate(original, lidos, tamanhoOriginal - lidos);
+                    }
+                    mapa.position(fimBloco);
+
+                    DataInputStream in = new DataInputStream(new ByteArrayInputStream(original, 0, lidos));
+                    for (int i = 0; i < totalEventos; i++) {
+                        consumidor.accept(EventoAnalise.ler(in, idProcesso));
+                    }
+                }
+            } catch (DataFormatException e) {
+                throw new IOException("Bloco corrompido em " + arquivo + ": " + e.getMessage(), e);
+            } finally {
+                descompressor.end();
+            }
+        }
+    }
+
+    // Resumo de um arquivo inteiro
+    public static ResumoEventos resumir(Path arquivo) throws IOException {
+        ResumoEventos resumo = new ResumoEventos();
+        percorrer(arquivo, resumo::acumular);
+        return resumo;
+    }
+}
@@ -0,0 +1,11 @@
+// =============================================
+// Interface OuvinteEventos
+// Consumidor dos eventos publicados pela Telemetria
+// Chamado na thread da sessão: não deve bloquear
+// =============================================
+
+package Analise;
+
+public interface OuvinteEventos {
+    void receber(EventoAnalise evento);
+}
@@ -0,0 +1,173 @@
+// =============================================
+// Classe RegistroEventos
+// Log de eventos somente-anexação, compactado e rotativo
+// Os eventos entram em uma fila limitada (a sessão nunca espera:
+// com a fila cheia o evento é descartado e contado) e uma thread
+// própria os agrupa em blocos comprimidos com Deflater
+//
+// Arquivo eventos-AAAA-MM-DD-NNN.log: novo a cada dia ou ao passar
+// do tamanho máximo. Cada bloco:
+//   byte versão | int tamanhoComprimido | int tamanhoOriginal | long idProcesso |
+//   int totalEventos | bytes comprimidos (eventos em EventoAnalise.gravar)
+// Um bloco incompleto no fim (queda do processo) é ignorado na leitura
+// =============================================
+
+package Analise;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.Deflater;
+
+public class RegistroEventos implements OuvinteEventos {
+    public static final String PREFIXO = "eventos-";
+    public static final String EXTENSAO = ".log";
+    public static final int VERSAO_BLOCO = 2;  // 2: eventos com a letra respondida
+    public static final int TAMANHO_CABECALHO_BLOCO = 21;
+
+    private static final int CAPACIDADE_FILA = 65_536;
+    private static final int EVENTOS_POR_BLOCO = 2048;
+    private static final long INTERVALO_BLOCO_MS = 1000;  // Bloco parcial é gravado após esse tempo
+
+    private final Path diretorio;
+    private final long tamanhoMaximo;
+    private final long idProcesso;   // Distingue sessões de processos diferentes com o mesmo id
+    private final ArrayBlockingQueue<EventoAnalise> fila;
+    private final LongAdder descartados;
+    private final Thread escritor;
+    private final ByteArrayOutputStream bloco;
+    private final DataOutputStream saidaBloco;
+    private final Deflater compressor;
+    private byte[] comprimido;
+    private int eventosNoBloco;
+    private FileChannel arquivo;
+    private LocalDate dataArquivo;
+    private volatile boolean encerrando;
+
+    public RegistroEventos(Path diretorio, long tamanhoMaximo) throws IOException {
+        this.diretorio = diretorio;
+        this.tamanhoMaximo = tamanhoMaximo;
+        this.idProcesso = ThreadLocalRandom.current().nextLong();
+        this.fila = new ArrayBlockingQueue<>(CAPACIDADE_FILA);
+        this.descartados = new LongAdder();
+        this.bloco = new ByteArrayOutputStream(EVENTOS_POR_BLOCO * 48);
+        this.saidaBloco = new DataOutputStream(bloco);
+        this.compressor = new Deflater(Deflater.BEST_SPEED);
+        this.comprimido = new byte[EVENTOS_POR_BLOCO * 48];
+        Files.createDirectories(diretorio);
+
+        this.escritor = new Thread(this::executar, "registro-eventos");
+        escritor.setDaemon(true);
+        escritor.start();
+    }
+
+    @Override
+    public void receber(EventoAnalise evento) {
+        if (!fila.offer(evento)) {
+            descartados.increment();
+        }
+    }
+
+    public long getDescartados() { return descartados.sum(); }
+
+    // Grava o que estiver na fila e fecha o arquivo
+    public void encerrar() {
+        encerrando = true;
+        try {
+            escritor.join(5000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void executar() {
+        long inicioBloco = System.currentTimeMillis();
+        try {
+            while (!encerrando || !fila.isEmpty()) {
+                EventoAnalise evento = fila.poll(100, TimeUnit.MILLISECONDS);
+                if (evento != null) {
+                    evento.gravar(saidaBloco);
+                    eventosNoBloco++;
+                }
+                long agora = System.currentTimeMillis();
+                if (eventosNoBloco >= EVENTOS_POR_BLOCO
+                        || (eventosNoBloco > 0 && agora - inicioBloco >= INTERVALO_BLOCO_MS)) {
+                    gravarBloco();
+                    inicioBloco = agora;
+                }
+            }
+            if (eventosNoBloco > 0) {
+                gravarBloco();
+            }
+        } catch (IOException e) {
+            System.err.println("Registro de eventos interrompido: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            fecharArquivo();
+        }
+    }
+
+    private void gravarBloco() throws IOException {
+        byte[] original = bloco.toByteArray();
+        compressor.reset();
+        compressor.setInput(original);
+        compressor.finish();
+        int tamanho = 0;
+        while (!compressor.finished()) {
+            if (tamanho == comprimido.length) {
+                comprimido = Arrays.copyOf(comprimido, comprimido.length * 2);
+            }
+            tamanho += compressor.deflate(comprimido, tamanho, comprimido.length - tamanho);
+        }
+
+        ByteBuffer cabecalho = ByteBuffer.allocate(TAMANHO_CABECALHO_BLOCO)
+                .put((byte) VERSAO_BLOCO).putInt(tamanho).putInt(original.length).putLong(idProcesso).putInt(eventosNoBloco);
+        cabecalho.flip();
+        FileChannel canal = arquivoAtual();
+        canal.write(new ByteBuffer[]{cabecalho, ByteBuffer.wrap(comprimido, 0, tamanho)});
+        bloco.reset();
+        eventosNoBloco = 0;
+    }
+
+    // Arquivo do dia; troca ao virar o dia ou ao atingir o tamanho máximo
+    private FileChannel arquivoAtual() throws IOException {
+        LocalDate hoje = LocalDate.now();
+        if (arquivo != null && hoje.equals(dataArquivo) && arquivo.size() < tamanhoMaximo) {
+            return arquivo;
+        }
+        fecharArquivo();
+        int sequencia = 0;
+        Path caminho;
+        do {
+            caminho = diretorio.resolve(String.format("%s%s-%03d%s", PREFIXO, hoje, sequencia++, EXTENSAO));
+        } while (Files.exists(caminho) && Files.size(caminho) >= tamanhoMaximo);
+        arquivo = FileChannel.open(caminho, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        dataArquivo = hoje;
+        return arquivo;
+    }
+
+    private void fecharArquivo() {
+        if (arquivo == null) {
+            return;
+        }
+        try {
+            arquivo.close();
+        } catch (IOException e) {
+            System.err.println("Erro ao fechar o log de eventos: " + e.getMessage());
+        }
+        arquivo = null;
+    }
+}
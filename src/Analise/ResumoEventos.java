@@ -0,0 +1,217 @@
+// =============================================
+// Classe ResumoEventos
+// Agregado incremental e combinável de eventos:
+// acerto por tópico e por tipo de questão, erros por questão e
+// ponto de abandono (posição em que os usuários saem do tópico)
+// Usado pelas janelas do AgregadorEventos e pelo relatório offline
+// (um resumo por arquivo, combinados no final)
+// Não é thread-safe: cada resumo tem um único escritor
+// =============================================
+
+package Analise;
+
+import enums.TipoQuestao;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ResumoEventos {
+    private static final TipoQuestao[] TIPOS = TipoQuestao.values();
+
+    private final LinkedHashMap<String, ContagemTopico> topicos;
+    private final long[] respondidasPorTipo;
+    private final long[] acertosPorTipo;
+    private long totalEventos;
+    private long primeiroInstante = Long.MAX_VALUE;
+    private long ultimoInstante = Long.MIN_VALUE;
+
+    public ResumoEventos() {
+        this.topicos = new LinkedHashMap<>();
+        this.respondidasPorTipo = new long[TIPOS.length];
+        this.acertosPorTipo = new long[TIPOS.length];
+    }
+
+    // Contadores de um tópico; os vetores por questão/posição crescem sob demanda
+    public static final class ContagemTopico {
+        private long iniciados;
+        private long exibidas;
+        private long respondidas;
+        private long acertos;
+        private long pulos;
+        private long abandonos;
+        private long conclusoes;
+        private int[] errosPorQuestao = new int[32];
+        private int[] abandonosPorPosicao = new int[16];
+
+        public long getIniciados() { return iniciados; }
+        public long getExibidas() { return exibidas; }
+        public long getRespondidas() { return respondidas; }
+        public long getAcertos() { return acertos; }
+        public long getPulos() { return pulos; }
+        public long getAbandonos() { return abandonos; }
+        public long getConclusoes() { return conclusoes; }
+        public int getErros(int posicaoBanco) {
+            return posicaoBanco < errosPorQuestao.length ? errosPorQuestao[posicaoBanco] : 0;
+        }
+    }
+
+    // Uma questão errada e quantas vezes (para o ranking das mais erradas)
+    public static final class QuestaoErrada {
+        public final String topico;
+        public final int posicaoBanco;
+        public final int erros;
+
+        QuestaoErrada(String topico, int posicaoBanco, int erros) {
+            this.topico = topico;
+            this.posicaoBanco = posicaoBanco;
+            this.erros = erros;
+        }
+    }
+
+    public void acumular(EventoAnalise evento) {
+        totalEventos++;
+        primeiroInstante = Math.min(primeiroInstante, evento.getInstanteMs());
+        ultimoInstante = Math.max(ultimoInstante, evento.getInstanteMs());
+        ContagemTopico contagem = topicos.computeIfAbsent(evento.getTopico(), t -> new ContagemTopico());
+        switch (evento.getTipo()) {
+            case TOPICO_INICIADO:
+                contagem.iniciados++;
+                break;
+            case QUESTAO_EXIBIDA:
+                contagem.exibidas++;
+                break;
+            case RESPOSTA:
+                contagem.respondidas++;
+                int tipo = evento.getTipoQuestao();
+                if (tipo >= 0 && tipo < TIPOS.length) {
+                    respondidasPorTipo[tipo]++;
+                }
+                if (evento.isCorreta()) {
+                    contagem.acertos++;
+                    if (tipo >= 0 && tipo < TIPOS.length) {
+                        acertosPorTipo[tipo]++;
+                    }
+                } else if (evento.getPosicaoBanco() >= 0) {
+                    contagem.errosPorQuestao = garantir(contagem.errosPorQuestao, evento.getPosicaoBanco());
+                    contagem.errosPorQuestao[evento.getPosicaoBanco()]++;
+                }
+                break;
+            case PULO:
+                contagem.pulos++;
+                break;
+            case MENU:
+                contagem.abandonos++;
+                if (evento.getPosicao() >= 0) {
+                    contagem.abandonosPorPosicao = garantir(contagem.abandonosPorPosicao, evento.getPosicao());
+                    contagem.abandonosPorPosicao[evento.getPosicao()]++;
+                }
+                break;
+            case TOPICO_CONCLUIDO:
+                contagem.conclusoes++;
+                break;
+            case NAVEGACAO:
+                break;
+        }
+    }
+
+    // Soma outro resumo a este (o outro não é alterado)
+    public ResumoEventos combinar(ResumoEventos outro) {
+        totalEventos += outro.totalEventos;
+        primeiroInstante = Math.min(primeiroInstante, outro.primeiroInstante);
+        ultimoInstante = Math.max(ultimoInstante, outro.ultimoInstante);
+        for (int i = 0; i < TIPOS.length; i++) {
+            respondidasPorTipo[i] += outro.respondidasPorTipo[i];
+            acertosPorTipo[i] += outro.acertosPorTipo[i];
+        }
+        for (Map.Entry<String, ContagemTopico> entrada : outro.topicos.entrySet()) {
+            ContagemTopico destino = topicos.computeIfAbsent(entrada.getKey(), t -> new ContagemTopico());
+            ContagemTopico origem = entrada.getValue();
+            destino.iniciados += origem.iniciados;
+            destino.exibidas += origem.exibidas;
+            destino.respondidas += origem.respondidas;
+            destino.acertos += origem.acertos;
+            destino.pulos += origem.pulos;
+            destino.abandonos += origem.abandonos;
+            destino.conclusoes += origem.conclusoes;
+            destino.errosPorQuestao = somar(destino.errosPorQuestao, origem.errosPorQuestao);
+            destino.abandonosPorPosicao = somar(destino.abandonosPorPosicao, origem.abandonosPorPosicao);
+        }
+        return this;
+    }
+
+    // Questões com mais erros, em ordem decrescente
+    public List<QuestaoErrada> maisErradas(int limite) {
+        List<QuestaoErrada> todas = new ArrayList<>();
+        for (Map.Entry<String, ContagemTopico> entrada : topicos.entrySet()) {
+            int[] erros = entrada.getValue().errosPorQuestao;
+            for (int i = 0; i < erros.length; i++) {
+                if (erros[i] > 0) {
+                    todas.add(new QuestaoErrada(entrada.getKey(), i, erros[i]));
+                }
+            }
+        }
+        todas.sort(Comparator.comparingInt((QuestaoErrada q) -> q.erros).reversed());
+        return todas.size() > limite ? todas.subList(0, limite) : todas;
+    }
+
+    // Relatório em texto: acerto por tópico e tipo, e onde os usuários abandonam cada tópico
+    public void formatar(StringBuilder sb) {
+        sb.append("Eventos: ").append(totalEventos).append('\n');
+        sb.append("\nAcerto por tópico:\n");
+        for (Map.Entry<String, ContagemTopico> entrada : topicos.entrySet()) {
+            ContagemTopico c = entrada.getValue();
+            sb.append(String.format("  %-16s %6d respondidas  %5.1f%% acerto  %5d pulos  %4d iniciados  %4d concluídos%n",
+                    entrada.getKey(), c.respondidas, percentual(c.acertos, c.respondidas), c.pulos,
+                    c.iniciados, c.conclusoes));
+        }
+        sb.append("\nAcerto por tipo de questão:\n");
+        for (int i = 0; i < TIPOS.length; i++) {
+            sb.append(String.format("  %-20s %6d respondidas  %5.1f%% acerto%n", TIPOS[i].name(),
+                    respondidasPorTipo[i], percentual(acertosPorTipo[i], respondidasPorTipo[i])));
+        }
+        sb.append("\nAbandono (posição em que saíram do tópico):\n");
+        for (Map.Entry<String, ContagemTopico> entrada : topicos.entrySet()) {
+            ContagemTopico c = entrada.getValue();
+            if (c.abandonos == 0) {
+                continue;
+            }
+            sb.append(String.format("  %-16s", entrada.getKey()));
+            for (int i = 0; i < c.abandonosPorPosicao.length; i++) {
+                if (c.abandonosPorPosicao[i] > 0) {
+                    sb.append(' ').append(i + 1).append(':').append(c.abandonosPorPosicao[i]);
+                }
+            }
+            sb.append('\n');
+        }
+    }
+
+    public Map<String, ContagemTopico> getTopicos() { return topicos; }
+    public long getTotalEventos() { return totalEventos; }
+    public long getPrimeiroInstante() { return primeiroInstante; }
+    public long getUltimoInstante() { return ultimoInstante; }
+    public long getRespondidas(TipoQuestao tipo) { return respondidasPorTipo[tipo.ordinal()]; }
+    public long getAcertos(TipoQuestao tipo) { return acertosPorTipo[tipo.ordinal()]; }
+
+    private static double percentual(long parte, long total) {
+        return total == 0 ? 0.0 : parte * 100.0 / total;
+    }
+
+    private static int[] garantir(int[] vetor, int indice) {
+        if (indice < vetor.length) {
+            return vetor;
+        }
+        return Arrays.copyOf(vetor, Math.max(indice + 1, vetor.length * 2));
+    }
+
+    private static int[] somar(int[] destino, int[] origem) {
+        int[] resultado = origem.length > destino.length ? Arrays.copyOf(destino, origem.length) : destino;
+        for (int i = 0; i < origem.length; i++) {
+            resultado[i] += origem[i];
+        }
+        return resultado;
+    }
+}
@@ -0,0 +1,70 @@
+// =============================================
+// Classe Telemetria
+// Ponto central por onde os eventos do motor saem do processo
+// Sem ouvintes registrados, ativa() é falso e os eventos nem são criados
+// Com -Dsistema.analise.dir=<dir>, configurarPadrao() grava o log
+// compactado (RegistroEventos) e agrega métricas por janela (AgregadorEventos)
+// Com -Dsistema.fraude=true, liga o DetectorFraude
+// =============================================
+
+package Analise;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+public final class Telemetria {
+    private static volatile OuvinteEventos[] ouvintes = new OuvinteEventos[0];
+    private static volatile AgregadorEventos agregador;
+    private static volatile DetectorFraude detector;
+
+    private Telemetria() {
+    }
+
+    public static boolean ativa() {
+        return ouvintes.length > 0;
+    }
+
+    public static void publicar(EventoAnalise evento) {
+        for (OuvinteEventos ouvinte : ouvintes) {
+            ouvinte.receber(evento);
+        }
+    }
+
+    // Cópia na escrita: registrar é raro, publicar acontece a cada turno
+    public static synchronized void adicionarOuvinte(OuvinteEventos ouvinte) {
+        OuvinteEventos[] novos = Arrays.copyOf(ouvintes, ouvintes.length + 1);
+        novos[novos.length - 1] = ouvinte;
+        ouvintes = novos;
+    }
+
+    public static synchronized void removerOuvinte(OuvinteEventos ouvinte) {
+        ouvintes = Arrays.stream(ouvintes).filter(o -> o != ouvinte).toArray(OuvinteEventos[]::new);
+    }
+
+    // Agregador padrão, ou null se a análise não foi configurada
+    public static AgregadorEventos getAgregador() { return agregador; }
+
+    // Detector padrão, ou null se não foi ligado
+    public static DetectorFraude getDetector() { return detector; }
+
+    // Liga o log e o agregador se a propriedade sistema.analise.dir estiver definida
+    public static synchronized void configurarPadrao() throws IOException {
+        if (Boolean.getBoolean("sistema.fraude") && detector == null) {
+            detector = new DetectorFraude(Long.getLong("sistema.fraude.janelaSeg", 600) * 1000,
+                    Integer.getInteger("sistema.fraude.sessoes", 100_000));
+            adicionarOuvinte(detector);
+        }
+        String diretorio = System.getProperty("sistema.analise.dir");
+        if (diretorio == null || agregador != null) {
+            return;
+        }
+        RegistroEventos registro = new RegistroEventos(Path.of(diretorio),
+                Long.getLong("sistema.analise.maxMB", 64) * 1024 * 1024);
+        agregador = new AgregadorEventos(Long.getLong("sistema.analise.janelaSeg", 60) * 1000,
+                Integer.getInteger("sistema.analise.janelas", 60));
+        adicionarOuvinte(registro);
+        adicionarOuvinte(agregador);
+        Runtime.getRuntime().addShutdownHook(new Thread(registro::encerrar, "encerrar-registro-eventos"));
+    }
+}
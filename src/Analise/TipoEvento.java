@@ -0,0 +1,23 @@
+// =============================================
+// Enum TipoEvento
+// Tipos de evento do motor de exercícios registrados para análise
+// O código (ordinal) é o que vai para o log; só acrescente no final
+// =============================================
+
+package Analise;
+
+public enum TipoEvento {
+    TOPICO_INICIADO,   // Exercícios do tópico começaram (novo ou retomado)
+    QUESTAO_EXIBIDA,
+    RESPOSTA,          // Resposta avaliada (correta ou não)
+    PULO,
+    NAVEGACAO,         // Avançar ou voltar entre questões
+    MENU,              // Saiu do tópico para o menu (ou desconectou) antes de concluir
+    TOPICO_CONCLUIDO;
+
+    private static final TipoEvento[] VALORES = values();
+
+    public static TipoEvento porCodigo(int codigo) {
+        return VALORES[codigo];
+    }
+}
@@ -0,0 +1,177 @@
+// =============================================
+// Classe BenchmarkInicializacao
+// Mede o tempo de inicialização em processos novos
+// Cada execução inicia um processo filho com uma sessão roteirizada
+// (nome, tópico 1, ordem crescente, menu, sair) e -Dsistema.medirInicio,
+// cronometrando de fora o tempo até o primeiro menu e até a primeira
+// questão, além dos tempos medidos dentro do processo e do RSS
+// Uso: java -cp <classpath> BenchmarkInicializacao [execucoes]
+//          [--snapshot banco.tsv] [--cds arquivo.jsa] [--nativo executavel]
+// =============================================
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class BenchmarkInicializacao {
+    private static final String ROTEIRO = "Bench\n1\n1\n2\nM\n4\n";
+
+    // Um modo de inicialização: nome e comando antes das propriedades
+    // (na JVM, a classe principal vem depois; a imagem nativa já é o Main)
+    private static class Configuracao {
+        final String nome;
+        final List<String> comando;
+        final boolean nativo;
+
+        Configuracao(String nome, List<String> comando) {
+            this(nome, comando, false);
+        }
+
+        Configuracao(String nome, List<String> comando, boolean nativo) {
+            this.nome = nome;
+            this.comando = comando;
+            this.nativo = nativo;
+        }
+    }
+
+    // Resultado de uma execução (tempos em microssegundos, -1 se não medido)
+    private static class Medicao {
+        long externoMenu = -1;
+        long externoQuestao = -1;
+        long mainMenu = -1;
+        long mainQuestao = -1;
+        long rssKb = -1;
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int execucoes = 10;
+        String snapshot = null;
+        String cds = null;
+        String nativo = null;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--snapshot") && i + 1 < args.length) {
+                snapshot = args[++i];
+            } else if (args[i].equals("--cds") && i + 1 < args.length) {
+                cds = args[++i];
+            } else if (args[i].equals("--nativo") && i + 1 < args.length) {
+                nativo = args[++i];
+            } else {
+                execucoes = Integer.parseInt(args[i]);
+            }
+        }
+
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        String classpath = System.getProperty("java.class.path");
+        List<String> base = List.of(java, "-cp", classpath);
+
+        List<Configuracao> configuracoes = new ArrayList<>();
+        configuracoes.add(new Configuracao("JVM (banco embutido)", base));
+        if (snapshot != null) {
+            configuracoes.add(new Configuracao("JVM + snapshot", concatenar(base,
+                    "-Dsistema.banco.snapshot=" + snapshot)));
+        }
+        if (cds != null) {
+            configuracoes.add(new Configuracao("JVM + AppCDS", concatenar(base, "-XX:SharedArchiveFile=" + cds)));
+        }
+        if (cds != null && snapshot != null) {
+            configuracoes.add(new Configuracao("JVM + snapshot + AppCDS", concatenar(base,
+                    "-XX:SharedArchiveFile=" + cds, "-Dsistema.banco.snapshot=" + snapshot)));
+        }
+        if (nativo != null) {
+            configuracoes.add(new Configuracao("Imagem nativa", List.of(nativo), true));
+        }
+
+        Path progresso = Files.createTempDirectory("bench-inicio");
+        System.out.println("=".repeat(96));
+        System.out.println("  BENCHMARK DE INICIALIZAÇÃO (" + execucoes + " execuções, medianas)");
+        System.out.println("=".repeat(96));
+        System.out.printf("%-28s %12s %14s %12s %14s %10s%n", "Modo", "até menu", "até questão",
+                "main→menu", "main→questão", "RSS");
+        for (Configuracao configuracao : configuracoes) {
+            medir(configuracao, progresso); // Aquecimento do cache de disco
+            Medicao[] medicoes = new Medicao[execucoes];
+            for (int i = 0; i < execucoes; i++) {
+                medicoes[i] = medir(configuracao, progresso);
+            }
+            long rss = mediana(medicoes, m -> m.rssKb);
+            System.out.printf("%-28s %12s %14s %12s %14s %10s%n", configuracao.nome,
+                    formatarMs(mediana(medicoes, m -> m.externoMenu)),
+                    formatarMs(mediana(medicoes, m -> m.externoQuestao)),
+                    formatarMs(mediana(medicoes, m -> m.mainMenu)),
+                    formatarMs(mediana(medicoes, m -> m.mainQuestao)),
+                    rss < 0 ? "n/d" : rss + "KB");
+        }
+        System.out.println("=".repeat(96));
+    }
+
+    static Medicao medir(Configuracao configuracao, Path progresso) throws IOException, InterruptedException {
+        List<String> comando = concatenar(configuracao.comando, "-Dsistema.medirInicio=true",
+                "-Dsistema.ordenacao.atrasoMs=0", "-Dsistema.progresso.dir=" + progresso);
+        if (!configuracao.nativo) {
+            comando.add("Main");
+        }
+        ProcessBuilder construtor = new ProcessBuilder(comando);
+        construtor.redirectOutput(ProcessBuilder.Redirect.DISCARD);
+
+        Medicao medicao = new Medicao();
+        long inicio = System.nanoTime();
+        Process processo = construtor.start();
+        try (OutputStream entrada = processo.getOutputStream()) {
+            entrada.write(ROTEIRO.getBytes(StandardCharsets.UTF_8));
+        }
+        try (BufferedReader erros = new BufferedReader(
+                new InputStreamReader(processo.getErrorStream(), StandardCharsets.UTF_8))) {
+            String linha;
+            while ((linha = erros.readLine()) != null) {
+                long agora = (System.nanoTime() - inicio) / 1000;
+                if (linha.startsWith("inicio menu ")) {
+                    medicao.externoMenu = agora;
+                    medicao.mainMenu = campo(linha, "main_us=");
+                } else if (linha.startsWith("inicio questao ")) {
+                    medicao.externoQuestao = agora;
+                    medicao.mainQuestao = campo(linha, "main_us=");
+                    medicao.rssKb = campo(linha, "rss_kb=");
+                }
+            }
+        }
+        processo.waitFor();
+        return medicao;
+    }
+
+    // Microssegundos em ms com uma casa; "n/d" se o marco não foi atingido
+    private static String formatarMs(long micros) {
+        return micros < 0 ? "n/d" : String.format("%.1fms", micros / 1000.0);
+    }
+
+    private static long campo(String linha, String nome) {
+        int inicio = linha.indexOf(nome);
+        if (inicio < 0) {
+            return -1;
+        }
+        inicio += nome.length();
+        int fim = linha.indexOf(' ', inicio);
+        return Long.parseLong(fim < 0 ? linha.substring(inicio) : linha.substring(inicio, fim));
+    }
+
+    private interface Extrator {
+        long valor(Medicao medicao);
+    }
+
+    private static long mediana(Medicao[] medicoes, Extrator extrator) {
+        long[] valores = Arrays.stream(medicoes).mapToLong(extrator::valor).sorted().toArray();
+        return valores[valores.length / 2];
+    }
+
+    private static List<String> concatenar(List<String> base, String... extras) {
+        List<String> comando = new ArrayList<>(base);
+        comando.addAll(Arrays.asList(extras));
+        return comando;
+    }
+}
@@ -0,0 +1,179 @@
+// =============================================
+// Classe ArmazemProgresso
+// Guarda em disco o checkpoint do tópico em andamento de cada
+// usuário (ordem das questões, posição, histórico e marcações)
+// As gravações são assíncronas e agrupadas: se o mesmo tópico
+// for salvo várias vezes antes da escrita, só a última vai para o disco
+// Os checkpoints são por nome (é o que permite retomar em outra
+// conexão), então só uma sessão viva por nome pode usá-los: a
+// reserva vale no processo (mapa) e entre processos que dividem o
+// diretório (trava de arquivo na pasta do usuário)
+// =============================================
+
+package Core;
+
+import Exceptions.QuestaoException;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Base64;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+public class ArmazemProgresso {
+    private static final String ARQUIVO_TRAVA = "sessao.trava";
+
+    private final Path diretorio;
+    private final ConcurrentHashMap<Path, byte[]> pendentes;
+    private final ConcurrentHashMap<String, Reserva> reservas;  // Pasta do usuário → sessão viva
+    private final ExecutorService escritor;
+
+    public ArmazemProgresso(Path diretorio) {
+        this.diretorio = diretorio;
+        this.pendentes = new ConcurrentHashMap<>();
+        this.reservas = new ConcurrentHashMap<>();
+        this.escritor = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "gravacao-progresso");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    // Reserva o nome para a sessão "dono"; false se outra sessão viva,
+    // neste ou em outro processo com o mesmo diretório, já o usa
+    public boolean reservar(String usuario, Object dono) {
+        String pasta = pasta(usuario);
+        Reserva reserva = new Reserva(dono);
+        if (reservas.putIfAbsent(pasta, reserva) != null) {
+            return false;
+        }
+        try {
+            Path trava = diretorio.resolve(pasta).resolve(ARQUIVO_TRAVA);
+            Files.createDirectories(trava.getParent());
+            reserva.canal = FileChannel.open(trava, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            if (reserva.canal.tryLock() == null) {
+                liberar(usuario, dono);
+                return false;
+            }
+        } catch (OverlappingFileLockException e) {
+            // Outro ArmazemProgresso deste processo, no mesmo diretório, já tem a trava
+            liberar(usuario, dono);
+            return false;
+        } catch (IOException e) {
+            // Sem trava de arquivo, a reserva continua valendo dentro deste processo
+            System.err.println("Reserva de " + usuario + " só neste processo: " + e.getMessage());
+        }
+        return true;
+    }
+
+    // Libera a reserva feita por "dono" (fim da sessão); o arquivo de trava fica
+    public void liberar(String usuario, Object dono) {
+        String pasta = pasta(usuario);
+        Reserva reserva = reservas.get(pasta);
+        if (reserva == null || reserva.dono != dono || !reservas.remove(pasta, reserva)) {
+            return;
+        }
+        if (reserva.canal != null) {
+            try {
+                reserva.canal.close();  // Solta a trava de arquivo
+            } catch (IOException e) {
+                System.err.println("Não foi possível soltar a trava de " + usuario + ": " + e.getMessage());
+            }
+        }
+    }
+
+    // Agenda a gravação do checkpoint do exercício
+    public void salvar(String usuario, ExercicioTopico exercicio) {
+        Path arquivo = arquivo(usuario, exercicio.getTituloTopico());
+        if (pendentes.put(arquivo, exercicio.gerarCheckpoint()) == null) {
+            escritor.execute(() -> escrever(arquivo));
+        }
+    }
+
+    // Carrega o checkpoint do tópico, ou null se não houver
+    public ExercicioTopico carregar(String usuario, String topico, Estatisticas estatisticas, PrintStream saida) {
+        Path arquivo = arquivo(usuario, topico);
+        byte[] dados = pendentes.get(arquivo);
+        try {
+            if (dados == null) {
+                dados = Files.readAllBytes(arquivo);
+            }
+            return ExercicioTopico.lerEstado(new DataInputStream(new ByteArrayInputStream(dados)), estatisticas, saida);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | QuestaoException e) {
+            System.err.println("Checkpoint ignorado (" + topico + "): " + e.getMessage());
+            return null;
+        }
+    }
+
+    // Apaga o checkpoint (tópico concluído ou recomeçado)
+    public void remover(String usuario, String topico) {
+        Path arquivo = arquivo(usuario, topico);
+        pendentes.remove(arquivo);
+        escritor.execute(() -> {
+            try {
+                Files.deleteIfExists(arquivo);
+            } catch (IOException e) {
+                System.err.println("Não foi possível apagar o checkpoint: " + e.getMessage());
+            }
+        });
+    }
+
+    // Espera as gravações pendentes (ao encerrar o sistema)
+    public void encerrar() {
+        escritor.shutdown();
+        try {
+            escritor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void escrever(Path arquivo) {
+        byte[] dados = pendentes.remove(arquivo);
+        if (dados == null) {
+            return;
+        }
+        try {
+            Files.createDirectories(arquivo.getParent());
+            Path temporario = arquivo.resolveSibling(arquivo.getFileName() + ".tmp");
+            Files.write(temporario, dados);
+            Files.move(temporario, arquivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.err.println("Falha ao gravar checkpoint: " + e.getMessage());
+        }
+    }
+
+    // Nome de usuário e tópico viram nomes de arquivo seguros
+    private Path arquivo(String usuario, String topico) {
+        String nome = Base64.getUrlEncoder().withoutPadding().encodeToString(topico.getBytes(StandardCharsets.UTF_8));
+        return diretorio.resolve(pasta(usuario)).resolve(nome + ".ckpt");
+    }
+
+    private static String pasta(String usuario) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(usuario.trim().toLowerCase().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static final class Reserva {
+        final Object dono;
+        volatile FileChannel canal;  // null se a trava de arquivo não pôde ser aberta
+
+        Reserva(Object dono) {
+            this.dono = dono;
+        }
+    }
+}
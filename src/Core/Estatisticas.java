@@ -2,14 +2,33 @@
 // Classe Estatisticas
 // Gerencia os dados de desempenho do usuário durante a sessão
 // Armazena acertos, erros, pulos, tópicos estudados e tempo de sessão
+// Mede o tempo de resposta de cada questão (exibição → resposta)
 // =============================================
 package Core;
 
+import Idiomas.Catalogo;
+import Idiomas.Mensagem;
+import Monitoramento.EventoSessao;
+import Monitoramento.GravacaoJfr;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class Estatisticas {
+    private static final AtomicLong PROXIMO_ID = new AtomicLong(1);
+
+    private final long idSessao;
+    private EventoSessao eventoSessao;
+    private static final int MAIS_LENTAS = 3;
+
     private long inicioSessao;
     private long fimSessao;
+    private long inicioSessaoNanos;
+    private long fimSessaoNanos;
     private ArrayList<String> topicosEstudados;
     private int acertos;
     private int erros;
@@ -17,48 +36,141 @@ public class Estatisticas {
     private int questoesRespondidas;
     private String topicoAtual;
 
+    // Tempos de resposta por questão em buffers primitivos paralelos
+    private long[] temposRespostaNanos;
+    private int[] posicoesResposta;      // Posição da questão no tópico
+    private byte[] topicosResposta;      // Índice em topicosEstudados
+    private int totalTempos;
+    private long inicioQuestaoNanos;     // 0 quando não há questão exibida
+    private int posicaoQuestaoAtual;
+
+    // Linha de resumo renderizada incrementalmente: os contadores só são
+    // reescritos quando "versao" (ou o idioma) muda; o tempo, quando muda o segundo
+    private int versao;
+    private Catalogo catalogoRenderizado;
+    private final StringBuilder linhaResumo = new StringBuilder(128);
+    private String linhaResumoPronta;
+    private int versaoRenderizada = -1;
+    private long segundosRenderizados = -1;
+    private int inicioTempoNaLinha;
+    private String tempoFormatado;
+    private long segundosTempoFormatado = -1;
+
     public Estatisticas() {
+        this.idSessao = PROXIMO_ID.getAndIncrement();
         this.topicosEstudados = new ArrayList<>();
         this.acertos = 0;
         this.erros = 0;
         this.pulos = 0;
         this.questoesRespondidas = 0;
+        this.temposRespostaNanos = new long[16];
+        this.posicoesResposta = new int[16];
+        this.topicosResposta = new byte[16];
     }
 
     // Inicia a contagem do tempo de sessão
     public void iniciar() {
         this.inicioSessao = System.currentTimeMillis();
         this.fimSessao = 0; // Reset caso já tenha sido finalizada
+        this.inicioSessaoNanos = System.nanoTime();
+        this.fimSessaoNanos = 0;
+
+        // Evento JFR da sessão; só é mantido se a gravação estiver ativa
+        this.eventoSessao = null;
+        if (GravacaoJfr.ativa()) {
+            EventoSessao evento = new EventoSessao();
+            if (evento.isEnabled()) {
+                evento.begin();
+                this.eventoSessao = evento;
+            }
+        }
     }
 
     // Finaliza a contagem do tempo de sessão
     public void finalizar() {
         this.fimSessao = System.currentTimeMillis();
+        this.fimSessaoNanos = System.nanoTime();
+
+        if (eventoSessao != null) {
+            eventoSessao.end();
+            if (eventoSessao.shouldCommit()) {
+                eventoSessao.idSessao = idSessao;
+                eventoSessao.questoesRespondidas = questoesRespondidas;
+                eventoSessao.acertos = acertos;
+                eventoSessao.erros = erros;
+                eventoSessao.pulos = pulos;
+                eventoSessao.commit();
+            }
+            eventoSessao = null;
+        }
+    }
+
+    // Inicia o cronômetro da questão exibida na posição informada
+    public void iniciarCronometroQuestao(int posicao) {
+        this.inicioQuestaoNanos = System.nanoTime();
+        this.posicaoQuestaoAtual = posicao;
+    }
+
+    // Tempo desde a exibição da questão atual (0 se nenhuma foi exibida)
+    public long getTempoQuestaoAtualNanos() {
+        return inicioQuestaoNanos == 0 ? 0 : System.nanoTime() - inicioQuestaoNanos;
     }
 
     // Registra um acerto e incrementa o total de questões respondidas
     public void registrarAcerto() {
+        this.versao++;
         this.acertos++;
         this.questoesRespondidas++;
+        registrarTempoResposta();
     }
 
     // Registra um erro e incrementa o total de questões respondidas
     public void registrarErro() {
+        this.versao++;
         this.erros++;
         this.questoesRespondidas++;
+        registrarTempoResposta();
+    }
+
+    // Fecha o cronômetro da questão atual e guarda o tempo no buffer
+    private void registrarTempoResposta() {
+        if (inicioQuestaoNanos == 0) {
+            return;
+        }
+        if (totalTempos == temposRespostaNanos.length) {
+            int novoTamanho = totalTempos * 2;
+            temposRespostaNanos = Arrays.copyOf(temposRespostaNanos, novoTamanho);
+            posicoesResposta = Arrays.copyOf(posicoesResposta, novoTamanho);
+            topicosResposta = Arrays.copyOf(topicosResposta, novoTamanho);
+        }
+        temposRespostaNanos[totalTempos] = System.nanoTime() - inicioQuestaoNanos;
+        posicoesResposta[totalTempos] = posicaoQuestaoAtual;
+        topicosResposta[totalTempos] = (byte) (topicoAtual == null ? -1 : topicosEstudados.indexOf(topicoAtual));
+        totalTempos++;
+        inicioQuestaoNanos = 0;
     }
 
     // Registra um pulo de questão
     public void registrarPulo() {
+        this.versao++;
         this.pulos++;
         // Note: pulos não contam como questões respondidas
     }
 
+    // Desfaz um pulo quando a questão pulada acaba sendo respondida
+    public void desfazerPulo() {
+        if (this.pulos > 0) {
+            this.versao++;
+            this.pulos--;
+        }
+    }
+
     // Adiciona um tópico estudado à lista, evitando duplicidade
     public void adicionarTopicoEstudado(String topico) {
         if (topico != null && !topico.trim().isEmpty()) {
             String topicoFormatado = topico.trim().toLowerCase();
             if (!topicosEstudados.contains(topicoFormatado)) {
+                this.versao++;
                 topicosEstudados.add(topicoFormatado);
             }
             this.topicoAtual = topicoFormatado;
@@ -72,7 +184,7 @@ public class Estatisticas {
         return (double) acertos / questoesRespondidas * 100.0;
     }
 
-    // Calcula o tempo total da sessão em segundos
+    // Calcula o tempo total da sessão em segundos (relógio monotônico)
     public long calcularTempoSessao() {
         if (inicioSessao == 0) {
             return 0; // Sessão não foi iniciada
@@ -81,43 +193,127 @@ public class Estatisticas {
         long tempoFinal;
         if (fimSessao > 0) {
             // Sessão foi finalizada
-            tempoFinal = fimSessao;
+            tempoFinal = fimSessaoNanos;
         } else {
             // Sessão ainda está ativa
-            tempoFinal = System.currentTimeMillis();
+            tempoFinal = System.nanoTime();
+        }
+
+        return (tempoFinal - inicioSessaoNanos) / 1_000_000_000L; // Converte para segundos
+    }
+
+    // Percentil (0.0 a 1.0) dos tempos de resposta, em nanossegundos
+    public long percentilTempoResposta(double fracao) {
+        if (totalTempos == 0) {
+            return 0;
         }
+        long[] ordenados = Arrays.copyOf(temposRespostaNanos, totalTempos);
+        Arrays.sort(ordenados);
+        int indice = (int) Math.ceil(fracao * totalTempos) - 1;
+        return ordenados[Math.max(0, Math.min(indice, totalTempos - 1))];
+    }
 
-        return (tempoFinal - inicioSessao) / 1000; // Converte para segundos
+    public long getTempoMedioRespostaNanos() {
+        if (totalTempos == 0) {
+            return 0;
+        }
+        long soma = 0;
+        for (int i = 0; i < totalTempos; i++) {
+            soma += temposRespostaNanos[i];
+        }
+        return soma / totalTempos;
     }
 
-    // Gera um resumo textual das estatísticas da sessão
-    public String getResumo() {
+    public int getTotalTemposResposta() { return totalTempos; }
+
+    // Acrescenta ao resumo os tempos de resposta: percentis, mais lentas e média por tópico
+    private void anexarTemposResposta(StringBuilder sb, Catalogo catalogo) {
+        if (totalTempos == 0) {
+            return;
+        }
+        sb.append(catalogo.get(Mensagem.ESTATISTICAS_TEMPO_QUESTAO)).append(formatarSegundos(getTempoMedioRespostaNanos()))
+                .append(" | p50 ").append(formatarSegundos(percentilTempoResposta(0.50)))
+                .append(" | p90 ").append(formatarSegundos(percentilTempoResposta(0.90)))
+                .append(" | p99 ").append(formatarSegundos(percentilTempoResposta(0.99))).append("\n");
+
+        // Seleciona as mais lentas sem ordenar o buffer inteiro
+        sb.append(catalogo.get(Mensagem.ESTATISTICAS_MAIS_LENTAS)).append("\n");
+        boolean[] escolhidas = new boolean[totalTempos];
+        for (int n = 0; n < Math.min(MAIS_LENTAS, totalTempos); n++) {
+            int maior = -1;
+            for (int i = 0; i < totalTempos; i++) {
+                if (!escolhidas[i] && (maior < 0 || temposRespostaNanos[i] > temposRespostaNanos[maior])) {
+                    maior = i;
+                }
+            }
+            escolhidas[maior] = true;
+            sb.append("  ").append(n + 1).append(". ").append(nomeTopico(topicosResposta[maior]))
+                    .append(" #").append(posicoesResposta[maior] + 1)
+                    .append(" - ").append(formatarSegundos(temposRespostaNanos[maior])).append("\n");
+        }
+
+        sb.append(catalogo.get(Mensagem.ESTATISTICAS_MEDIA_TOPICO)).append("\n");
+        for (int t = 0; t < topicosEstudados.size(); t++) {
+            long soma = 0;
+            int quantidade = 0;
+            for (int i = 0; i < totalTempos; i++) {
+                if (topicosResposta[i] == t) {
+                    soma += temposRespostaNanos[i];
+                    quantidade++;
+                }
+            }
+            if (quantidade > 0) {
+                sb.append("  ").append(topicosEstudados.get(t)).append(": ")
+                        .append(formatarSegundos(soma / quantidade))
+                        .append(" (").append(quantidade).append(catalogo.get(quantidade == 1 ? Mensagem.ESTATISTICAS_QUESTAO : Mensagem.ESTATISTICAS_QUESTOES))
+                        .append(")\n");
+            }
+        }
+    }
+
+    private String nomeTopico(byte indice) {
+        return indice >= 0 && indice < topicosEstudados.size() ? topicosEstudados.get(indice) : "?";
+    }
+
+    private static String formatarSegundos(long nanos) {
+        return Formatacao.anexarUmaCasa(new StringBuilder(8), nanos / 1e9).append('s').toString();
+    }
+
+    // Gera um resumo textual das estatísticas da sessão, no idioma dela
+    public String getResumo(Catalogo catalogo) {
         StringBuilder sb = new StringBuilder();
         sb.append("\n").append("=".repeat(50)).append("\n");
-        sb.append("         ESTATÍSTICAS DA SESSÃO\n");
+        sb.append(catalogo.get(Mensagem.ESTATISTICAS_TITULO)).append("\n");
         sb.append("=".repeat(50)).append("\n");
-        sb.append("Questões respondidas: ").append(questoesRespondidas).append("\n");
-        sb.append("Acertos: ").append(acertos).append("\n");
-        sb.append("Erros: ").append(erros).append("\n");
-        sb.append("Pulos: ").append(pulos).append("\n");
-        sb.append("Percentual de acertos: ").append(String.format("%.1f", calcularPercentualAcertos())).append("%\n");
-        sb.append("Tempo de sessão: ").append(calcularTempoSessao()).append(" segundos\n");
-        sb.append("Tópicos estudados: ").append(topicosEstudados.size()).append("/5\n");
+        sb.append(catalogo.get(Mensagem.ESTATISTICAS_RESPONDIDAS)).append(questoesRespondidas).append("\n");
+        sb.append(catalogo.get(Mensagem.ESTATISTICAS_ACERTOS)).append(acertos).append("\n");
+        sb.append(catalogo.get(Mensagem.ESTATISTICAS_ERROS)).append(erros).append("\n");
+        sb.append(catalogo.get(Mensagem.ESTATISTICAS_PULOS)).append(pulos).append("\n");
+        sb.append(catalogo.get(Mensagem.ESTATISTICAS_PERCENTUAL));
+        Formatacao.anexarUmaCasa(sb, calcularPercentualAcertos()).append("%\n");
+        sb.append(catalogo.get(Mensagem.ESTATISTICAS_TEMPO_SESSAO)).append(calcularTempoSessao())
+                .append(catalogo.get(Mensagem.ESTATISTICAS_SEGUNDOS)).append("\n");
+        sb.append(catalogo.get(Mensagem.ESTATISTICAS_TOPICOS_ESTUDADOS)).append(topicosEstudados.size()).append("/5\n");
         if (!topicosEstudados.isEmpty()) {
-            sb.append("Tópicos: ").append(String.join(", ", topicosEstudados)).append("\n");
+            sb.append(catalogo.get(Mensagem.ESTATISTICAS_LISTA_TOPICOS))
+                    .append(String.join(", ", topicosEstudados)).append("\n");
         }
+        anexarTemposResposta(sb, catalogo);
         sb.append("=".repeat(50));
         return sb.toString();
     }
 
     // Reseta todos os contadores e limpa os tópicos estudados
     public void resetarEstatisticas() {
+        this.versao++;
         this.acertos = 0;
         this.erros = 0;
         this.pulos = 0;
         this.questoesRespondidas = 0;
         this.topicosEstudados.clear();
         this.topicoAtual = null;
+        this.totalTempos = 0;
+        this.inicioQuestaoNanos = 0;
         // Não resetamos os tempos de sessão para preservar a sessão atual
     }
 
@@ -135,6 +331,70 @@ public class Estatisticas {
         return progressoTopicos;
     }
 
+    // Grava os contadores, tópicos e tempos de resposta em formato binário compacto
+    public void gravarEstado(DataOutputStream out) throws IOException {
+        out.writeLong(inicioSessao);
+        out.writeInt(acertos);
+        out.writeInt(erros);
+        out.writeInt(pulos);
+        out.writeInt(questoesRespondidas);
+        out.writeByte(topicosEstudados.size());
+        for (String topico : topicosEstudados) {
+            out.writeUTF(topico);
+        }
+        out.writeByte(topicoAtual == null ? -1 : topicosEstudados.indexOf(topicoAtual));
+        out.writeInt(totalTempos);
+        for (int i = 0; i < totalTempos; i++) {
+            out.writeLong(temposRespostaNanos[i]);
+            out.writeShort(posicoesResposta[i]);
+            out.writeByte(topicosResposta[i]);
+        }
+    }
+
+    // Restaura o estado gravado por gravarEstado; a sessão continua ativa
+    public void restaurarEstado(DataInputStream in) throws IOException {
+        long inicioGravado = in.readLong();
+        this.versao++;
+        this.acertos = in.readInt();
+        this.erros = in.readInt();
+        this.pulos = in.readInt();
+        this.questoesRespondidas = in.readInt();
+        this.topicosEstudados.clear();
+        int totalTopicos = in.readByte();
+        for (int i = 0; i < totalTopicos; i++) {
+            topicosEstudados.add(in.readUTF());
+        }
+        int atual = in.readByte();
+        this.topicoAtual = atual >= 0 && atual < totalTopicos ? topicosEstudados.get(atual) : null;
+        this.totalTempos = in.readInt();
+        int capacidade = Math.max(16, totalTempos);
+        this.temposRespostaNanos = new long[capacidade];
+        this.posicoesResposta = new int[capacidade];
+        this.topicosResposta = new byte[capacidade];
+        for (int i = 0; i < totalTempos; i++) {
+            temposRespostaNanos[i] = in.readLong();
+            posicoesResposta[i] = in.readShort();
+            topicosResposta[i] = in.readByte();
+        }
+        this.inicioQuestaoNanos = 0;
+
+        // Recompõe o relógio monotônico a partir do início gravado
+        if (inicioGravado > 0) {
+            this.inicioSessao = inicioGravado;
+            this.fimSessao = 0;
+            this.inicioSessaoNanos = System.nanoTime()
+                    - (System.currentTimeMillis() - inicioGravado) * 1_000_000L;
+            this.fimSessaoNanos = 0;
+        }
+    }
+
+    // Estimativa do espaço ocupado em memória (bytes), usada nos limites de sessões
+    public long estimarBytes() {
+        long bytes = 128 + 64L * topicosEstudados.size();
+        bytes += 16 + 13L * temposRespostaNanos.length; // long + int + byte por posição
+        return bytes;
+    }
+
     // Getters para acesso aos dados
     public int getAcertos() { return acertos; }
     public int getErros() { return erros; }
@@ -144,20 +404,19 @@ public class Estatisticas {
     public String getTopicoAtual() { return topicoAtual; }
 
     // Getters adicionais úteis
+    public long getIdSessao() { return idSessao; }
     public long getInicioSessao() { return inicioSessao; }
     public long getFimSessao() { return fimSessao; }
 
     // Método para formatar tempo de sessão de forma mais legível
+    // (refaz o texto só quando o segundo muda)
     public String getTempoSessaoFormatado() {
         long segundos = calcularTempoSessao();
-        long minutos = segundos / 60;
-        long segundosRestantes = segundos % 60;
-
-        if (minutos > 0) {
-            return String.format("%dm %ds", minutos, segundosRestantes);
-        } else {
-            return String.format("%ds", segundos);
+        if (segundos != segundosTempoFormatado) {
+            tempoFormatado = Formatacao.anexarTempo(new StringBuilder(12), segundos).toString();
+            segundosTempoFormatado = segundos;
         }
+        return tempoFormatado;
     }
 
     // Método para verificar se a sessão está ativa
@@ -166,9 +425,32 @@ public class Estatisticas {
     }
 
     // Método para obter estatísticas resumidas em uma linha
-    public String getEstatisticasResumo() {
-        return String.format("Questões: %d | Acertos: %d (%.1f%%) | Erros: %d | Pulos: %d | Tempo: %s | Tópicos: %d/5",
-                questoesRespondidas, acertos, calcularPercentualAcertos(), erros, pulos,
-                getTempoSessaoFormatado(), topicosEstudados.size());
+    // Reaproveita a linha anterior: nada muda → mesma String; só o tempo
+    // mudou → reescreve apenas o final; contadores mudaram → linha inteira
+    public String getEstatisticasResumo(Catalogo catalogo) {
+        long segundos = calcularTempoSessao();
+        boolean mesmoIdioma = catalogo == catalogoRenderizado;
+        if (versao == versaoRenderizada && mesmoIdioma && segundos == segundosRenderizados) {
+            return linhaResumoPronta;
+        }
+        if (versao != versaoRenderizada || !mesmoIdioma) {
+            linhaResumo.setLength(0);
+            linhaResumo.append(catalogo.get(Mensagem.LINHA_QUESTOES)).append(questoesRespondidas)
+                    .append(catalogo.get(Mensagem.LINHA_ACERTOS)).append(acertos).append(" (");
+            Formatacao.anexarUmaCasa(linhaResumo, calcularPercentualAcertos()).append("%)")
+                    .append(catalogo.get(Mensagem.LINHA_ERROS)).append(erros)
+                    .append(catalogo.get(Mensagem.LINHA_PULOS)).append(pulos)
+                    .append(catalogo.get(Mensagem.LINHA_TEMPO));
+            inicioTempoNaLinha = linhaResumo.length();
+            versaoRenderizada = versao;
+            catalogoRenderizado = catalogo;
+        } else {
+            linhaResumo.setLength(inicioTempoNaLinha);
+        }
+        Formatacao.anexarTempo(linhaResumo, segundos)
+                .append(catalogo.get(Mensagem.LINHA_TOPICOS)).append(topicosEstudados.size()).append("/5");
+        segundosRenderizados = segundos;
+        linhaResumoPronta = linhaResumo.toString();
+        return linhaResumoPronta;
     }
 }
\ No newline at end of file
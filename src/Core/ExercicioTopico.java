@@ -5,34 +5,110 @@
 // =============================================
 package Core;
 
+import Analise.EventoAnalise;
+import Analise.Telemetria;
+import Analise.TipoEvento;
 import Exceptions.NavegacaoException;
 import Exceptions.QuestaoException;
+import Idiomas.Catalogo;
+import Idiomas.Mensagem;
+import Monitoramento.EventoNavegacao;
+import Monitoramento.EventoQuestaoExibida;
+import Monitoramento.EventoRespostaAvaliada;
+import Monitoramento.GravacaoJfr;
+import Monitoramento.Metricas;
+import Questoes.BancoQuestoes;
+import Questoes.PermutacaoAlternativas;
 import Questoes.Questao;
 import Questoes.QuestaoCompletarCodigo;
 import Questoes.QuestaoFactory;
 
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 
 public class ExercicioTopico implements Navegavel {
+    // Estimativa de memória por questão carregada (objeto, ids dos textos e referência);
+    // os textos em si ficam no ReservatorioTextos, compartilhados por todas as sessões
+    private static final int BYTES_POR_QUESTAO = 64;
+
+    // Versão do formato gravado por gravarEstado
+    // (3: com a ordem das alternativas; 4: com a versão do banco;
+    // 5: com a impressão digital do tópico)
+    private static final int VERSAO_ESTADO = 5;
+    private static final long VERSAO_BANCO_DESCONHECIDA = -1;
+
+    // Tempo da simulação de carregamento exibida ao ordenar (0 desativa)
+    private static volatile long atrasoOrdenacaoMs = Math.max(0, Long.getLong("sistema.ordenacao.atrasoMs", 1000));
+
+    // Sorteia a ordem das alternativas por sessão (false mantém a ordem do banco)
+    private static volatile boolean embaralharAlternativas =
+            Boolean.parseBoolean(System.getProperty("sistema.alternativas.embaralhar", "true"));
+
     private String tituloTopico;
     private ArrayList<Questao> questoes;
+    private int[] ordemBanco; // Posição de cada questão na ordem original da fábrica
+    private byte[] permutacoes; // Ordem das alternativas por posição no banco (PermutacaoAlternativas)
+    private long versaoBanco = VERSAO_BANCO_DESCONHECIDA; // Versão do banco de onde vieram as questões
+    private long impressaoBanco; // Impressão digital do tópico nessa versão (BancoQuestoes.getImpressaoTopico)
     private int indiceAtual;
     private String modoOrdenacao;
     private Estatisticas estatisticasUsuario;
     private Pilha historicoNavegacao;
+    private FolhaRespostas folha; // Situação de cada questão (só a primeira resposta conta)
+    private String barraProgresso;  // Última barra renderizada e a posição a que se refere
+    private int indiceBarraProgresso = -1;
+    private PrintStream saida;
+    private Catalogo catalogo; // Idioma dos textos exibidos
 
     public ExercicioTopico(String titulo, Estatisticas estatisticas) {
+        this(titulo, estatisticas, System.out);
+    }
+
+    public ExercicioTopico(String titulo, Estatisticas estatisticas, PrintStream saida) {
         this.tituloTopico = titulo;
         this.questoes = new ArrayList<>();
+        this.ordemBanco = new int[0];
+        this.permutacoes = new byte[0];
         this.indiceAtual = 0;
         this.modoOrdenacao = "embaralhadas";
         this.estatisticasUsuario = estatisticas;
         this.historicoNavegacao = new Pilha();
+        this.folha = new FolhaRespostas(0);
+        this.saida = saida;
+        this.catalogo = Catalogo.PADRAO;
+    }
+
+    // Permite desligar a simulação de carregamento (ex.: testes de carga)
+    public static void setAtrasoOrdenacaoMs(long atraso) {
+        atrasoOrdenacaoMs = Math.max(0, atraso);
+    }
+
+    // Permite manter a ordem do banco (ex.: reprodução de sessões gravadas)
+    public static void setEmbaralharAlternativas(boolean embaralhar) {
+        embaralharAlternativas = embaralhar;
     }
 
     // Carrega as questões do tópico usando a fábrica de questões
+    // A lista é uma cópia: recargas do banco não afetam o exercício em andamento
     public void carregarQuestoes() throws QuestaoException {
-        this.questoes = QuestaoFactory.criarQuestoesPorTopico(tituloTopico);
+        BancoQuestoes banco = QuestaoFactory.bancoAtual();
+        this.questoes = QuestaoFactory.criarQuestoesPorTopico(banco, tituloTopico);
+        this.versaoBanco = banco.getVersao();
+        this.impressaoBanco = banco.getImpressaoTopico(tituloTopico);
+        this.ordemBanco = new int[questoes.size()];
+        for (int i = 0; i < ordemBanco.length; i++) {
+            ordemBanco[i] = i;
+        }
+        this.permutacoes = sortearPermutacoes(questoes.size());
+        this.folha = new FolhaRespostas(questoes.size());
+        this.indiceBarraProgresso = -1;
         aplicarOrdenacao(modoOrdenacao);
     }
 
@@ -41,15 +117,28 @@ public class ExercicioTopico implements Navegavel {
         this.modoOrdenacao = modo;
 
         // Simulação de loading da ordenação
-        System.out.println("\n🔄 Ordenando questões (" + modo + ")...");
-        try {
-            Thread.sleep(1000); // Simula processamento
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
+        saida.print(catalogo.get(Mensagem.ORDENANDO));
+        saida.print(modo);
+        saida.println(catalogo.get(Mensagem.ORDENANDO_FIM));
+        if (atrasoOrdenacaoMs > 0) {
+            try {
+                Thread.sleep(atrasoOrdenacaoMs); // Simula processamento
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
         }
 
+        long inicio = Metricas.iniciar();
+        IdentityHashMap<Questao, Integer> posicaoNoBanco = new IdentityHashMap<>(questoes.size() * 2);
+        for (int i = 0; i < questoes.size(); i++) {
+            posicaoNoBanco.put(questoes.get(i), ordemBanco[i]);
+        }
         QuickSort.ordenar(questoes, modo);
-        System.out.println("✅ Questões ordenadas com sucesso!\n");
+        for (int i = 0; i < questoes.size(); i++) {
+            ordemBanco[i] = posicaoNoBanco.get(questoes.get(i));
+        }
+        Metricas.registrar(Metricas.ORDENACAO, inicio);
+        saida.println(catalogo.get(Mensagem.ORDENADAS));
     }
 
     // Avança para a próxima questão, se houver
@@ -61,6 +150,7 @@ public class ExercicioTopico implements Navegavel {
 
         historicoNavegacao.empilhar(indiceAtual);
         indiceAtual++;
+        registrarNavegacao("AVANCAR", indiceAtual - 1);
     }
 
     // Volta para a questão anterior, se possível
@@ -70,38 +160,156 @@ public class ExercicioTopico implements Navegavel {
             throw new NavegacaoException("Não há questão anterior disponível.");
         }
 
+        int origem = indiceAtual;
         if (!historicoNavegacao.estaVazia()) {
             indiceAtual = historicoNavegacao.desempilhar();
         } else {
             indiceAtual--;
         }
+        registrarNavegacao("VOLTAR", origem);
     }
 
-    // Retorna ao menu principal, resetando o exercício
+    // Retorna ao menu principal mantendo a posição e o histórico,
+    // para que o tópico possa ser retomado de onde parou
     @Override
     public void irParaMenu() throws NavegacaoException {
-        // Reset do exercício para voltar ao menu
+        registrarNavegacao("MENU", indiceAtual);
+    }
+
+    // Recomeça o tópico do início, descartando posição, histórico e marcações
+    public void reiniciar() {
         indiceAtual = 0;
         historicoNavegacao.limpar();
+        folha.limpar();
+    }
+
+    // Emite o evento JFR de navegação (sem custo se a gravação estiver desligada)
+    private void registrarNavegacao(String comando, int origem) {
+        publicarEvento(comando.equals("PULAR") ? TipoEvento.PULO
+                : comando.equals("MENU") ? TipoEvento.MENU : TipoEvento.NAVEGACAO, obterQuestaoAtual(), false, 0, (char) 0);
+        if (!GravacaoJfr.ativa()) {
+            return;
+        }
+        EventoNavegacao evento = new EventoNavegacao();
+        if (evento.shouldCommit()) {
+            evento.idSessao = estatisticasUsuario.getIdSessao();
+            evento.topico = tituloTopico;
+            evento.comando = comando;
+            evento.origem = origem;
+            evento.destino = indiceAtual;
+            evento.commit();
+        }
+    }
+
+    // Marcam o começo (novo ou retomado) e a conclusão dos exercícios, para a análise de abandono
+    public void marcarInicio() {
+        publicarEvento(TipoEvento.TOPICO_INICIADO, null, false, 0, (char) 0);
+    }
+
+    public void marcarConclusao() {
+        publicarEvento(TipoEvento.TOPICO_CONCLUIDO, null, false, 0, (char) 0);
+    }
+
+    // Publica o evento de análise na posição atual (sem custo se não houver ouvintes)
+    private void publicarEvento(TipoEvento tipo, Questao questao, boolean correta, long tempoResposta, char resposta) {
+        if (!Telemetria.ativa()) {
+            return;
+        }
+        int posicaoBanco = indiceAtual < ordemBanco.length ? ordemBanco[indiceAtual] : EventoAnalise.SEM_VALOR;
+        Telemetria.publicar(new EventoAnalise(System.currentTimeMillis(), estatisticasUsuario.getIdSessao(), tipo,
+                tituloTopico, indiceAtual, posicaoBanco,
+                questao == null ? EventoAnalise.SEM_VALOR : questao.getTipo().ordinal(),
+                questao == null ? EventoAnalise.SEM_VALOR : questao.getNivel().ordinal(),
+                correta, tempoResposta, resposta));
+    }
+
+    // Monta a tela da questão atual e marca o instante da exibição
+    public String exibirQuestaoAtual() {
+        Questao questaoAtual = obterQuestaoAtual();
+        if (questaoAtual == null) {
+            return "";
+        }
+        EventoQuestaoExibida evento = GravacaoJfr.ativa() ? new EventoQuestaoExibida() : null;
+        if (evento != null) {
+            evento.begin();
+        }
+        long inicio = Metricas.iniciar();
+        String tela = questaoAtual.exibirQuestao(catalogo, permutacaoAtual());
+        Metricas.registrar(Metricas.EXIBICAO, inicio);
+        if (evento != null) {
+            evento.end();
+        }
+        if (evento != null && evento.shouldCommit()) {
+            evento.idSessao = estatisticasUsuario.getIdSessao();
+            evento.topico = tituloTopico;
+            evento.posicao = indiceAtual;
+            evento.tipo = questaoAtual.getTipo().name();
+            evento.nivel = questaoAtual.getNivel().name();
+            evento.commit();
+        }
+        publicarEvento(TipoEvento.QUESTAO_EXIBIDA, questaoAtual, false, 0, (char) 0);
+        estatisticasUsuario.iniciarCronometroQuestao(indiceAtual);
+        return tela;
     }
 
     // Processa a resposta do usuário para a questão atual
     public boolean responderAtual(String resposta) {
         if (indiceAtual >= 0 && indiceAtual < questoes.size()) {
             Questao questaoAtual = questoes.get(indiceAtual);
-            boolean acertou = questaoAtual.verificarResposta(resposta);
+            long tempoResposta = estatisticasUsuario.getTempoQuestaoAtualNanos();
+            EventoRespostaAvaliada evento = GravacaoJfr.ativa() ? new EventoRespostaAvaliada() : null;
+            if (evento != null) {
+                evento.begin();
+            }
+            byte permutacao = permutacaoAtual();
+            long inicio = Metricas.iniciar();
+            boolean acertou = questaoAtual.verificarResposta(resposta, permutacao);
+            Metricas.registrar(Metricas.VERIFICACAO, inicio);
+            if (evento != null) {
+                evento.end();
+            }
+            if (evento != null && evento.shouldCommit()) {
+                evento.idSessao = estatisticasUsuario.getIdSessao();
+                evento.topico = tituloTopico;
+                evento.posicao = indiceAtual;
+                evento.tipo = questaoAtual.getTipo().name();
+                evento.nivel = questaoAtual.getNivel().name();
+                evento.correta = acertou;
+                evento.tempoResposta = tempoResposta;
+                evento.commit();
+            }
+            publicarEvento(TipoEvento.RESPOSTA, questaoAtual, acertou, tempoResposta,
+                    EventoAnalise.primeiraLetra(PermutacaoAlternativas.letraOriginal(permutacao, resposta)));
+
+            // Pontua apenas a primeira resposta; um pulo anterior deixa de contar
+            byte anterior = folha.marcarResposta(indiceAtual, acertou);
+            boolean pontua = anterior == FolhaRespostas.SEM_RESPOSTA || anterior == FolhaRespostas.PULADA;
+            if (anterior == FolhaRespostas.PULADA) {
+                estatisticasUsuario.desfazerPulo();
+            }
 
             if (acertou) {
-                estatisticasUsuario.registrarAcerto();
-                System.out.println("\n✅ CORRETO! Parabéns!");
+                if (pontua) {
+                    estatisticasUsuario.registrarAcerto();
+                    Metricas.incrementar(Metricas.ACERTOS);
+                }
+                saida.println(catalogo.get(Mensagem.CORRETO));
             } else {
-                estatisticasUsuario.registrarErro();
-                System.out.println("\n❌ INCORRETO!");
+                if (pontua) {
+                    estatisticasUsuario.registrarErro();
+                    Metricas.incrementar(Metricas.ERROS);
+                }
+                saida.println(catalogo.get(Mensagem.INCORRETO));
                 if (questaoAtual instanceof QuestaoCompletarCodigo) {
-                    System.out.println(((QuestaoCompletarCodigo) questaoAtual).getDica());
+                    saida.println(((QuestaoCompletarCodigo) questaoAtual).getDica(catalogo));
                 }
-                System.out.println("Resposta correta: " + questaoAtual.getCorreta());
-                System.out.println("Explicação: " + questaoAtual.getExplicacao());
+                saida.print(catalogo.get(Mensagem.RESPOSTA_CORRETA));
+                saida.println(questaoAtual.getCorreta(permutacao));
+                saida.print(catalogo.get(Mensagem.EXPLICACAO));
+                saida.println(questaoAtual.getExplicacao());
+            }
+            if (!pontua) {
+                saida.println(catalogo.get(Mensagem.JA_RESPONDIDA));
             }
 
             return acertou;
@@ -110,9 +318,14 @@ public class ExercicioTopico implements Navegavel {
     }
 
     // Permite pular a questão atual
+    // Conta o pulo só na primeira vez e se a questão ainda não foi respondida
     public void pularQuestao() {
-        estatisticasUsuario.registrarPulo();
-        System.out.println("\n⏭️ Questão pulada!");
+        if (indiceAtual >= 0 && indiceAtual < folha.getTamanho() && folha.marcarPulo(indiceAtual)) {
+            estatisticasUsuario.registrarPulo();
+            Metricas.incrementar(Metricas.PULOS);
+        }
+        registrarNavegacao("PULAR", indiceAtual);
+        saida.println(catalogo.get(Mensagem.QUESTAO_PULADA));
     }
 
     // Calcula o progresso do usuário no tópico
@@ -121,6 +334,28 @@ public class ExercicioTopico implements Navegavel {
         return (double) (indiceAtual + 1) / questoes.size() * 100;
     }
 
+    // Ordem das alternativas da questão atual nesta sessão
+    public byte permutacaoAtual() {
+        return indiceAtual >= 0 && indiceAtual < ordemBanco.length
+                ? permutacoes[ordemBanco[indiceAtual]] : PermutacaoAlternativas.IDENTIDADE;
+    }
+
+    // Resposta correta da questão atual, com a letra que esta sessão vê
+    public String getCorretaAtual() {
+        Questao questaoAtual = obterQuestaoAtual();
+        return questaoAtual == null ? "" : questaoAtual.getCorreta(permutacaoAtual());
+    }
+
+    private static byte[] sortearPermutacoes(int total) {
+        byte[] sorteadas = new byte[total];
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        for (int i = 0; i < total; i++) {
+            sorteadas[i] = embaralharAlternativas ? PermutacaoAlternativas.sortear(aleatorio)
+                    : PermutacaoAlternativas.IDENTIDADE;
+        }
+        return sorteadas;
+    }
+
     // Retorna a questão atual
     public Questao obterQuestaoAtual() {
         if (indiceAtual >= 0 && indiceAtual < questoes.size()) {
@@ -143,33 +378,164 @@ public class ExercicioTopico implements Navegavel {
     public String gerarResumoDesempenho() {
         StringBuilder sb = new StringBuilder();
         sb.append("\n").append("=".repeat(50)).append("\n");
-        sb.append("    RESUMO DO TÓPICO: ").append(tituloTopico.toUpperCase()).append("\n");
+        sb.append(catalogo.get(Mensagem.RESUMO_TITULO)).append(tituloTopico.toUpperCase()).append("\n");
         sb.append("=".repeat(50)).append("\n");
-        sb.append("Questões no tópico: ").append(questoes.size()).append("\n");
-        sb.append("Progresso atual: ").append(String.format("%.1f", calcularProgresso())).append("%\n");
-        sb.append("Modo de ordenação: ").append(modoOrdenacao).append("\n");
+        sb.append(catalogo.get(Mensagem.RESUMO_QUESTOES)).append(questoes.size()).append("\n");
+        sb.append(catalogo.get(Mensagem.RESUMO_PROGRESSO));
+        Formatacao.anexarUmaCasa(sb, calcularProgresso()).append("%\n");
+        sb.append(catalogo.get(Mensagem.RESUMO_MODO)).append(modoOrdenacao).append("\n");
+        sb.append(catalogo.get(Mensagem.RESUMO_ACERTOS)).append(folha.getTotal(FolhaRespostas.ACERTO))
+                .append(catalogo.get(Mensagem.RESUMO_ERROS)).append(folha.getTotal(FolhaRespostas.ERRO))
+                .append(catalogo.get(Mensagem.RESUMO_PULADAS)).append(folha.getTotal(FolhaRespostas.PULADA))
+                .append(catalogo.get(Mensagem.RESUMO_SEM_RESPOSTA)).append(folha.getTotal(FolhaRespostas.SEM_RESPOSTA))
+                .append("\n");
+        sb.append(catalogo.get(Mensagem.RESUMO_MAPA)).append(folha.gerarMapa()).append(catalogo.get(Mensagem.RESUMO_LEGENDA));
         sb.append("=".repeat(50));
         return sb.toString();
     }
 
     // Exibe uma barra visual de progresso do usuário no tópico
+    // (só é remontada quando a posição muda)
     public String exibirBarraProgresso() {
-        int progresso = (int) (calcularProgresso() / 10); // escala 0-10
-        StringBuilder barra = new StringBuilder();
-        barra.append("[");
+        if (indiceAtual == indiceBarraProgresso && barraProgresso != null) {
+            return barraProgresso;
+        }
+        double percentual = calcularProgresso();
+        int progresso = (int) (percentual / 10); // escala 0-10
+        StringBuilder barra = new StringBuilder(40);
+        barra.append('[');
         for (int i = 0; i < 10; i++) {
-            if (i < progresso) {
-                barra.append("█");
-            } else {
-                barra.append("░");
-            }
+            barra.append(i < progresso ? '█' : '░');
         }
         barra.append("] ");
-        barra.append(String.format("%.1f", calcularProgresso())).append("% ");
-        barra.append("(").append(indiceAtual + 1).append("/").append(questoes.size()).append(")");
-        return barra.toString();
+        Formatacao.anexarUmaCasa(barra, percentual).append("% ");
+        barra.append('(').append(indiceAtual + 1).append('/').append(questoes.size()).append(')');
+        barraProgresso = barra.toString();
+        indiceBarraProgresso = indiceAtual;
+        return barraProgresso;
+    }
+
+    // Grava o estado do exercício (ordem das questões, posição e histórico)
+    // sem as questões em si, que são recarregadas da fábrica ao restaurar
+    public void gravarEstado(DataOutputStream out) throws IOException {
+        out.writeByte(VERSAO_ESTADO);
+        out.writeUTF(tituloTopico);
+        out.writeUTF(modoOrdenacao);
+        out.writeLong(versaoBanco);
+        out.writeLong(impressaoBanco);
+        out.writeShort(ordemBanco.length);
+        for (int posicao : ordemBanco) {
+            out.writeShort(posicao);
+        }
+        out.write(permutacoes);
+        out.writeShort(indiceAtual);
+        int[] historico = historicoNavegacao.copiarElementos();
+        out.writeByte(historico.length);
+        for (int indice : historico) {
+            out.writeShort(indice);
+        }
+        folha.gravar(out);
+    }
+
+    // Codifica o estado em poucos bytes (checkpoint do tópico)
+    public byte[] gerarCheckpoint() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            gravarEstado(out);
+        } catch (IOException e) {
+            throw new IllegalStateException("Falha ao gravar em memória", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    // Recria um exercício gravado por gravarEstado, na mesma questão em que parou,
+    // reaplicando a ordem gravada em vez de ordenar novamente
+    // O registro é lido por inteiro antes de conferir o banco: um tópico que mudou
+    // lança QuestaoException com o fluxo já no registro seguinte, e quem lê vários
+    // (sessão passivada) descarta só esse tópico
+    public static ExercicioTopico lerEstado(DataInputStream in, Estatisticas estatisticas, PrintStream saida)
+            throws IOException, QuestaoException {
+        int versao = in.readByte();
+        if (versao < 2 || versao > VERSAO_ESTADO) {
+            throw new IOException("Formato de estado desconhecido");
+        }
+        ExercicioTopico exercicio = new ExercicioTopico(in.readUTF(), estatisticas, saida);
+        exercicio.modoOrdenacao = in.readUTF();
+        long versaoSalva = versao >= 4 ? in.readLong() : VERSAO_BANCO_DESCONHECIDA;
+        long impressaoSalva = versao >= 5 ? in.readLong() : 0;
+        int total = in.readShort();
+        exercicio.ordemBanco = new int[total];
+        for (int i = 0; i < total; i++) {
+            int posicao = in.readShort();
+            if (posicao < 0 || posicao >= total) {
+                throw new IOException("Posição de questão inválida no estado salvo: " + posicao);
+            }
+            exercicio.ordemBanco[i] = posicao;
+        }
+        // Estados da versão 2 não tinham permutação: mantêm a ordem do banco
+        exercicio.permutacoes = new byte[total];
+        if (versao == 2) {
+            Arrays.fill(exercicio.permutacoes, PermutacaoAlternativas.IDENTIDADE);
+        } else {
+            in.readFully(exercicio.permutacoes);
+            for (byte permutacao : exercicio.permutacoes) {
+                if (!PermutacaoAlternativas.valida(permutacao)) {
+                    throw new IOException("Ordem de alternativas inválida no estado salvo");
+                }
+            }
+        }
+        exercicio.indiceAtual = in.readShort();
+        int tamanhoHistorico = in.readByte();
+        for (int i = 0; i < tamanhoHistorico; i++) {
+            exercicio.historicoNavegacao.empilhar(in.readShort());
+        }
+        exercicio.folha = FolhaRespostas.ler(in);
+        if (exercicio.folha.getTamanho() != total) {
+            throw new IOException("Folha de respostas incompatível com o tópico");
+        }
+
+        // Volta à versão do banco em que o tópico começou, se ainda estiver disponível;
+        // senão usa a atual, desde que o tópico seja o mesmo (mesma impressão digital;
+        // estados anteriores à versão 5 só conferem o tamanho)
+        BancoQuestoes bancoSalvo = versaoSalva != VERSAO_BANCO_DESCONHECIDA
+                ? QuestaoFactory.bancoPorVersao(versaoSalva) : null;
+        BancoQuestoes bancoUsado = bancoSalvo != null ? bancoSalvo : QuestaoFactory.bancoAtual();
+        ArrayList<Questao> banco = QuestaoFactory.criarQuestoesPorTopico(bancoUsado, exercicio.tituloTopico);
+        exercicio.versaoBanco = bancoUsado.getVersao();
+        exercicio.impressaoBanco = bancoUsado.getImpressaoTopico(exercicio.tituloTopico);
+        if (banco.size() != total
+                || (versao >= 5 && impressaoSalva != exercicio.impressaoBanco)) {
+            throw new QuestaoException("O banco do tópico mudou desde que o progresso foi salvo: "
+                    + exercicio.tituloTopico);
+        }
+        exercicio.questoes = new ArrayList<>(total);
+        for (int posicao : exercicio.ordemBanco) {
+            exercicio.questoes.add(banco.get(posicao));
+        }
+        return exercicio;
+    }
+
+    // Estimativa do espaço ocupado em memória (bytes), usada nos limites de sessões
+    public long estimarBytes() {
+        long pilha = 16 + 4L * 100; // Vetor fixo de 100 posições da Pilha
+        return 96 + pilha + (long) questoes.size() * BYTES_POR_QUESTAO + 16 + 4L * ordemBanco.length
+                + 16 + permutacoes.length + 48 + folha.getTamanho();
     }
 
     // Getters
     public String getTituloTopico() { return tituloTopico; }
+    public int getIndiceAtual() { return indiceAtual; }
+    public int getTotalQuestoes() { return questoes.size(); }
+    public int getTotalRespondidas() {
+        return folha.getTotal(FolhaRespostas.ACERTO) + folha.getTotal(FolhaRespostas.ERRO);
+    }
+    public int getTotalPuladas() { return folha.getTotal(FolhaRespostas.PULADA); }
+    public FolhaRespostas getFolha() { return folha; }
+    public Catalogo getCatalogo() { return catalogo; }
+    public long getVersaoBanco() { return versaoBanco; }
+
+    // Troca o idioma dos textos exibidos (ex.: ao retomar um tópico salvo)
+    public void setCatalogo(Catalogo catalogo) {
+        this.catalogo = catalogo;
+    }
 }
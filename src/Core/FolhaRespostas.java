@@ -0,0 +1,106 @@
+// =============================================
+// Classe FolhaRespostas
+// Folha de respostas de um tópico: a situação de cada questão
+// (sem resposta, pulada, acerto, erro) em um vetor indexado pela
+// posição, com totais mantidos a cada marcação (tudo O(1))
+// Só a primeira resposta de cada questão conta na pontuação
+// =============================================
+
+package Core;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+public class FolhaRespostas {
+    public static final byte SEM_RESPOSTA = 0;
+    public static final byte PULADA = 1;
+    public static final byte ACERTO = 2;
+    public static final byte ERRO = 3;
+
+    private byte[] situacoes;
+    private int[] totais; // Quantidade de questões em cada situação
+
+    public FolhaRespostas(int totalQuestoes) {
+        this.situacoes = new byte[totalQuestoes];
+        this.totais = new int[4];
+        this.totais[SEM_RESPOSTA] = totalQuestoes;
+    }
+
+    public byte getSituacao(int posicao) {
+        return situacoes[posicao];
+    }
+
+    public boolean foiRespondida(int posicao) {
+        return situacoes[posicao] >= ACERTO;
+    }
+
+    public boolean foiPulada(int posicao) {
+        return situacoes[posicao] == PULADA;
+    }
+
+    // Marca a resposta; retorna a situação anterior para quem pontua decidir o que contar
+    public byte marcarResposta(int posicao, boolean acertou) {
+        byte anterior = situacoes[posicao];
+        if (anterior < ACERTO) {
+            mudar(posicao, acertou ? ACERTO : ERRO);
+        }
+        return anterior;
+    }
+
+    // Marca o pulo apenas se a questão ainda não tinha situação; retorna se marcou
+    public boolean marcarPulo(int posicao) {
+        if (situacoes[posicao] != SEM_RESPOSTA) {
+            return false;
+        }
+        mudar(posicao, PULADA);
+        return true;
+    }
+
+    private void mudar(int posicao, byte nova) {
+        totais[situacoes[posicao]]--;
+        totais[nova]++;
+        situacoes[posicao] = nova;
+    }
+
+    public int getTotal(byte situacao) { return totais[situacao]; }
+    public int getTamanho() { return situacoes.length; }
+
+    // Símbolos das situações, uma questão por caractere
+    public String gerarMapa() {
+        StringBuilder sb = new StringBuilder(situacoes.length);
+        for (byte situacao : situacoes) {
+            switch (situacao) {
+                case ACERTO: sb.append('✔'); break;
+                case ERRO: sb.append('✘'); break;
+                case PULADA: sb.append('»'); break;
+                default: sb.append('·');
+            }
+        }
+        return sb.toString();
+    }
+
+    public void gravar(DataOutputStream out) throws IOException {
+        out.writeShort(situacoes.length);
+        out.write(situacoes);
+    }
+
+    public static FolhaRespostas ler(DataInputStream in) throws IOException {
+        FolhaRespostas folha = new FolhaRespostas(in.readShort());
+        for (int i = 0; i < folha.situacoes.length; i++) {
+            byte situacao = in.readByte();
+            if (situacao < SEM_RESPOSTA || situacao > ERRO) {
+                throw new IOException("Situação de questão inválida: " + situacao);
+            }
+            folha.mudar(i, situacao);
+        }
+        return folha;
+    }
+
+    public void limpar() {
+        Arrays.fill(situacoes, SEM_RESPOSTA);
+        totais = new int[4];
+        totais[SEM_RESPOSTA] = situacoes.length;
+    }
+}
@@ -0,0 +1,38 @@
+// =============================================
+// Classe Formatacao
+// Formatação numérica escrita direto em um StringBuilder,
+// sem String.format/Formatter, para as linhas exibidas a cada turno
+// Segue o separador decimal da localidade padrão, como "%.1f"
+// =============================================
+
+package Core;
+
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+
+public final class Formatacao {
+    private static final char SEPARADOR_DECIMAL =
+            DecimalFormatSymbols.getInstance(Locale.getDefault(Locale.Category.FORMAT)).getDecimalSeparator();
+
+    private Formatacao() {
+    }
+
+    // Equivalente a String.format("%.1f", valor) para valores não negativos
+    public static StringBuilder anexarUmaCasa(StringBuilder sb, double valor) {
+        long decimos = Math.round(valor * 10);
+        if (decimos < 0) {
+            sb.append('-');
+            decimos = -decimos;
+        }
+        return sb.append(decimos / 10).append(SEPARADOR_DECIMAL).append((char) ('0' + decimos % 10));
+    }
+
+    // Tempo no formato "Xm Ys" ou "Ys"
+    public static StringBuilder anexarTempo(StringBuilder sb, long segundos) {
+        long minutos = segundos / 60;
+        if (minutos > 0) {
+            return sb.append(minutos).append("m ").append(segundos % 60).append('s');
+        }
+        return sb.append(segundos).append('s');
+    }
+}
@@ -0,0 +1,75 @@
+// =============================================
+// Classe GravadorEntrada
+// Envolve a entrada padrão e grava cada linha digitada
+// com o instante em que chegou, gerando uma Transcricao
+// Usada para reproduzir sessões reais em testes de carga
+// =============================================
+
+package Core;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+public class GravadorEntrada extends FilterInputStream {
+    private final Transcricao transcricao;
+    private final ByteArrayOutputStream linhaAtual;
+    private final long inicioNanos;
+
+    public GravadorEntrada(InputStream entrada) {
+        super(entrada);
+        this.transcricao = new Transcricao();
+        this.linhaAtual = new ByteArrayOutputStream();
+        this.inicioNanos = System.nanoTime();
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b < 0) {
+            fecharLinhaPendente();
+        } else {
+            registrarByte(b);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] buffer, int inicio, int tamanho) throws IOException {
+        int lidos = super.read(buffer, inicio, tamanho);
+        if (lidos < 0) {
+            fecharLinhaPendente();
+        }
+        for (int i = 0; i < lidos; i++) {
+            registrarByte(buffer[inicio + i] & 0xFF);
+        }
+        return lidos;
+    }
+
+    // Acumula bytes até o fim da linha, quando a linha é registrada
+    private void registrarByte(int b) {
+        if (b == '\n') {
+            adicionarLinha();
+        } else if (b != '\r') {
+            linhaAtual.write(b);
+        }
+    }
+
+    private void fecharLinhaPendente() {
+        if (linhaAtual.size() > 0) {
+            adicionarLinha();
+        }
+    }
+
+    private void adicionarLinha() {
+        long instanteMs = (System.nanoTime() - inicioNanos) / 1_000_000;
+        transcricao.adicionar(instanteMs, linhaAtual.toString(StandardCharsets.UTF_8));
+        linhaAtual.reset();
+    }
+
+    public Transcricao getTranscricao() {
+        return transcricao;
+    }
+}
@@ -92,6 +92,16 @@ public class Pilha {
         return topo + 1;
     }
 
+    /**
+     * Copia os elementos da pilha, da base para o topo
+     * @return vetor com os elementos (vazio se a pilha estiver vazia)
+     */
+    public int[] copiarElementos() {
+        int[] copia = new int[topo + 1];
+        System.arraycopy(elementos, 0, copia, 0, topo + 1);
+        return copia;
+    }
+
     /**
      * Retorna uma representação string da pilha
      * @return String com os elementos da pilha (do topo para a base)
@@ -0,0 +1,80 @@
+// =============================================
+// Classe Transcricao
+// Armazena as linhas digitadas em uma sessão
+// junto com o instante (ms desde o início) de cada uma
+// Permite salvar e carregar sessões gravadas em arquivo
+// =============================================
+
+package Core;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+public class Transcricao {
+    private ArrayList<String> linhas;
+    private long[] instantesMs;
+
+    public Transcricao() {
+        this.linhas = new ArrayList<>();
+        this.instantesMs = new long[16];
+    }
+
+    // Registra uma linha digitada e o instante em que foi recebida
+    public void adicionar(long instanteMs, String linha) {
+        if (linhas.size() == instantesMs.length) {
+            instantesMs = Arrays.copyOf(instantesMs, instantesMs.length * 2);
+        }
+        instantesMs[linhas.size()] = instanteMs;
+        linhas.add(linha);
+    }
+
+    public int getTamanho() { return linhas.size(); }
+    public String getLinha(int indice) { return linhas.get(indice); }
+    public long getInstanteMs(int indice) { return instantesMs[indice]; }
+
+    // Converte a transcrição em bytes prontos para alimentar um Scanner
+    public byte[] paraBytes() {
+        StringBuilder sb = new StringBuilder();
+        for (String linha : linhas) {
+            sb.append(linha).append('\n');
+        }
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    // Salva no formato "instanteMs<TAB>linha", uma entrada por linha
+    public void salvar(Path arquivo) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(arquivo, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < linhas.size(); i++) {
+                writer.write(Long.toString(instantesMs[i]));
+                writer.write('\t');
+                writer.write(linhas.get(i));
+                writer.newLine();
+            }
+        }
+    }
+
+    public static Transcricao carregar(Path arquivo) throws IOException {
+        Transcricao transcricao = new Transcricao();
+        try (BufferedReader reader = Files.newBufferedReader(arquivo, StandardCharsets.UTF_8)) {
+            String registro;
+            while ((registro = reader.readLine()) != null) {
+                int tab = registro.indexOf('\t');
+                if (tab < 0) {
+                    throw new IOException("Linha de transcrição inválida: " + registro);
+                }
+                try {
+                    transcricao.adicionar(Long.parseLong(registro.substring(0, tab)), registro.substring(tab + 1));
+                } catch (NumberFormatException e) {
+                    throw new IOException("Instante inválido na transcrição: " + registro, e);
+                }
+            }
+        }
+        return transcricao;
+    }
+}
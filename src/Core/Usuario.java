@@ -3,20 +3,58 @@
 // Representa o usuário do sistema de aprendizado
 // Armazena nome e gerencia estatísticas da sessão
 // Mantém o estado do usuário durante a execução
+// Guarda os tópicos interrompidos para retomada
 // =============================================
 
 package Core;
 
+import Idiomas.Catalogo;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+
 public class Usuario {
     // Nome do usuário
     private String nome;
     // Estatísticas de desempenho do usuário
     private Estatisticas estatisticas;
+    // Tópicos interrompidos com 'M', prontos para retomar sem recarregar
+    private LinkedHashMap<String, ExercicioTopico> topicosPausados;
+    // Idioma da sessão (catálogo compartilhado; trocar é só trocar a referência)
+    private Catalogo idioma;
 
     // Construtor: inicializa o nome e as estatísticas
     public Usuario(String nome) {
         this.nome = nome;
         this.estatisticas = new Estatisticas();
+        this.topicosPausados = new LinkedHashMap<>();
+        this.idioma = Catalogo.PADRAO;
+    }
+
+    // Guarda o exercício interrompido
+    public void pausarTopico(ExercicioTopico exercicio) {
+        topicosPausados.put(exercicio.getTituloTopico(), exercicio);
+    }
+
+    // Remove e retorna o exercício pausado do tópico, ou null
+    public ExercicioTopico retomarTopico(String topico) {
+        return topicosPausados.remove(topico);
+    }
+
+    public Catalogo getIdioma() {
+        return idioma;
+    }
+
+    // Troca o idioma da sessão, inclusive dos tópicos pausados
+    public void setIdioma(Catalogo idioma) {
+        this.idioma = idioma;
+        for (ExercicioTopico exercicio : topicosPausados.values()) {
+            exercicio.setCatalogo(idioma);
+        }
+    }
+
+    public Collection<ExercicioTopico> getTopicosPausados() {
+        return topicosPausados.values();
     }
 
     // Retorna o nome do usuário
@@ -0,0 +1,78 @@
+// =============================================
+// Classe ExportarColunar
+// Converte os logs de eventos (RegistroEventos) em um arquivo
+// colunar com as respostas (ExportadorColunar), em fluxo:
+// um arquivo de log e um grupo de linhas por vez na memória
+// Uso: java ExportarColunar <diretorio-logs> <saida.col> [linhasPorGrupo]
+//      java ExportarColunar --verificar <arquivo.col>
+// =============================================
+
+import Analise.ExportadorColunar;
+import Analise.LeitorColunar;
+import Analise.LeitorEventos;
+import Analise.RegistroEventos;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class ExportarColunar {
+    public static void main(String[] args) throws IOException {
+        if (args.length == 2 && args[0].equals("--verificar")) {
+            verificar(Path.of(args[1]));
+            return;
+        }
+        if (args.length < 2) {
+            System.out.println("Uso: java ExportarColunar <diretorio-logs> <saida.col> [linhasPorGrupo]");
+            System.out.println("     java ExportarColunar --verificar <arquivo.col>");
+            return;
+        }
+        List<Path> logs;
+        try (Stream<Path> listagem = Files.list(Path.of(args[0]))) {
+            logs = listagem.filter(p -> p.getFileName().toString().startsWith(RegistroEventos.PREFIXO))
+                    .sorted().collect(Collectors.toList());
+        }
+
+        long inicio = System.nanoTime();
+        int linhasPorGrupo = args.length > 2 ? Integer.parseInt(args[2]) : 65_536;
+        ExportadorColunar exportador = new ExportadorColunar(Path.of(args[1]), linhasPorGrupo);
+        try (exportador) {
+            for (Path log : logs) {
+                LeitorEventos.percorrer(log, evento -> {
+                    try {
+                        exportador.adicionar(evento);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        }
+        // Depois do close: o último grupo e o rodapé já estão no arquivo
+        long ms = (System.nanoTime() - inicio) / 1_000_000;
+        System.out.println("✅ " + exportador.getTotalLinhas() + " respostas em " + exportador.getTotalGrupos()
+                + " grupos (" + Files.size(Path.of(args[1])) + " bytes) de " + logs.size() + " log(s) em " + ms + " ms");
+    }
+
+    // Lê o arquivo de volta e imprime totais por coluna
+    private static void verificar(Path arquivo) throws IOException {
+        long[] totais = new long[3]; // grupos, linhas, corretas
+        HashSet<Long> processos = new HashSet<>();
+        LeitorColunar.percorrer(arquivo, grupo -> {
+            totais[0]++;
+            totais[1] += grupo.linhas;
+            for (int i = 0; i < grupo.linhas; i++) {
+                if (grupo.corretas[i]) {
+                    totais[2]++;
+                }
+                processos.add(grupo.processos[i]);
+            }
+        });
+        System.out.println(totais[0] + " grupos, " + totais[1] + " respostas, " + totais[2] + " corretas, de "
+                + processos.size() + " processo(s)");
+    }
+}
@@ -0,0 +1,21 @@
+// =============================================
+// Enum EstadoSessao
+// Estados da máquina de sessão (MaquinaSessao)
+// Cada estado indica qual entrada a sessão está esperando
+// =============================================
+
+package Fluxo;
+
+public enum EstadoSessao {
+    NOME,             // Aguardando o nome do usuário
+    MENU_PRINCIPAL,   // Opção do menu principal (1-4)
+    MENU_JAVA,        // Tópico a estudar (1-6)
+    RETOMAR,          // Continuar o tópico interrompido? (S/N)
+    ESCOLHER_ORDEM,   // Modo de ordenação das questões (1-3)
+    QUESTAO,          // Resposta ou comando (V/P/M) para a questão exibida
+    FEEDBACK,         // ENTER após o resultado da resposta
+    RESUMO,           // ENTER após o resumo do tópico concluído
+    AGUARDAR_ENTER,   // ENTER para voltar ao menu (estatísticas, erros)
+    REINICIAR,        // Confirmação para reiniciar o progresso (S/N)
+    ENCERRADA         // Sessão finalizada; não consome mais entradas
+}
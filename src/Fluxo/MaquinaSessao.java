@@ -0,0 +1,519 @@
+// =============================================
+// Classe MaquinaSessao
+// Fluxo completo de uma sessão (menus e exercícios) como
+// máquina de estados retomável: cada linha de entrada faz uma
+// transição e escreve a resposta na saída, sem bloquear
+// Permite que um único laço de eventos conduza muitas sessões
+// (ServidorTexto) em vez de uma thread presa em nextLine()
+// =============================================
+
+package Fluxo;
+
+import Core.ArmazemProgresso;
+import Core.ExercicioTopico;
+import Core.Formatacao;
+import Core.Usuario;
+import Exceptions.NavegacaoException;
+import Exceptions.QuestaoException;
+import Idiomas.Catalogo;
+import Idiomas.Mensagem;
+import Monitoramento.MarcoInicializacao;
+import Monitoramento.Metricas;
+import Questoes.BancoQuestoes;
+import Questoes.Questao;
+import enums.TipoQuestao;
+
+import java.io.PrintStream;
+
+public class MaquinaSessao {
+    public static final int QUESTOES_POR_TOPICO = 15;
+    public static final String VERSAO_SISTEMA = "1.0.0";
+
+    // Separadores prontos: redesenhar um menu não cria strings novas
+    private static final String SEPARADOR_CABECALHO = "=".repeat(70);
+    private static final String SEPARADOR_MENU = "=".repeat(60);
+    private static final String SEPARADOR_MENU_JAVA = "=".repeat(50);
+
+    private final PrintStream saida;
+    private final ArmazemProgresso progresso; // null desativa checkpoints em disco
+    private final Catalogo catalogo;
+    private final StringBuilder numero = new StringBuilder(16);  // Reaproveitado nos números formatados
+    private EstadoSessao estado;
+    private Usuario usuario;
+    private ExercicioTopico exercicio;  // Exercício em andamento (QUESTAO/FEEDBACK) ou à espera de retomada
+    private String topicoEscolhido;
+
+    public MaquinaSessao(PrintStream saida, ArmazemProgresso progresso, Catalogo catalogo) {
+        this.saida = saida;
+        this.progresso = progresso;
+        this.catalogo = catalogo;
+        this.estado = EstadoSessao.NOME;
+    }
+
+    // Exibe o cabeçalho e pede o nome
+    public void iniciar() {
+        exibirCabecalho();
+        saida.print(texto(Mensagem.PEDIR_NOME));
+        saida.flush();
+    }
+
+    // Consome uma linha de entrada (sem o terminador) e faz a transição correspondente
+    public void processarLinha(String linha) {
+        long inicio = Metricas.iniciar();
+        if (esperaNumero() && linha.isBlank()) {
+            return; // Como o nextInt() do Scanner: linhas vazias não contam como resposta
+        }
+        try {
+            switch (estado) {
+                case NOME: tratarNome(linha); break;
+                case MENU_PRINCIPAL: tratarMenuPrincipal(linha); break;
+                case MENU_JAVA: tratarMenuJava(linha); break;
+                case RETOMAR: tratarRetomada(linha); break;
+                case ESCOLHER_ORDEM: tratarOrdem(linha); break;
+                case QUESTAO: tratarQuestao(linha); break;
+                case FEEDBACK: proximaQuestao(); break;
+                case RESUMO:
+                case AGUARDAR_ENTER: exibirMenuPrincipal(); break;
+                case REINICIAR: tratarReinicio(linha); break;
+                case ENCERRADA: break;
+            }
+        } catch (NavegacaoException e) {
+            // O exercício é abandonado e a sessão volta ao menu principal
+            saida.println(texto(Mensagem.ERRO_NAVEGACAO) + e.getMessage());
+            exercicio = null;
+            exibirMenuPrincipal();
+        } catch (RuntimeException e) {
+            saida.println(texto(Mensagem.ERRO_INESPERADO) + e.getMessage());
+            exercicio = null;
+            saida.print(texto(Mensagem.ENTER_CONTINUAR));
+            estado = usuario == null ? EstadoSessao.NOME : EstadoSessao.AGUARDAR_ENTER;
+        }
+        saida.flush();
+        Metricas.registrar(Metricas.TURNO, inicio);
+    }
+
+    // Conexão perdida: guarda o tópico em andamento para retomada e fecha a sessão
+    public void desconectar() {
+        if (estado == EstadoSessao.ENCERRADA || usuario == null) {
+            estado = EstadoSessao.ENCERRADA;
+            return;
+        }
+        if (exercicio != null && (estado == EstadoSessao.QUESTAO || estado == EstadoSessao.FEEDBACK)) {
+            try {
+                exercicio.irParaMenu(); // Registra a saída do tópico, como o comando M
+            } catch (NavegacaoException e) {
+                saida.println(texto(Mensagem.ERRO_NAVEGACAO) + e.getMessage());
+            }
+            usuario.pausarTopico(exercicio);
+            salvarProgresso();
+        }
+        usuario.getEstatisticas().finalizar();
+        liberarNome();
+        estado = EstadoSessao.ENCERRADA;
+    }
+
+    public EstadoSessao getEstado() { return estado; }
+    public boolean isEncerrada() { return estado == EstadoSessao.ENCERRADA; }
+    public Usuario getUsuario() { return usuario; }
+
+    // ---------------------------------------------
+    // Transições
+    // ---------------------------------------------
+
+    private void tratarNome(String linha) {
+        String nome = linha.trim();
+        if (nome.isEmpty()) {
+            saida.print(texto(Mensagem.NOME_VAZIO));
+            return;
+        }
+        if (progresso != null && !progresso.reservar(nome, this)) {
+            // Os checkpoints são por nome: duas sessões vivas com o mesmo nome se sobrescreveriam
+            saida.print(texto(Mensagem.NOME_EM_USO));
+            return;
+        }
+        usuario = new Usuario(nome);
+        usuario.setIdioma(catalogo);
+        usuario.getEstatisticas().iniciar();
+        saida.print(texto(Mensagem.BEM_VINDO));
+        saida.print(nome);
+        saida.println(texto(Mensagem.BEM_VINDO_FIM));
+        exibirMenuPrincipal();
+    }
+
+    private void tratarMenuPrincipal(String linha) {
+        switch (lerOpcao(linha)) {
+            case 1:
+                exibirMenuJava();
+                return;
+            case 2:
+                exibirEstatisticas();
+                return;
+            case 3:
+                saida.print(texto(Mensagem.REINICIAR_CONFIRMA));
+                estado = EstadoSessao.REINICIAR;
+                return;
+            case 4:
+                encerrar();
+                return;
+            case -1:
+                saida.println(texto(Mensagem.APENAS_NUMEROS));
+                break;
+            default:
+                saida.println(texto(Mensagem.MENU_OPCAO_INVALIDA));
+        }
+        exibirMenuPrincipal();
+    }
+
+    private void tratarMenuJava(String linha) {
+        int opcao = lerOpcao(linha);
+        if (opcao >= 1 && opcao <= 5) {
+            iniciarTopico(BancoQuestoes.TOPICOS[opcao - 1]);
+            return;
+        }
+        if (opcao == 6) {
+            exibirMenuPrincipal();
+            return;
+        }
+        saida.println(texto(opcao == -1 ? Mensagem.APENAS_NUMEROS : Mensagem.MENU_JAVA_OPCAO_INVALIDA));
+        exibirMenuJava();
+    }
+
+    // Procura o tópico interrompido (memória ou checkpoint em disco) e pergunta se deve retomar
+    private void iniciarTopico(String topico) {
+        if (!usuario.getEstatisticas().isSessaoAtiva()) {
+            usuario.getEstatisticas().iniciar();
+        }
+        usuario.getEstatisticas().adicionarTopicoEstudado(topico);
+        topicoEscolhido = topico;
+
+        ExercicioTopico pausado = usuario.retomarTopico(topico);
+        if (pausado == null && progresso != null) {
+            pausado = progresso.carregar(usuario.getNome(), topico, usuario.getEstatisticas(), saida);
+        }
+        if (pausado == null) {
+            exibirEscolhaOrdem();
+            return;
+        }
+        pausado.setCatalogo(catalogo);
+        exercicio = pausado;
+        saida.print(texto(Mensagem.RETOMADA_PAROU));
+        saida.print(pausado.getIndiceAtual() + 1);
+        saida.print('/');
+        saida.print(pausado.getTotalQuestoes());
+        saida.print(" (");
+        saida.print(pausado.getTotalRespondidas());
+        saida.print(texto(Mensagem.RETOMADA_RESPONDIDAS));
+        saida.print(pausado.getTotalPuladas());
+        saida.println(texto(Mensagem.RETOMADA_PULADAS));
+        saida.print(texto(Mensagem.RETOMADA_PERGUNTA));
+        estado = EstadoSessao.RETOMAR;
+    }
+
+    private void tratarRetomada(String linha) {
+        if (linha.trim().equalsIgnoreCase(texto(Mensagem.NAO))) {
+            if (progresso != null) {
+                progresso.remover(usuario.getNome(), topicoEscolhido);
+            }
+            exercicio = null;
+            exibirEscolhaOrdem();
+            return;
+        }
+        iniciarExercicios();
+    }
+
+    private void tratarOrdem(String linha) {
+        String modo;
+        switch (lerOpcao(linha)) {
+            case 1: modo = "embaralhadas"; break;
+            case 2: modo = "crescente"; break;
+            case 3: modo = "decrescente"; break;
+            case -1:
+                saida.println(texto(Mensagem.ORDEM_ENTRADA_INVALIDA));
+                modo = "embaralhadas";
+                break;
+            default:
+                saida.println(texto(Mensagem.ORDEM_INVALIDA));
+                modo = "embaralhadas";
+        }
+        try {
+            exercicio = new ExercicioTopico(topicoEscolhido, usuario.getEstatisticas(), saida);
+            exercicio.setCatalogo(catalogo);
+            exercicio.aplicarOrdenacao(modo);
+            exercicio.carregarQuestoes();
+        } catch (QuestaoException e) {
+            exercicio = null;
+            saida.println(texto(Mensagem.ERRO_CARREGAR) + e.getMessage());
+            exibirMenuPrincipal();
+            return;
+        }
+        iniciarExercicios();
+    }
+
+    private void iniciarExercicios() {
+        saida.print(texto(Mensagem.INICIANDO_EXERCICIOS));
+        saida.print(exercicio.getTituloTopico().toUpperCase());
+        saida.println('!');
+        saida.print(texto(Mensagem.TOTAL_QUESTOES));
+        saida.println(QUESTOES_POR_TOPICO);
+        exercicio.marcarInicio();
+        exibirQuestao();
+    }
+
+    // Processa comandos de navegação ou resposta
+    // Os comandos são reconhecidos sobre a própria linha; só a resposta vira uma String nova
+    private void tratarQuestao(String linha) throws NavegacaoException {
+        if (ehComando(linha, "V", "VOLTAR")) {
+            if (exercicio.temQuestaoAnterior()) {
+                exercicio.voltar();
+            } else {
+                saida.println(texto(Mensagem.SEM_QUESTAO_ANTERIOR));
+            }
+            exibirQuestao();
+        } else if (ehComando(linha, "P", "PULAR")) {
+            exercicio.pularQuestao();
+            if (exercicio.temProximaQuestao()) {
+                exercicio.avancar();
+                salvarProgresso();
+                exibirQuestao();
+            } else {
+                concluirTopico(); // Última questão
+            }
+        } else if (ehComando(linha, "M", "MENU")) {
+            exercicio.irParaMenu();
+            usuario.pausarTopico(exercicio);
+            salvarProgresso();
+            exercicio = null;
+            saida.println(texto(Mensagem.PROGRESSO_SALVO));
+            exibirMenuPrincipal();
+        } else {
+            exercicio.responderAtual(linha.trim().toUpperCase());
+            saida.println();
+            saida.print(texto(Mensagem.ENTER_CONTINUAR));
+            estado = EstadoSessao.FEEDBACK;
+        }
+    }
+
+    // Avança após o feedback; conclui o tópico se era a última questão
+    private void proximaQuestao() throws NavegacaoException {
+        if (exercicio.temProximaQuestao()) {
+            exercicio.avancar();
+            salvarProgresso();
+            exibirQuestao();
+        } else {
+            concluirTopico();
+        }
+    }
+
+    // Ao final, mostra resumo do desempenho no tópico; não há mais o que retomar
+    private void concluirTopico() {
+        exercicio.marcarConclusao();
+        if (progresso != null) {
+            progresso.remover(usuario.getNome(), exercicio.getTituloTopico());
+        }
+        saida.println(exercicio.gerarResumoDesempenho());
+        saida.print(texto(Mensagem.TOPICO_CONCLUIDO));
+        saida.println(exercicio.getTituloTopico().toUpperCase());
+        saida.println();
+        saida.print(texto(Mensagem.ENTER_MENU));
+        exercicio = null;
+        estado = EstadoSessao.RESUMO;
+    }
+
+    private void tratarReinicio(String linha) {
+        if (linha.trim().equalsIgnoreCase(texto(Mensagem.SIM))) {
+            usuario.getEstatisticas().resetarEstatisticas();
+            saida.println(texto(Mensagem.REINICIAR_SUCESSO));
+        }
+        saida.println();
+        saida.print(texto(Mensagem.ENTER_CONTINUAR));
+        estado = EstadoSessao.AGUARDAR_ENTER;
+    }
+
+    private void encerrar() {
+        usuario.getEstatisticas().finalizar();
+        saida.print(texto(Mensagem.DESPEDIDA));
+        saida.print(usuario.getNome());
+        saida.println(texto(Mensagem.DESPEDIDA_FIM));
+        saida.println(texto(Mensagem.ATE_PROXIMA));
+        liberarNome();
+        estado = EstadoSessao.ENCERRADA;
+    }
+
+    private void liberarNome() {
+        if (progresso != null) {
+            progresso.liberar(usuario.getNome(), this);
+        }
+    }
+
+    // ---------------------------------------------
+    // Telas
+    // ---------------------------------------------
+
+    private void exibirCabecalho() {
+        saida.println();
+        saida.println(SEPARADOR_CABECALHO);
+        saida.println(texto(Mensagem.CABECALHO_TITULO));
+        saida.println(texto(Mensagem.CABECALHO_SUBTITULO));
+        saida.print(texto(Mensagem.CABECALHO_VERSAO));
+        saida.println(VERSAO_SISTEMA);
+        saida.println(SEPARADOR_CABECALHO);
+        saida.println(texto(Mensagem.CABECALHO_DESCRICAO));
+        saida.println(texto(Mensagem.CABECALHO_TOPICOS));
+        saida.println(SEPARADOR_CABECALHO);
+    }
+
+    private void exibirMenuPrincipal() {
+        if (!usuario.getEstatisticas().isSessaoAtiva()) {
+            usuario.getEstatisticas().iniciar();
+        }
+        saida.println();
+        saida.println(SEPARADOR_MENU);
+        saida.print(texto(Mensagem.MENU_TITULO));
+        saida.println(VERSAO_SISTEMA);
+        saida.print(texto(Mensagem.MENU_USUARIO));
+        saida.print(usuario.getNome());
+        saida.print(texto(Mensagem.MENU_TEMPO));
+        saida.println(usuario.getEstatisticas().getTempoSessaoFormatado());
+        saida.println(usuario.getEstatisticas().getEstatisticasResumo(catalogo));
+        saida.println(SEPARADOR_MENU);
+        saida.print(texto(Mensagem.MENU_SAUDACAO));
+        saida.print(usuario.getNome());
+        saida.println(texto(Mensagem.MENU_SAUDACAO_FIM));
+        saida.println();
+        saida.println(texto(Mensagem.MENU_OPCAO_JAVA));
+        saida.println(texto(Mensagem.MENU_OPCAO_ESTATISTICAS));
+        saida.println(texto(Mensagem.MENU_OPCAO_REINICIAR));
+        saida.println(texto(Mensagem.MENU_OPCAO_SAIR));
+        saida.println();
+        saida.print(texto(Mensagem.MENU_ESCOLHA));
+        MarcoInicializacao.registrarPrimeiroMenu();
+        estado = EstadoSessao.MENU_PRINCIPAL;
+    }
+
+    private void exibirMenuJava() {
+        saida.println();
+        saida.println(SEPARADOR_MENU_JAVA);
+        saida.println(texto(Mensagem.MENU_JAVA_TITULO));
+        saida.println(SEPARADOR_MENU_JAVA);
+        saida.println(texto(Mensagem.MENU_JAVA_ESCOLHA));
+        saida.println();
+        saida.println(texto(Mensagem.MENU_JAVA_ENCAPSULAMENTO));
+        saida.println(texto(Mensagem.MENU_JAVA_HERANCA));
+        saida.println(texto(Mensagem.MENU_JAVA_INTERFACE));
+        saida.println(texto(Mensagem.MENU_JAVA_POLIMORFISMO));
+        saida.println(texto(Mensagem.MENU_JAVA_ABSTRACAO));
+        saida.println(texto(Mensagem.MENU_JAVA_VOLTAR));
+        saida.println();
+        saida.print(texto(Mensagem.MENU_JAVA_OPCAO));
+        estado = EstadoSessao.MENU_JAVA;
+    }
+
+    private void exibirEscolhaOrdem() {
+        saida.println(texto(Mensagem.ORDEM_PERGUNTA));
+        saida.println(texto(Mensagem.ORDEM_EMBARALHADAS));
+        saida.println(texto(Mensagem.ORDEM_CRESCENTE));
+        saida.println(texto(Mensagem.ORDEM_DECRESCENTE));
+        saida.print(texto(Mensagem.ORDEM_ESCOLHA));
+        estado = EstadoSessao.ESCOLHER_ORDEM;
+    }
+
+    // Exibe a questão atual com a barra de progresso e os comandos disponíveis
+    private void exibirQuestao() {
+        Questao questaoAtual = exercicio.obterQuestaoAtual();
+        saida.println(exercicio.exibirQuestaoAtual());
+        MarcoInicializacao.registrarPrimeiraQuestao();
+        saida.print(texto(Mensagem.PROGRESSO));
+        saida.println(exercicio.exibirBarraProgresso());
+
+        saida.println(texto(Mensagem.DIGITE_RESPOSTA));
+        if (questaoAtual.getTipo() == TipoQuestao.MULTIPLA ||
+                questaoAtual.getTipo() == TipoQuestao.IDENTIFICAR_ERRO) {
+            saida.println(texto(Mensagem.DICA_LETRA));
+        }
+        saida.println(texto(Mensagem.COMANDOS));
+        if (exercicio.temQuestaoAnterior()) {
+            saida.println(texto(Mensagem.COMANDO_VOLTAR));
+        }
+        if (exercicio.temProximaQuestao()) {
+            saida.println(texto(Mensagem.COMANDO_PULAR));
+        }
+        saida.println(texto(Mensagem.COMANDO_MENU));
+        saida.print(texto(Mensagem.PROGRESSO_SESSAO));
+        saida.println(usuario.getEstatisticas().getEstatisticasResumo(catalogo));
+        saida.print(texto(Mensagem.SUA_ESCOLHA));
+        estado = EstadoSessao.QUESTAO;
+    }
+
+    private void exibirEstatisticas() {
+        saida.println(usuario.getEstatisticas().getResumo(catalogo));
+        saida.println(texto(Mensagem.ESTATISTICAS_DETALHADO));
+        saida.print(texto(Mensagem.ESTATISTICAS_PROGRESSO_GERAL));
+        numero.setLength(0);
+        saida.println(Formatacao.anexarUmaCasa(numero, usuario.getEstatisticas().getProgressoGeral()).append('%'));
+
+        int progressoGeral = (int) (usuario.getEstatisticas().getProgressoGeral() / 10);
+        saida.print(texto(Mensagem.ESTATISTICAS_TOPICOS));
+        for (int i = 0; i < 10; i++) {
+            saida.print(i < progressoGeral ? "█" : "░");
+        }
+        saida.print("] ");
+        saida.print(usuario.getEstatisticas().getTopicosEstudados().size());
+        saida.println(texto(Mensagem.ESTATISTICAS_TOPICOS_FIM));
+        saida.println();
+        saida.print(texto(Mensagem.ENTER_MENU));
+        estado = EstadoSessao.AGUARDAR_ENTER;
+    }
+
+    // ---------------------------------------------
+    // Auxiliares
+    // ---------------------------------------------
+
+    private String texto(Mensagem mensagem) {
+        return catalogo.get(mensagem);
+    }
+
+    private void salvarProgresso() {
+        if (progresso != null) {
+            progresso.salvar(usuario.getNome(), exercicio);
+        }
+    }
+
+    private boolean esperaNumero() {
+        return estado == EstadoSessao.MENU_PRINCIPAL || estado == EstadoSessao.MENU_JAVA
+                || estado == EstadoSessao.ESCOLHER_ORDEM;
+    }
+
+    // Linha (sem os espaços das pontas) igual a um dos comandos, sem diferenciar maiúsculas
+    private static boolean ehComando(String linha, String curto, String longo) {
+        int inicio = 0;
+        int fim = linha.length();
+        while (inicio < fim && linha.charAt(inicio) <= ' ') {
+            inicio++;
+        }
+        while (fim > inicio && linha.charAt(fim - 1) <= ' ') {
+            fim--;
+        }
+        int tamanho = fim - inicio;
+        return (tamanho == curto.length() && linha.regionMatches(true, inicio, curto, 0, tamanho))
+                || (tamanho == longo.length() && linha.regionMatches(true, inicio, longo, 0, tamanho));
+    }
+
+    // Número do primeiro token da linha (-1 se não for um número, como o InputMismatchException do Scanner)
+    private static int lerOpcao(String linha) {
+        int i = 0;
+        int fim = linha.length();
+        while (i < fim && Character.isWhitespace(linha.charAt(i))) {
+            i++;
+        }
+        int valor = 0;
+        int digitos = 0;
+        for (; i < fim && !Character.isWhitespace(linha.charAt(i)); i++) {
+            char c = linha.charAt(i);
+            if (c < '0' || c > '9' || ++digitos > 9) {
+                return -1;
+            }
+            valor = valor * 10 + (c - '0');
+        }
+        return digitos == 0 ? -1 : valor;
+    }
+}
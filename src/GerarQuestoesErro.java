@@ -0,0 +1,59 @@
+// =============================================
+// Classe GerarQuestoesErro
+// Ferramenta de linha de comando do GeradorMutacoes
+// Lê trechos de código correto separados por linhas "---"
+// e imprime as questões de identificar erro geradas
+// Uso: java GerarQuestoesErro <trechos.txt> [cache.txt]
+// =============================================
+
+import Exceptions.QuestaoException;
+import Questoes.GeradorMutacoes;
+import Questoes.Questao;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+public class GerarQuestoesErro {
+    public static void main(String[] args) throws IOException, QuestaoException {
+        if (args.length < 1) {
+            System.out.println("Uso: java GerarQuestoesErro <trechos.txt> [cache.txt]");
+            return;
+        }
+        List<String> trechos = new ArrayList<>();
+        StringBuilder atual = new StringBuilder();
+        for (String linha : Files.readAllLines(Path.of(args[0]), StandardCharsets.UTF_8)) {
+            if (linha.trim().equals("---")) {
+                adicionarTrecho(trechos, atual);
+            } else {
+                atual.append(linha).append('\n');
+            }
+        }
+        adicionarTrecho(trechos, atual);
+
+        Path cache = Path.of(args.length > 1 ? args[1] : "cache-mutacoes.txt");
+        long inicio = System.nanoTime();
+        GeradorMutacoes gerador = new GeradorMutacoes(cache);
+        List<Questao> questoes = gerador.gerar(trechos);
+        long ms = (System.nanoTime() - inicio) / 1_000_000;
+
+        for (Questao questao : questoes) {
+            System.out.println(questao.exibirQuestao());
+            System.out.println("Resposta: " + questao.getCorreta() + " | " + questao.getExplicacao());
+        }
+        System.out.println("\n✅ " + questoes.size() + " questões geradas de " + trechos.size()
+                + " trechos em " + ms + " ms (cache: " + gerador.getTamanhoCache() + " entradas, "
+                + gerador.getCompilacoes() + " compilações)");
+    }
+
+    private static void adicionarTrecho(List<String> trechos, StringBuilder atual) {
+        String trecho = atual.toString().trim();
+        if (!trecho.isEmpty()) {
+            trechos.add(trecho);
+        }
+        atual.setLength(0);
+    }
+}
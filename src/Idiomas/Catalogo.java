@@ -0,0 +1,68 @@
+// =============================================
+// Classe Catalogo
+// Textos de um idioma já resolvidos em um vetor plano,
+// indexado pelo ordinal de Mensagem: a consulta na
+// renderização é um acesso a vetor, sem hash nem formatação
+// Os catálogos são montados uma vez e compartilhados; trocar
+// o idioma de uma sessão é apenas trocar a referência
+// =============================================
+
+package Idiomas;
+
+public final class Catalogo {
+    public static final Catalogo PT_BR = new Catalogo("pt_BR", TextosPtBr.getConteudo(), null);
+    public static final Catalogo EN = new Catalogo("en", TextosEn.getConteudo(), PT_BR);
+    public static final Catalogo PADRAO = PT_BR;
+
+    private static final Catalogo[] DISPONIVEIS = {PT_BR, EN};
+
+    private final String codigo;
+    private final String[] textos;
+
+    // Mensagens que faltarem no idioma usam o catálogo reserva; sem reserva, é erro
+    private Catalogo(String codigo, Object[][] conteudo, Catalogo reserva) {
+        this.codigo = codigo;
+        this.textos = new String[Mensagem.values().length];
+        for (Object[] par : conteudo) {
+            textos[((Mensagem) par[0]).ordinal()] = ((String) par[1]).intern();
+        }
+        for (Mensagem mensagem : Mensagem.values()) {
+            int i = mensagem.ordinal();
+            if (textos[i] == null) {
+                if (reserva == null) {
+                    throw new IllegalStateException("Texto ausente no idioma " + codigo + ": " + mensagem);
+                }
+                textos[i] = reserva.textos[i];
+            }
+        }
+    }
+
+    public String get(Mensagem mensagem) {
+        return textos[mensagem.ordinal()];
+    }
+
+    public String getCodigo() {
+        return codigo;
+    }
+
+    // Aceita "pt_BR", "pt-BR", "pt", "en", "en_US"...; desconhecidos usam o padrão
+    public static Catalogo porCodigo(String codigo) {
+        if (codigo == null) {
+            return PADRAO;
+        }
+        String normalizado = codigo.trim().replace('-', '_');
+        for (Catalogo catalogo : DISPONIVEIS) {
+            if (catalogo.codigo.equalsIgnoreCase(normalizado)) {
+                return catalogo;
+            }
+        }
+        int sep = normalizado.indexOf('_');
+        String lingua = sep > 0 ? normalizado.substring(0, sep) : normalizado;
+        for (Catalogo catalogo : DISPONIVEIS) {
+            if (catalogo.codigo.split("_")[0].equalsIgnoreCase(lingua)) {
+                return catalogo;
+            }
+        }
+        return PADRAO;
+    }
+}
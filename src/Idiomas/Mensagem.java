@@ -0,0 +1,172 @@
+// =============================================
+// Enum Mensagem
+// Identificadores de todos os textos da interface
+// O ordinal de cada constante é a posição do texto
+// no vetor de cada Catalogo (consulta por índice)
+// =============================================
+
+package Idiomas;
+
+public enum Mensagem {
+    // Cabeçalho e sessão
+    CABECALHO_TITULO,
+    CABECALHO_SUBTITULO,
+    CABECALHO_VERSAO,
+    CABECALHO_DESCRICAO,
+    CABECALHO_TOPICOS,
+    PEDIR_NOME,
+    NOME_VAZIO,
+    NOME_EM_USO,
+    BEM_VINDO,
+    BEM_VINDO_FIM,
+    DESPEDIDA,
+    DESPEDIDA_FIM,
+    ATE_PROXIMA,
+
+    // Menu principal
+    MENU_TITULO,
+    MENU_USUARIO,
+    MENU_TEMPO,
+    MENU_SAUDACAO,
+    MENU_SAUDACAO_FIM,
+    MENU_OPCAO_JAVA,
+    MENU_OPCAO_ESTATISTICAS,
+    MENU_OPCAO_REINICIAR,
+    MENU_OPCAO_SAIR,
+    MENU_ESCOLHA,
+    MENU_OPCAO_INVALIDA,
+    APENAS_NUMEROS,
+
+    // Menu de tópicos
+    MENU_JAVA_TITULO,
+    MENU_JAVA_ESCOLHA,
+    MENU_JAVA_ENCAPSULAMENTO,
+    MENU_JAVA_HERANCA,
+    MENU_JAVA_INTERFACE,
+    MENU_JAVA_POLIMORFISMO,
+    MENU_JAVA_ABSTRACAO,
+    MENU_JAVA_VOLTAR,
+    MENU_JAVA_OPCAO,
+    MENU_JAVA_OPCAO_INVALIDA,
+
+    // Erros
+    ERRO_CARREGAR,
+    ERRO_NAVEGACAO,
+    ERRO_QUESTAO,
+    ERRO_INESPERADO,
+
+    // Retomada e ordenação
+    RETOMADA_PAROU,
+    RETOMADA_RESPONDIDAS,
+    RETOMADA_PULADAS,
+    RETOMADA_PERGUNTA,
+    ORDEM_PERGUNTA,
+    ORDEM_EMBARALHADAS,
+    ORDEM_CRESCENTE,
+    ORDEM_DECRESCENTE,
+    ORDEM_ESCOLHA,
+    ORDEM_INVALIDA,
+    ORDEM_ENTRADA_INVALIDA,
+    ORDENANDO,
+    ORDENANDO_FIM,
+    ORDENADAS,
+
+    // Tela da questão e comandos
+    INICIANDO_EXERCICIOS,
+    TOTAL_QUESTOES,
+    PROGRESSO,
+    DIGITE_RESPOSTA,
+    DICA_LETRA,
+    COMANDOS,
+    COMANDO_VOLTAR,
+    COMANDO_PULAR,
+    COMANDO_MENU,
+    PROGRESSO_SESSAO,
+    SUA_ESCOLHA,
+    SEM_QUESTAO_ANTERIOR,
+    PROGRESSO_SALVO,
+    ENTER_CONTINUAR,
+    ENTER_MENU,
+    TOPICO_CONCLUIDO,
+
+    // Avaliação da resposta
+    CORRETO,
+    INCORRETO,
+    RESPOSTA_CORRETA,
+    EXPLICACAO,
+    JA_RESPONDIDA,
+    QUESTAO_PULADA,
+
+    // Resumo do tópico
+    RESUMO_TITULO,
+    RESUMO_QUESTOES,
+    RESUMO_PROGRESSO,
+    RESUMO_MODO,
+    RESUMO_ACERTOS,
+    RESUMO_ERROS,
+    RESUMO_PULADAS,
+    RESUMO_SEM_RESPOSTA,
+    RESUMO_MAPA,
+    RESUMO_LEGENDA,
+
+    // Estatísticas e reinício
+    ESTATISTICAS_DETALHADO,
+    ESTATISTICAS_PROGRESSO_GERAL,
+    ESTATISTICAS_TOPICOS,
+    ESTATISTICAS_TOPICOS_FIM,
+    ESTATISTICAS_TITULO,
+    ESTATISTICAS_RESPONDIDAS,
+    ESTATISTICAS_ACERTOS,
+    ESTATISTICAS_ERROS,
+    ESTATISTICAS_PULOS,
+    ESTATISTICAS_PERCENTUAL,
+    ESTATISTICAS_TEMPO_SESSAO,
+    ESTATISTICAS_SEGUNDOS,
+    ESTATISTICAS_TOPICOS_ESTUDADOS,
+    ESTATISTICAS_LISTA_TOPICOS,
+    ESTATISTICAS_TEMPO_QUESTAO,
+    ESTATISTICAS_MAIS_LENTAS,
+    ESTATISTICAS_MEDIA_TOPICO,
+    ESTATISTICAS_QUESTAO,
+    ESTATISTICAS_QUESTOES,
+    LINHA_QUESTOES,
+    LINHA_ACERTOS,
+    LINHA_ERROS,
+    LINHA_PULOS,
+    LINHA_TEMPO,
+    LINHA_TOPICOS,
+    REINICIAR_CONFIRMA,
+    REINICIAR_SUCESSO,
+    SIM,
+    NAO,
+
+    // Questões
+    QUESTAO_CABECALHO,
+    CODIGO_COMPLETAR,
+    DICA_COMPLETAR,
+    EXEMPLO_COMPLETAR,
+    CODIGO_COM_ERRO,
+    DICA_FACIL,
+    DICA_MEDIO,
+    DICA_DIFICIL,
+    DICA_PADRAO,
+
+    // Descrições dos enums
+    NIVEL_FACIL,
+    NIVEL_MEDIO,
+    NIVEL_DIFICIL,
+    TIPO_MULTIPLA,
+    TIPO_COMPLETAR,
+    TIPO_IDENTIFICAR_ERRO,
+
+    // Sala ao vivo
+    SALA_BOAS_VINDAS,
+    SALA_AGUARDE,
+    SALA_SUA_RESPOSTA,
+    SALA_RESPOSTA_REGISTRADA,
+    SALA_JA_RESPONDEU,
+    SALA_SEM_QUESTAO,
+    SALA_RESPOSTA_INVALIDA,
+    SALA_RESULTADO,
+    SALA_ENCERRADA
+}
@@ -0,0 +1,166 @@
+// =============================================
+// Classe TextosEn
+// Textos da interface em inglês
+// Mensagens ausentes caem no texto em português
+// =============================================
+
+package Idiomas;
+
+final class TextosEn {
+    private TextosEn() {
+    }
+
+    static Object[][] getConteudo() {
+        return new Object[][]{
+                {Mensagem.CABECALHO_TITULO, "            🎓 PROGRAMMING LEARNING SYSTEM 🎓"},
+                {Mensagem.CABECALHO_SUBTITULO, "               Java - Object-Oriented Programming"},
+                {Mensagem.CABECALHO_VERSAO, "                      Version "},
+                {Mensagem.CABECALHO_DESCRICAO, "📚 Learn the fundamental OOP concepts interactively!"},
+                {Mensagem.CABECALHO_TOPICOS, "🎯 Topics: Encapsulation | Inheritance | Interface | Polymorphism | Abstraction"},
+                {Mensagem.PEDIR_NOME, "Enter your name to start: "},
+                {Mensagem.NOME_VAZIO, "Name cannot be empty. Enter your name: "},
+                {Mensagem.NOME_EM_USO, "There is already an active session with that name. Enter another name: "},
+                {Mensagem.BEM_VINDO, "\n🎉 Welcome, "},
+                {Mensagem.BEM_VINDO_FIM, "! Let's learn Object-Oriented Programming together!"},
+                {Mensagem.DESPEDIDA, "\n👋 Thank you for using the Learning System, "},
+                {Mensagem.DESPEDIDA_FIM, "!"},
+                {Mensagem.ATE_PROXIMA, "See you at the next study session!"},
+
+                {Mensagem.MENU_TITULO, "  PROGRAMMING LEARNING SYSTEM v"},
+                {Mensagem.MENU_USUARIO, "  User: "},
+                {Mensagem.MENU_TEMPO, " | Time: "},
+                {Mensagem.MENU_SAUDACAO, "Hello, "},
+                {Mensagem.MENU_SAUDACAO_FIM, "! What would you like to do today?"},
+                {Mensagem.MENU_OPCAO_JAVA, "1. 📚 Learn Java (OOP)"},
+                {Mensagem.MENU_OPCAO_ESTATISTICAS, "2. 📊 View Statistics"},
+                {Mensagem.MENU_OPCAO_REINICIAR, "3. 🔄 Reset Progress"},
+                {Mensagem.MENU_OPCAO_SAIR, "4. 🚪 Exit"},
+                {Mensagem.MENU_ESCOLHA, "Choose an option (1-4): "},
+                {Mensagem.MENU_OPCAO_INVALIDA, "❌ Invalid option! Choose between 1-4."},
+                {Mensagem.APENAS_NUMEROS, "❌ Numbers only!"},
+
+                {Mensagem.MENU_JAVA_TITULO, "        MODULE: LEARN JAVA (OOP)"},
+                {Mensagem.MENU_JAVA_ESCOLHA, "Choose the topic you want to study:"},
+                {Mensagem.MENU_JAVA_ENCAPSULAMENTO, "1. 📚 Encapsulation"},
+                {Mensagem.MENU_JAVA_HERANCA, "2. 📚 Inheritance"},
+                {Mensagem.MENU_JAVA_INTERFACE, "3. 📚 Interface"},
+                {Mensagem.MENU_JAVA_POLIMORFISMO, "4. 📚 Polymorphism"},
+                {Mensagem.MENU_JAVA_ABSTRACAO, "5. 📚 Abstraction"},
+                {Mensagem.MENU_JAVA_VOLTAR, "6. ↩️  Back to Main Menu"},
+                {Mensagem.MENU_JAVA_OPCAO, "Choose an option (1-6): "},
+                {Mensagem.MENU_JAVA_OPCAO_INVALIDA, "❌ Invalid option! Choose between 1-6."},
+
+                {Mensagem.ERRO_CARREGAR, "❌ Error loading questions: "},
+                {Mensagem.ERRO_NAVEGACAO, "❌ Navigation error: "},
+                {Mensagem.ERRO_QUESTAO, "❌ Question error: "},
+                {Mensagem.ERRO_INESPERADO, "❌ Unexpected error: "},
+
+                {Mensagem.RETOMADA_PAROU, "\n⏸️  You stopped at question "},
+                {Mensagem.RETOMADA_RESPONDIDAS, " answered, "},
+                {Mensagem.RETOMADA_PULADAS, " skipped)."},
+                {Mensagem.RETOMADA_PERGUNTA, "Continue where you left off? (Y/N): "},
+                {Mensagem.ORDEM_PERGUNTA, "\n📋 How should the questions be ordered?"},
+                {Mensagem.ORDEM_EMBARALHADAS, "1. 🔀 Shuffled (random order)"},
+                {Mensagem.ORDEM_CRESCENTE, "2. ⬆️  Ascending (easy → hard)"},
+                {Mensagem.ORDEM_DECRESCENTE, "3. ⬇️  Descending (hard → easy)"},
+                {Mensagem.ORDEM_ESCOLHA, "Choose (1-3): "},
+                {Mensagem.ORDEM_INVALIDA, "⚠️  Invalid option. Using random order."},
+                {Mensagem.ORDEM_ENTRADA_INVALIDA, "⚠️  Invalid input. Using random order."},
+                {Mensagem.ORDENANDO, "\n🔄 Ordering questions ("},
+                {Mensagem.ORDENANDO_FIM, ")..."},
+                {Mensagem.ORDENADAS, "✅ Questions ordered successfully!\n"},
+
+                {Mensagem.INICIANDO_EXERCICIOS, "\n🎯 Starting exercises on "},
+                {Mensagem.TOTAL_QUESTOES, "Total questions: "},
+                {Mensagem.PROGRESSO, "\nProgress: "},
+                {Mensagem.DIGITE_RESPOSTA, "\n📝 Type your answer or choose an option:"},
+                {Mensagem.DICA_LETRA, "💡 For multiple choice, type the letter (A, B, C, D)"},
+                {Mensagem.COMANDOS, "⌨️  Special commands:"},
+                {Mensagem.COMANDO_VOLTAR, "   'V' - Go back to the previous question"},
+                {Mensagem.COMANDO_PULAR, "   'P' - Skip the current question"},
+                {Mensagem.COMANDO_MENU, "   'M' - Back to the menu"},
+                {Mensagem.PROGRESSO_SESSAO, "\nSession progress: "},
+                {Mensagem.SUA_ESCOLHA, "\nYour choice: "},
+                {Mensagem.SEM_QUESTAO_ANTERIOR, "❌ There is no previous question!"},
+                {Mensagem.PROGRESSO_SALVO, "💾 Progress saved! Choose the same topic to continue."},
+                {Mensagem.ENTER_CONTINUAR, "Press ENTER to continue..."},
+                {Mensagem.ENTER_MENU, "Press ENTER to return to the menu..."},
+                {Mensagem.TOPICO_CONCLUIDO, "\n🎉 Congratulations! You finished the topic: "},
+
+                {Mensagem.CORRETO, "\n✅ CORRECT! Well done!"},
+                {Mensagem.INCORRETO, "\n❌ INCORRECT!"},
+                {Mensagem.RESPOSTA_CORRETA, "Correct answer: "},
+                {Mensagem.EXPLICACAO, "Explanation: "},
+                {Mensagem.JA_RESPONDIDA, "ℹ️  Question already answered: the first answer counts."},
+                {Mensagem.QUESTAO_PULADA, "\n⏭️ Question skipped!"},
+
+                {Mensagem.RESUMO_TITULO, "    TOPIC SUMMARY: "},
+                {Mensagem.RESUMO_QUESTOES, "Questions in topic: "},
+                {Mensagem.RESUMO_PROGRESSO, "Current progress: "},
+                {Mensagem.RESUMO_MODO, "Ordering mode: "},
+                {Mensagem.RESUMO_ACERTOS, "Correct: "},
+                {Mensagem.RESUMO_ERROS, " | Wrong: "},
+                {Mensagem.RESUMO_PULADAS, " | Skipped: "},
+                {Mensagem.RESUMO_SEM_RESPOSTA, " | Unanswered: "},
+                {Mensagem.RESUMO_MAPA, "Questions: ["},
+                {Mensagem.RESUMO_LEGENDA, "]  (✔ correct, ✘ wrong, » skipped, · unanswered)\n"},
+
+                {Mensagem.ESTATISTICAS_DETALHADO, "\n📈 DETAILED PROGRESS:"},
+                {Mensagem.ESTATISTICAS_PROGRESSO_GERAL, "Overall progress: "},
+                {Mensagem.ESTATISTICAS_TOPICOS, "Topics: ["},
+                {Mensagem.ESTATISTICAS_TOPICOS_FIM, "/5 topics"},
+                {Mensagem.ESTATISTICAS_TITULO, "         SESSION STATISTICS"},
+                {Mensagem.ESTATISTICAS_RESPONDIDAS, "Questions answered: "},
+                {Mensagem.ESTATISTICAS_ACERTOS, "Correct: "},
+                {Mensagem.ESTATISTICAS_ERROS, "Wrong: "},
+                {Mensagem.ESTATISTICAS_PULOS, "Skipped: "},
+                {Mensagem.ESTATISTICAS_PERCENTUAL, "Accuracy: "},
+                {Mensagem.ESTATISTICAS_TEMPO_SESSAO, "Session time: "},
+                {Mensagem.ESTATISTICAS_SEGUNDOS, " seconds"},
+                {Mensagem.ESTATISTICAS_TOPICOS_ESTUDADOS, "Topics studied: "},
+                {Mensagem.ESTATISTICAS_LISTA_TOPICOS, "Topics: "},
+                {Mensagem.ESTATISTICAS_TEMPO_QUESTAO, "Time per question: mean "},
+                {Mensagem.ESTATISTICAS_MAIS_LENTAS, "Slowest questions:"},
+                {Mensagem.ESTATISTICAS_MEDIA_TOPICO, "Mean per topic:"},
+                {Mensagem.ESTATISTICAS_QUESTAO, " question"},
+                {Mensagem.ESTATISTICAS_QUESTOES, " questions"},
+                {Mensagem.LINHA_QUESTOES, "Questions: "},
+                {Mensagem.LINHA_ACERTOS, " | Correct: "},
+                {Mensagem.LINHA_ERROS, " | Wrong: "},
+                {Mensagem.LINHA_PULOS, " | Skipped: "},
+                {Mensagem.LINHA_TEMPO, " | Time: "},
+                {Mensagem.LINHA_TOPICOS, " | Topics: "},
+                {Mensagem.REINICIAR_CONFIRMA, "\n⚠️ Are you sure you want to reset all progress? (Y/N): "},
+                {Mensagem.REINICIAR_SUCESSO, "\n✅ Progress reset successfully!"},
+                {Mensagem.SIM, "Y"},
+                {Mensagem.NAO, "N"},
+
+                {Mensagem.QUESTAO_CABECALHO, "QUESTION ["},
+                {Mensagem.CODIGO_COMPLETAR, "CODE TO COMPLETE:\n"},
+                {Mensagem.DICA_COMPLETAR, "💡 Tip: Complete the code with the right word or expression\n"},
+                {Mensagem.EXEMPLO_COMPLETAR, "📝 Example: if you see ______, type only the word that goes there"},
+                {Mensagem.CODIGO_COM_ERRO, "CODE WITH AN ERROR:\n"},
+                {Mensagem.DICA_FACIL, "💡 Tip: Think of the basic keyword related to the concept"},
+                {Mensagem.DICA_MEDIO, "💡 Tip: Consider the correct Java syntax"},
+                {Mensagem.DICA_DIFICIL, "💡 Tip: Analyze the whole code context"},
+                {Mensagem.DICA_PADRAO, "💡 Take your time and review the concepts"},
+
+                {Mensagem.NIVEL_FACIL, "Easy"},
+                {Mensagem.NIVEL_MEDIO, "Medium"},
+                {Mensagem.NIVEL_DIFICIL, "Hard"},
+                {Mensagem.TIPO_MULTIPLA, "Multiple Choice"},
+                {Mensagem.TIPO_COMPLETAR, "Complete the Code"},
+                {Mensagem.TIPO_IDENTIFICAR_ERRO, "Find the Error"},
+
+                {Mensagem.SALA_BOAS_VINDAS, "🏫 Live classroom - enter your name: "},
+                {Mensagem.SALA_AGUARDE, "⏳ Connected! Wait for the teacher's question."},
+                {Mensagem.SALA_SUA_RESPOSTA, "Your answer (A-D): "},
+                {Mensagem.SALA_RESPOSTA_REGISTRADA, "📨 Answer recorded: "},
+                {Mensagem.SALA_JA_RESPONDEU, "⚠️ You have already answered this question."},
+                {Mensagem.SALA_SEM_QUESTAO, "⏳ No question is open right now."},
+                {Mensagem.SALA_RESPOSTA_INVALIDA, "❌ Answer with a letter from A to D: "},
+                {Mensagem.SALA_RESULTADO, "📊 Class results - correct answer: "},
+                {Mensagem.SALA_ENCERRADA, "👋 The classroom was closed. See you next class!"}
+        };
+    }
+}
@@ -0,0 +1,166 @@
+// =============================================
+// Classe TextosPtBr
+// Textos da interface em português (idioma padrão)
+// Pares (Mensagem, texto) lidos uma única vez pelo Catalogo
+// =============================================
+
+package Idiomas;
+
+final class TextosPtBr {
+    private TextosPtBr() {
+    }
+
+    static Object[][] getConteudo() {
+        return new Object[][]{
+                {Mensagem.CABECALHO_TITULO, "            🎓 SISTEMA DE APRENDIZADO DE PROGRAMAÇÃO 🎓"},
+                {Mensagem.CABECALHO_SUBTITULO, "               Java - Programação Orientada a Objetos"},
+                {Mensagem.CABECALHO_VERSAO, "                      Versão "},
+                {Mensagem.CABECALHO_DESCRICAO, "📚 Aprenda os conceitos fundamentais de POO de forma interativa!"},
+                {Mensagem.CABECALHO_TOPICOS, "🎯 Tópicos: Encapsulamento | Herança | Interface | Polimorfismo | Abstração"},
+                {Mensagem.PEDIR_NOME, "Digite seu nome para iniciar: "},
+                {Mensagem.NOME_VAZIO, "Nome não pode estar vazio. Digite seu nome: "},
+                {Mensagem.NOME_EM_USO, "Já há uma sessão ativa com esse nome. Digite outro nome: "},
+                {Mensagem.BEM_VINDO, "\n🎉 Bem-vindo(a), "},
+                {Mensagem.BEM_VINDO_FIM, "! Vamos aprender Programação Orientada a Objetos juntos!"},
+                {Mensagem.DESPEDIDA, "\n👋 Obrigado por usar o Sistema de Aprendizado, "},
+                {Mensagem.DESPEDIDA_FIM, "!"},
+                {Mensagem.ATE_PROXIMA, "Até a próxima sessão de estudos!"},
+
+                {Mensagem.MENU_TITULO, "  SISTEMA DE APRENDIZADO DE PROGRAMAÇÃO v"},
+                {Mensagem.MENU_USUARIO, "  Usuário: "},
+                {Mensagem.MENU_TEMPO, " | Tempo: "},
+                {Mensagem.MENU_SAUDACAO, "Olá, "},
+                {Mensagem.MENU_SAUDACAO_FIM, "! O que deseja fazer hoje?"},
+                {Mensagem.MENU_OPCAO_JAVA, "1. 📚 Aprender Java (POO)"},
+                {Mensagem.MENU_OPCAO_ESTATISTICAS, "2. 📊 Consultar Estatísticas"},
+                {Mensagem.MENU_OPCAO_REINICIAR, "3. 🔄 Reiniciar Progresso"},
+                {Mensagem.MENU_OPCAO_SAIR, "4. 🚪 Sair do Sistema"},
+                {Mensagem.MENU_ESCOLHA, "Escolha uma opção (1-4): "},
+                {Mensagem.MENU_OPCAO_INVALIDA, "❌ Opção inválida! Escolha entre 1-4."},
+                {Mensagem.APENAS_NUMEROS, "❌ Digite apenas números!"},
+
+                {Mensagem.MENU_JAVA_TITULO, "        MÓDULO: APRENDER JAVA (POO)"},
+                {Mensagem.MENU_JAVA_ESCOLHA, "Escolha o tópico que deseja estudar:"},
+                {Mensagem.MENU_JAVA_ENCAPSULAMENTO, "1. 📚 Encapsulamento"},
+                {Mensagem.MENU_JAVA_HERANCA, "2. 📚 Herança"},
+                {Mensagem.MENU_JAVA_INTERFACE, "3. 📚 Interface"},
+                {Mensagem.MENU_JAVA_POLIMORFISMO, "4. 📚 Polimorfismo"},
+                {Mensagem.MENU_JAVA_ABSTRACAO, "5. 📚 Abstração"},
+                {Mensagem.MENU_JAVA_VOLTAR, "6. ↩️  Voltar ao Menu Principal"},
+                {Mensagem.MENU_JAVA_OPCAO, "Escolha uma opção (1-6): "},
+                {Mensagem.MENU_JAVA_OPCAO_INVALIDA, "❌ Opção inválida! Escolha entre 1-6."},
+
+                {Mensagem.ERRO_CARREGAR, "❌ Erro ao carregar questões: "},
+                {Mensagem.ERRO_NAVEGACAO, "❌ Erro de navegação: "},
+                {Mensagem.ERRO_QUESTAO, "❌ Erro na questão: "},
+                {Mensagem.ERRO_INESPERADO, "❌ Erro inesperado: "},
+
+                {Mensagem.RETOMADA_PAROU, "\n⏸️  Você parou na questão "},
+                {Mensagem.RETOMADA_RESPONDIDAS, " respondidas, "},
+                {Mensagem.RETOMADA_PULADAS, " puladas)."},
+                {Mensagem.RETOMADA_PERGUNTA, "Deseja continuar de onde parou? (S/N): "},
+                {Mensagem.ORDEM_PERGUNTA, "\n📋 Como deseja organizar as questões?"},
+                {Mensagem.ORDEM_EMBARALHADAS, "1. 🔀 Embaralhadas (ordem aleatória)"},
+                {Mensagem.ORDEM_CRESCENTE, "2. ⬆️  Crescente (fácil → difícil)"},
+                {Mensagem.ORDEM_DECRESCENTE, "3. ⬇️  Decrescente (difícil → fácil)"},
+                {Mensagem.ORDEM_ESCOLHA, "Escolha (1-3): "},
+                {Mensagem.ORDEM_INVALIDA, "⚠️  Opção inválida. Usando ordem aleatória."},
+                {Mensagem.ORDEM_ENTRADA_INVALIDA, "⚠️  Entrada inválida. Usando ordem aleatória."},
+                {Mensagem.ORDENANDO, "\n🔄 Ordenando questões ("},
+                {Mensagem.ORDENANDO_FIM, ")..."},
+                {Mensagem.ORDENADAS, "✅ Questões ordenadas com sucesso!\n"},
+
+                {Mensagem.INICIANDO_EXERCICIOS, "\n🎯 Iniciando exercícios de "},
+                {Mensagem.TOTAL_QUESTOES, "Total de questões: "},
+                {Mensagem.PROGRESSO, "\nProgresso: "},
+                {Mensagem.DIGITE_RESPOSTA, "\n📝 Digite sua resposta ou escolha uma opção:"},
+                {Mensagem.DICA_LETRA, "💡 Para múltipla escolha, digite a letra (A, B, C, D)"},
+                {Mensagem.COMANDOS, "⌨️  Comandos especiais:"},
+                {Mensagem.COMANDO_VOLTAR, "   'V' ou 'VOLTAR' - Voltar questão anterior"},
+                {Mensagem.COMANDO_PULAR, "   'P' ou 'PULAR' - Pular questão atual"},
+                {Mensagem.COMANDO_MENU, "   'M' ou 'MENU' - Voltar ao menu"},
+                {Mensagem.PROGRESSO_SESSAO, "\nProgresso da sessão: "},
+                {Mensagem.SUA_ESCOLHA, "\nSua escolha: "},
+                {Mensagem.SEM_QUESTAO_ANTERIOR, "❌ Não há questão anterior!"},
+                {Mensagem.PROGRESSO_SALVO, "💾 Progresso salvo! Escolha o mesmo tópico para continuar."},
+                {Mensagem.ENTER_CONTINUAR, "Pressione ENTER para continuar..."},
+                {Mensagem.ENTER_MENU, "Pressione ENTER para voltar ao menu..."},
+                {Mensagem.TOPICO_CONCLUIDO, "\n🎉 Parabéns! Você concluiu o tópico: "},
+
+                {Mensagem.CORRETO, "\n✅ CORRETO! Parabéns!"},
+                {Mensagem.INCORRETO, "\n❌ INCORRETO!"},
+                {Mensagem.RESPOSTA_CORRETA, "Resposta correta: "},
+                {Mensagem.EXPLICACAO, "Explicação: "},
+                {Mensagem.JA_RESPONDIDA, "ℹ️  Questão já respondida: vale a primeira resposta."},
+                {Mensagem.QUESTAO_PULADA, "\n⏭️ Questão pulada!"},
+
+                {Mensagem.RESUMO_TITULO, "    RESUMO DO TÓPICO: "},
+                {Mensagem.RESUMO_QUESTOES, "Questões no tópico: "},
+                {Mensagem.RESUMO_PROGRESSO, "Progresso atual: "},
+                {Mensagem.RESUMO_MODO, "Modo de ordenação: "},
+                {Mensagem.RESUMO_ACERTOS, "Acertos: "},
+                {Mensagem.RESUMO_ERROS, " | Erros: "},
+                {Mensagem.RESUMO_PULADAS, " | Puladas: "},
+                {Mensagem.RESUMO_SEM_RESPOSTA, " | Sem resposta: "},
+                {Mensagem.RESUMO_MAPA, "Questões: ["},
+                {Mensagem.RESUMO_LEGENDA, "]  (✔ acerto, ✘ erro, » pulada, · sem resposta)\n"},
+
+                {Mensagem.ESTATISTICAS_DETALHADO, "\n📈 PROGRESSO DETALHADO:"},
+                {Mensagem.ESTATISTICAS_PROGRESSO_GERAL, "Progresso geral: "},
+                {Mensagem.ESTATISTICAS_TOPICOS, "Tópicos: ["},
+                {Mensagem.ESTATISTICAS_TOPICOS_FIM, "/5 tópicos"},
+                {Mensagem.ESTATISTICAS_TITULO, "         ESTATÍSTICAS DA SESSÃO"},
+                {Mensagem.ESTATISTICAS_RESPONDIDAS, "Questões respondidas: "},
+                {Mensagem.ESTATISTICAS_ACERTOS, "Acertos: "},
+                {Mensagem.ESTATISTICAS_ERROS, "Erros: "},
+                {Mensagem.ESTATISTICAS_PULOS, "Pulos: "},
+                {Mensagem.ESTATISTICAS_PERCENTUAL, "Percentual de acertos: "},
+                {Mensagem.ESTATISTICAS_TEMPO_SESSAO, "Tempo de sessão: "},
+                {Mensagem.ESTATISTICAS_SEGUNDOS, " segundos"},
+                {Mensagem.ESTATISTICAS_TOPICOS_ESTUDADOS, "Tópicos estudados: "},
+                {Mensagem.ESTATISTICAS_LISTA_TOPICOS, "Tópicos: "},
+                {Mensagem.ESTATISTICAS_TEMPO_QUESTAO, "Tempo por questão: média "},
+                {Mensagem.ESTATISTICAS_MAIS_LENTAS, "Questões mais lentas:"},
+                {Mensagem.ESTATISTICAS_MEDIA_TOPICO, "Média por tópico:"},
+                {Mensagem.ESTATISTICAS_QUESTAO, " questão"},
+                {Mensagem.ESTATISTICAS_QUESTOES, " questões"},
+                {Mensagem.LINHA_QUESTOES, "Questões: "},
+                {Mensagem.LINHA_ACERTOS, " | Acertos: "},
+                {Mensagem.LINHA_ERROS, " | Erros: "},
+                {Mensagem.LINHA_PULOS, " | Pulos: "},
+                {Mensagem.LINHA_TEMPO, " | Tempo: "},
+                {Mensagem.LINHA_TOPICOS, " | Tópicos: "},
+                {Mensagem.REINICIAR_CONFIRMA, "\n⚠️ Tem certeza que deseja reiniciar todo o progresso? (S/N): "},
+                {Mensagem.REINICIAR_SUCESSO, "\n✅ Progresso reiniciado com sucesso!"},
+                {Mensagem.SIM, "S"},
+                {Mensagem.NAO, "N"},
+
+                {Mensagem.QUESTAO_CABECALHO, "QUESTÃO ["},
+                {Mensagem.CODIGO_COMPLETAR, "CÓDIGO PARA COMPLETAR:\n"},
+                {Mensagem.DICA_COMPLETAR, "💡 Dica: Complete o código com a palavra ou expressão correta\n"},
+                {Mensagem.EXEMPLO_COMPLETAR, "📝 Exemplo: se vê ______, digite apenas a palavra que vai no lugar"},
+                {Mensagem.CODIGO_COM_ERRO, "CÓDIGO COM ERRO:\n"},
+                {Mensagem.DICA_FACIL, "💡 Dica: Pense na palavra-chave básica relacionada ao conceito"},
+                {Mensagem.DICA_MEDIO, "💡 Dica: Considere a sintaxe correta em Java"},
+                {Mensagem.DICA_DIFICIL, "💡 Dica: Analise o contexto completo do código"},
+                {Mensagem.DICA_PADRAO, "💡 Pense com calma e revise os conceitos"},
+
+                {Mensagem.NIVEL_FACIL, "Fácil"},
+                {Mensagem.NIVEL_MEDIO, "Médio"},
+                {Mensagem.NIVEL_DIFICIL, "Difícil"},
+                {Mensagem.TIPO_MULTIPLA, "Múltipla Escolha"},
+                {Mensagem.TIPO_COMPLETAR, "Completar Código"},
+                {Mensagem.TIPO_IDENTIFICAR_ERRO, "Identificar Erro"},
+
+                {Mensagem.SALA_BOAS_VINDAS, "🏫 Sala ao vivo - digite seu nome: "},
+                {Mensagem.SALA_AGUARDE, "⏳ Conectado(a)! Aguarde a questão do professor."},
+                {Mensagem.SALA_SUA_RESPOSTA, "Sua resposta (A-D): "},
+                {Mensagem.SALA_RESPOSTA_REGISTRADA, "📨 Resposta registrada: "},
+                {Mensagem.SALA_JA_RESPONDEU, "⚠️ Você já respondeu esta questão."},
+                {Mensagem.SALA_SEM_QUESTAO, "⏳ Nenhuma questão aberta no momento."},
+                {Mensagem.SALA_RESPOSTA_INVALIDA, "❌ Responda com uma letra de A a D: "},
+                {Mensagem.SALA_RESULTADO, "📊 Resultado da turma - resposta correta: "},
+                {Mensagem.SALA_ENCERRADA, "👋 A sala foi encerrada. Até a próxima aula!"}
+        };
+    }
+}
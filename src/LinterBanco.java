@@ -0,0 +1,55 @@
+// =============================================
+// Classe LinterBanco
+// Confere o banco de questões antes da publicação (ValidadorBanco)
+// Sem arquivo, verifica o banco embutido; com arquivo, o snapshot
+// (Main --gerar-snapshot ou editado à mão), linha a linha
+// Sai com código 1 se houver erros (avisos não bloqueiam)
+// Uso: java LinterBanco [snapshot] [limiarSemelhanca]
+// (limiar das quase duplicatas, de 0 a 1; padrão 0.8)
+// =============================================
+
+import Exceptions.QuestaoException;
+import Questoes.BancoQuestoes;
+import Questoes.ValidadorBanco;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+public class LinterBanco {
+    public static void main(String[] args) throws IOException, QuestaoException {
+        String arquivo = args.length > 0 ? args[0] : null;
+        double limiar = args.length > 1 ? Double.parseDouble(args[1]) : 0.8;
+
+        List<ValidadorBanco.Registro> registros = arquivo != null
+                ? ValidadorBanco.deSnapshot(Path.of(arquivo))
+                : ValidadorBanco.deBanco(BancoQuestoes.construir());
+
+        long inicio = System.nanoTime();
+        List<ValidadorBanco.Problema> problemas = new ValidadorBanco(limiar).validar(registros);
+        long ms = (System.nanoTime() - inicio) / 1_000_000;
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("=".repeat(60)).append('\n');
+        sb.append("Banco: ").append(arquivo != null ? arquivo : "embutido").append(" (")
+                .append(registros.size()).append(" questões, ").append(ms).append(" ms)\n");
+        for (Map.Entry<String, Long> topico : ValidadorBanco.contarPorTopico(registros).entrySet()) {
+            sb.append("  ").append(topico.getKey()).append(": ").append(topico.getValue()).append('\n');
+        }
+        sb.append("=".repeat(60)).append('\n');
+        int erros = 0;
+        for (ValidadorBanco.Problema problema : problemas) {
+            sb.append(problema).append('\n');
+            if (problema.getGravidade() == ValidadorBanco.Gravidade.ERRO) {
+                erros++;
+            }
+        }
+        sb.append(problemas.isEmpty() ? "✅ Nenhum problema encontrado\n"
+                : erros + " erro(s), " + (problemas.size() - erros) + " aviso(s)\n");
+        System.out.print(sb);
+        if (erros > 0) {
+            System.exit(1);
+        }
+    }
+}
@@ -2,12 +2,76 @@
 // Classe Main
 // Ponto de entrada do sistema de aprendizado
 // Inicializa e executa o sistema principal
+// Com "--gravar <arquivo>" grava as entradas da sessão
+// Com "--http [porta]" sobe a API HTTP/JSON em vez do console
+// (no loopback; -Dsistema.http.endereco e -Dsistema.admin.token para nós remotos)
+// Com "--telnet [porta]" atende sessões de texto pela rede (telnet/nc)
+// Com "--sala [porta]" abre uma sala ao vivo: o professor comanda pelo console
+// Com "--roteador <porta> <host:porta,...>" distribui os usuários entre nós "--http"
+// Com "--gerar-snapshot <arquivo>" grava o banco de questões pré-computado
+// (usado com -Dsistema.banco.snapshot=<arquivo> para iniciar mais rápido;
+// o arquivo é observado e recarregado ao ser alterado)
 // =============================================
 
+import Analise.Telemetria;
+import Core.GravadorEntrada;
+import Exceptions.QuestaoException;
+import Monitoramento.MarcoInicializacao;
+import Monitoramento.Metricas;
+import Questoes.BancoQuestoes;
+import Questoes.RecarregadorBanco;
+import Servidor.Roteador;
+import Servidor.SalaAoVivo;
+import Servidor.ServidorHttp;
+import Servidor.ServidorTexto;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+
 public class Main {
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException, QuestaoException {
+        MarcoInicializacao.marcarInicio();
+        Metricas.publicar();
+        BancoQuestoes.precarregar();
+        RecarregadorBanco.iniciarPadrao();
+        Telemetria.configurarPadrao();
+
+        if (args.length == 2 && args[0].equals("--gravar")) {
+            GravadorEntrada gravador = new GravadorEntrada(System.in);
+            SistemaAprendizado sistema = new SistemaAprendizado(gravador, System.out);
+            sistema.iniciarSessao();
+            gravador.getTranscricao().salvar(Path.of(args[1]));
+            return;
+        }
+        if (args.length == 2 && args[0].equals("--gerar-snapshot")) {
+            BancoQuestoes banco = BancoQuestoes.construir();
+            banco.gravar(Path.of(args[1]));
+            System.out.println("✅ Snapshot gravado: " + banco.getTotal() + " questões em " + args[1]);
+            return;
+        }
+        if (args.length >= 1 && args[0].equals("--http")) {
+            int porta = args.length > 1 ? Integer.parseInt(args[1]) : 8080;
+            ServidorHttp.criarPadrao(porta).iniciar();
+            return;
+        }
+        if (args.length == 3 && args[0].equals("--roteador")) {
+            new Roteador(Integer.parseInt(args[1]), Arrays.asList(args[2].split(","))).iniciar();
+            return;
+        }
+        if (args.length >= 1 && args[0].equals("--sala")) {
+            SalaAoVivo sala = SalaAoVivo.criarPadrao(args.length > 1 ? Integer.parseInt(args[1]) : 2424);
+            sala.iniciar();
+            sala.conduzir(System.in);
+            return;
+        }
+        if (args.length >= 1 && args[0].equals("--telnet")) {
+            int porta = args.length > 1 ? Integer.parseInt(args[1]) : 2323;
+            ServidorTexto.criarPadrao(porta).iniciar();
+            return;
+        }
+
         SistemaAprendizado sistema = new SistemaAprendizado();
         sistema.iniciarSessao();
     }
 }
-
@@ -0,0 +1,79 @@
+// =============================================
+// Classe MedidorMemoria
+// Mede a memória retida por um banco grande de questões
+// Monta N questões (padrão 100.000) a partir dos modelos
+// parametrizados e do banco fixo, com textos recém-criados
+// (como se lidos de arquivo), e divide o heap retido por N
+// Uso: java MedidorMemoria [quantidade]
+// =============================================
+
+import Exceptions.QuestaoException;
+import Questoes.GeradorVariacoes;
+import Questoes.ModelosQuestoes;
+import Questoes.Questao;
+import Questoes.QuestaoFactory;
+import Questoes.ReservatorioTextos;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+
+public class MedidorMemoria {
+    private static final String[] TOPICOS = {"encapsulamento", "herança", "interface", "polimorfismo", "abstração"};
+
+    public static void main(String[] args) throws QuestaoException {
+        int quantidade = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+
+        // Carrega as classes e os modelos antes da primeira medição
+        for (String topico : TOPICOS) {
+            QuestaoFactory.criarQuestoesPorTopico(topico);
+            ModelosQuestoes.criarModelos(topico);
+        }
+
+        MemoryMXBean memoria = ManagementFactory.getMemoryMXBean();
+        long antes = heapUsadoAposGc(memoria);
+        ArrayList<Questao> banco = montarBanco(quantidade);
+        long depois = heapUsadoAposGc(memoria);
+
+        long retido = depois - antes;
+        System.out.println("=".repeat(50));
+        System.out.println("  MEMÓRIA DO BANCO DE QUESTÕES");
+        System.out.println("=".repeat(50));
+        System.out.println("Questões: " + banco.size());
+        System.out.println("Heap retido: " + retido / 1024 + " KB");
+        System.out.println("Bytes por questão: " + retido / banco.size());
+        System.out.println("Textos distintos no reservatório: " + ReservatorioTextos.getTotal());
+        System.out.println("=".repeat(50));
+    }
+
+    // Alterna variações dos modelos (nova semente quando esgotam) e cópias do banco fixo
+    private static ArrayList<Questao> montarBanco(int quantidade) throws QuestaoException {
+        ArrayList<Questao> banco = new ArrayList<>(quantidade);
+        long semente = 1;
+        while (banco.size() < quantidade) {
+            for (String topico : TOPICOS) {
+                for (Questao questao : new GeradorVariacoes(ModelosQuestoes.criarModelos(topico), semente)) {
+                    if (banco.size() == quantidade) {
+                        return banco;
+                    }
+                    banco.add(questao);
+                }
+                for (Questao questao : QuestaoFactory.criarQuestoesPorTopico(topico)) {
+                    if (banco.size() == quantidade) {
+                        return banco;
+                    }
+                    banco.add(questao);
+                }
+            }
+            semente++;
+        }
+        return banco;
+    }
+
+    private static long heapUsadoAposGc(MemoryMXBean memoria) {
+        for (int i = 0; i < 4; i++) {
+            System.gc();
+        }
+        return memoria.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,35 @@
+// =============================================
+// Classe EventoNavegacao
+// Evento JFR emitido a cada comando de navegação
+// (avançar, voltar, pular, menu) entre questões
+// =============================================
+
+package Monitoramento;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("sistemaaprendizado.Navegacao")
+@Label("Navegação")
+@Category("Sistema de Aprendizado")
+@Description("Comando de navegação entre questões de um tópico")
+@StackTrace(false)
+public class EventoNavegacao extends jdk.jfr.Event {
+    @Label("Sessão")
+    public long idSessao;
+
+    @Label("Tópico")
+    public String topico;
+
+    @Label("Comando")
+    public String comando;
+
+    @Label("Posição de Origem")
+    public int origem;
+
+    @Label("Posição de Destino")
+    public int destino;
+}
@@ -0,0 +1,35 @@
+// =============================================
+// Classe EventoQuestaoExibida
+// Evento JFR emitido ao montar a tela de uma questão
+// A duração do evento é o tempo de renderização
+// =============================================
+
+package Monitoramento;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("sistemaaprendizado.QuestaoExibida")
+@Label("Questão Exibida")
+@Category("Sistema de Aprendizado")
+@Description("Renderização de uma questão para o usuário")
+@StackTrace(false)
+public class EventoQuestaoExibida extends jdk.jfr.Event {
+    @Label("Sessão")
+    public long idSessao;
+
+    @Label("Tópico")
+    public String topico;
+
+    @Label("Posição")
+    public int posicao;
+
+    @Label("Tipo")
+    public String tipo;
+
+    @Label("Nível")
+    public String nivel;
+}
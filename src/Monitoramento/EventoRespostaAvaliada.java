@@ -0,0 +1,44 @@
+// =============================================
+// Classe EventoRespostaAvaliada
+// Evento JFR emitido ao corrigir uma resposta
+// Registra tipo, nível, se acertou e quanto tempo o usuário
+// levou entre a exibição da questão e a resposta
+// =============================================
+
+package Monitoramento;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("sistemaaprendizado.RespostaAvaliada")
+@Label("Resposta Avaliada")
+@Category("Sistema de Aprendizado")
+@Description("Correção de uma resposta; a duração do evento é o tempo de correção")
+@StackTrace(false)
+public class EventoRespostaAvaliada extends jdk.jfr.Event {
+    @Label("Sessão")
+    public long idSessao;
+
+    @Label("Tópico")
+    public String topico;
+
+    @Label("Posição")
+    public int posicao;
+
+    @Label("Tipo")
+    public String tipo;
+
+    @Label("Nível")
+    public String nivel;
+
+    @Label("Correta")
+    public boolean correta;
+
+    @Label("Tempo de Resposta")
+    @Timespan(Timespan.NANOSECONDS)
+    public long tempoResposta;
+}
@@ -0,0 +1,35 @@
+// =============================================
+// Classe EventoSessao
+// Evento JFR de duração cobrindo uma sessão de estudo
+// (de Estatisticas.iniciar até Estatisticas.finalizar)
+// =============================================
+
+package Monitoramento;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("sistemaaprendizado.Sessao")
+@Label("Sessão de Estudo")
+@Category("Sistema de Aprendizado")
+@Description("Sessão de um usuário, do início ao fim")
+@StackTrace(false)
+public class EventoSessao extends jdk.jfr.Event {
+    @Label("Sessão")
+    public long idSessao;
+
+    @Label("Questões Respondidas")
+    public int questoesRespondidas;
+
+    @Label("Acertos")
+    public int acertos;
+
+    @Label("Erros")
+    public int erros;
+
+    @Label("Pulos")
+    public int pulos;
+}
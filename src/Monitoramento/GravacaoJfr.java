@@ -0,0 +1,22 @@
+// =============================================
+// Classe GravacaoJfr
+// Indica se o Flight Recorder já foi iniciado no processo
+// Criar o primeiro evento JFR carrega e registra toda a
+// infraestrutura do JFR (centenas de ms na inicialização);
+// sem gravação, os eventos nem chegam a ser instanciados
+// Uma gravação iniciada depois (jcmd JFR.start) passa a valer
+// para os próximos eventos
+// =============================================
+
+package Monitoramento;
+
+import jdk.jfr.FlightRecorder;
+
+public final class GravacaoJfr {
+    private GravacaoJfr() {
+    }
+
+    public static boolean ativa() {
+        return FlightRecorder.isInitialized();
+    }
+}
@@ -0,0 +1,96 @@
+// =============================================
+// Classe HistogramaLatencia
+// Histograma de latências em nanossegundos no estilo HDR:
+// faixas por potência de dois, cada uma com 16 subfaixas lineares
+// (erro relativo máximo de ~6%), com memória fixa e sem travas
+// =============================================
+
+package Monitoramento;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class HistogramaLatencia {
+    private static final int SUBFAIXAS = 16;
+    private static final int TOTAL_FAIXAS = (63 - 3) * SUBFAIXAS;
+
+    private final String nome;
+    private final AtomicLongArray contagens;
+    private final AtomicLong maximo;
+
+    public HistogramaLatencia(String nome) {
+        this.nome = nome;
+        this.contagens = new AtomicLongArray(TOTAL_FAIXAS);
+        this.maximo = new AtomicLong();
+    }
+
+    // Registra uma medida em nanossegundos
+    public void registrar(long nanos) {
+        if (nanos < 0) {
+            nanos = 0;
+        }
+        contagens.incrementAndGet(indice(nanos));
+        long atual = maximo.get();
+        while (nanos > atual && !maximo.compareAndSet(atual, nanos)) {
+            atual = maximo.get();
+        }
+    }
+
+    // Calcula a faixa de um valor: valores < 16 têm faixa própria
+    private static int indice(long valor) {
+        if (valor < SUBFAIXAS) {
+            return (int) valor;
+        }
+        int bitMaisAlto = 63 - Long.numberOfLeadingZeros(valor);
+        int subfaixa = (int) (valor >>> (bitMaisAlto - 4)) & (SUBFAIXAS - 1);
+        return (bitMaisAlto - 3) * SUBFAIXAS + subfaixa;
+    }
+
+    // Valor representativo (ponto médio) de uma faixa
+    private static long valorMedio(int indice) {
+        if (indice < SUBFAIXAS) {
+            return indice;
+        }
+        int bitMaisAlto = indice / SUBFAIXAS + 3;
+        long subfaixa = indice % SUBFAIXAS;
+        long inicio = (SUBFAIXAS + subfaixa) << (bitMaisAlto - 4);
+        long largura = 1L << (bitMaisAlto - 4);
+        return inicio + largura / 2;
+    }
+
+    public long getContagem() {
+        long total = 0;
+        for (int i = 0; i < TOTAL_FAIXAS; i++) {
+            total += contagens.get(i);
+        }
+        return total;
+    }
+
+    // Retorna o percentil (0.0 a 1.0) em nanossegundos
+    public long percentil(double fracao) {
+        long total = getContagem();
+        if (total == 0) {
+            return 0;
+        }
+        long alvo = Math.max(1, (long) Math.ceil(fracao * total));
+        long acumulado = 0;
+        for (int i = 0; i < TOTAL_FAIXAS; i++) {
+            acumulado += contagens.get(i);
+            if (acumulado >= alvo) {
+                return Math.min(valorMedio(i), maximo.get());
+            }
+        }
+        return maximo.get();
+    }
+
+    public long getMaximo() { return maximo.get(); }
+    public String getNome() { return nome; }
+
+    // Zera o histograma (as medidas em andamento podem se perder)
+    public void limpar() {
+        for (int i = 0; i < TOTAL_FAIXAS; i++) {
+            contagens.set(i, 0);
+        }
+        maximo.set(0);
+    }
+}
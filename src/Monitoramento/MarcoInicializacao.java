@@ -0,0 +1,69 @@
+// =============================================
+// Classe MarcoInicializacao
+// Mede o tempo de inicialização até o primeiro menu e até a
+// primeira questão exibida
+// Com -Dsistema.medirInicio=true, imprime em stderr uma linha
+// "inicio menu ..." e uma "inicio questao ..." com o tempo desde
+// Main.main e o RSS (o tempo desde o início do processo é medido
+// de fora, pelo BenchmarkInicializacao)
+// Desligado, custa só uma leitura de campo por menu
+// =============================================
+
+package Monitoramento;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public final class MarcoInicializacao {
+    private static final boolean ATIVO = Boolean.getBoolean("sistema.medirInicio");
+
+    private static long inicioMainNanos;
+    private static boolean menuRegistrado;
+    private static boolean questaoRegistrada;
+
+    private MarcoInicializacao() {
+    }
+
+    // Chamado na primeira linha de Main.main
+    public static void marcarInicio() {
+        inicioMainNanos = System.nanoTime();
+    }
+
+    // Chamado a cada menu principal; só o primeiro é medido
+    public static void registrarPrimeiroMenu() {
+        if (!ATIVO || menuRegistrado) {
+            return;
+        }
+        menuRegistrado = true;
+        registrar("menu");
+    }
+
+    // Chamado a cada questão exibida; só a primeira é medida
+    public static void registrarPrimeiraQuestao() {
+        if (!ATIVO || questaoRegistrada) {
+            return;
+        }
+        questaoRegistrada = true;
+        registrar("questao");
+    }
+
+    private static void registrar(String marco) {
+        long desdeMainMicros = (System.nanoTime() - inicioMainNanos) / 1000;
+        System.err.println("inicio " + marco + " main_us=" + desdeMainMicros + " rss_kb=" + lerRssKb());
+    }
+
+    // VmRSS de /proc/self/status (Linux); -1 se indisponível
+    public static long lerRssKb() {
+        try {
+            for (String linha : Files.readAllLines(Path.of("/proc/self/status"))) {
+                if (linha.startsWith("VmRSS:")) {
+                    return Long.parseLong(linha.substring(6).replace("kB", "").trim());
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            return -1;
+        }
+        return -1;
+    }
+}
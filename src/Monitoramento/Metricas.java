@@ -0,0 +1,132 @@
+// =============================================
+// Classe Metricas
+// Contadores e histogramas de latência dos pontos quentes:
+// carga de tópico, ordenação, exibição, correção e turno
+// Ativada com -Dsistema.metricas=true; desativada, cada
+// ponto medido custa apenas a leitura de uma constante
+// Exporta via JMX e em texto simples (opcionalmente por HTTP)
+// =============================================
+
+package Monitoramento;
+
+import com.sun.net.httpserver.HttpServer;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+public class Metricas {
+    public static final boolean ATIVO = Boolean.getBoolean("sistema.metricas");
+
+    // Histogramas dos pontos quentes
+    public static final HistogramaLatencia CARGA_TOPICO = new HistogramaLatencia("carga_topico");
+    public static final HistogramaLatencia ORDENACAO = new HistogramaLatencia("ordenacao");
+    public static final HistogramaLatencia EXIBICAO = new HistogramaLatencia("exibicao_questao");
+    public static final HistogramaLatencia VERIFICACAO = new HistogramaLatencia("verificacao_resposta");
+    public static final HistogramaLatencia TURNO = new HistogramaLatencia("turno_exercicio");
+
+    // Contadores de eventos
+    public static final LongAdder ACERTOS = new LongAdder();
+    public static final LongAdder ERROS = new LongAdder();
+    public static final LongAdder PULOS = new LongAdder();
+
+    private static final Map<String, HistogramaLatencia> HISTOGRAMAS = new LinkedHashMap<>();
+    private static final Map<String, LongAdder> CONTADORES = new LinkedHashMap<>();
+    private static boolean publicado;
+
+    static {
+        for (HistogramaLatencia h : new HistogramaLatencia[]{CARGA_TOPICO, ORDENACAO, EXIBICAO, VERIFICACAO, TURNO}) {
+            HISTOGRAMAS.put(h.getNome(), h);
+        }
+        CONTADORES.put("respostas_corretas", ACERTOS);
+        CONTADORES.put("respostas_incorretas", ERROS);
+        CONTADORES.put("questoes_puladas", PULOS);
+    }
+
+    // Marca o início de uma medida (0 quando as métricas estão desativadas)
+    public static long iniciar() {
+        return ATIVO ? System.nanoTime() : 0;
+    }
+
+    // Registra o tempo decorrido desde iniciar(); ignorado se não houve início
+    public static void registrar(HistogramaLatencia histograma, long inicio) {
+        if (ATIVO && inicio != 0) {
+            histograma.registrar(System.nanoTime() - inicio);
+        }
+    }
+
+    public static void incrementar(LongAdder contador) {
+        if (ATIVO) {
+            contador.increment();
+        }
+    }
+
+    public static Map<String, HistogramaLatencia> getHistogramas() { return HISTOGRAMAS; }
+    public static Map<String, LongAdder> getContadores() { return CONTADORES; }
+
+    // Exporta todas as métricas em texto simples, uma por linha
+    public static String exportarTexto() {
+        StringBuilder sb = new StringBuilder();
+        for (HistogramaLatencia h : HISTOGRAMAS.values()) {
+            String nome = h.getNome();
+            sb.append(nome).append("_contagem ").append(h.getContagem()).append('\n');
+            sb.append(nome).append("_p50_us ").append(h.percentil(0.50) / 1000).append('\n');
+            sb.append(nome).append("_p99_us ").append(h.percentil(0.99) / 1000).append('\n');
+            sb.append(nome).append("_max_us ").append(h.getMaximo() / 1000).append('\n');
+        }
+        for (Map.Entry<String, LongAdder> contador : CONTADORES.entrySet()) {
+            sb.append(contador.getKey()).append(' ').append(contador.getValue().sum()).append('\n');
+        }
+        return sb.toString();
+    }
+
+    // Registra o MBean e, se -Dsistema.metricas.porta for informado,
+    // sobe o endpoint HTTP /metricas em texto simples
+    public static synchronized void publicar() {
+        if (!ATIVO || publicado) {
+            return;
+        }
+        publicado = true;
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(
+                    new MetricasJmx(), new ObjectName("SistemaAprendizado:type=Metricas"));
+        } catch (JMException e) {
+            System.err.println("Não foi possível registrar métricas no JMX: " + e.getMessage());
+        }
+
+        int porta = Integer.getInteger("sistema.metricas.porta", 0);
+        if (porta > 0) {
+            try {
+                iniciarEndpointTexto(porta);
+            } catch (IOException e) {
+                System.err.println("Não foi possível abrir o endpoint de métricas: " + e.getMessage());
+            }
+        }
+    }
+
+    private static void iniciarEndpointTexto(int porta) throws IOException {
+        HttpServer servidor = HttpServer.create(new InetSocketAddress(porta), 0);
+        servidor.createContext("/metricas", troca -> {
+            byte[] corpo = exportarTexto().getBytes(StandardCharsets.UTF_8);
+            troca.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+            troca.sendResponseHeaders(200, corpo.length);
+            try (OutputStream os = troca.getResponseBody()) {
+                os.write(corpo);
+            }
+        });
+        servidor.setExecutor(Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "metricas-http");
+            t.setDaemon(true);
+            return t;
+        }));
+        servidor.start();
+    }
+}
@@ -0,0 +1,96 @@
+// =============================================
+// Classe MetricasJmx
+// Expõe as métricas no JMX como atributos somente leitura
+// (contagem, p50, p99 e máximo de cada histograma, e contadores)
+// =============================================
+
+package Monitoramento;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanException;
+import javax.management.MBeanInfo;
+import javax.management.MBeanOperationInfo;
+import javax.management.ReflectionException;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+public class MetricasJmx implements DynamicMBean {
+
+    @Override
+    public Object getAttribute(String atributo) throws AttributeNotFoundException {
+        for (HistogramaLatencia h : Metricas.getHistogramas().values()) {
+            String prefixo = h.getNome() + "_";
+            if (atributo.startsWith(prefixo)) {
+                switch (atributo.substring(prefixo.length())) {
+                    case "contagem": return h.getContagem();
+                    case "p50_us": return h.percentil(0.50) / 1000;
+                    case "p99_us": return h.percentil(0.99) / 1000;
+                    case "max_us": return h.getMaximo() / 1000;
+                    default: break;
+                }
+            }
+        }
+        LongAdder contador = Metricas.getContadores().get(atributo);
+        if (contador != null) {
+            return contador.sum();
+        }
+        throw new AttributeNotFoundException("Métrica não encontrada: " + atributo);
+    }
+
+    @Override
+    public AttributeList getAttributes(String[] atributos) {
+        AttributeList lista = new AttributeList();
+        for (String atributo : atributos) {
+            try {
+                lista.add(new Attribute(atributo, getAttribute(atributo)));
+            } catch (AttributeNotFoundException e) {
+                // Atributos desconhecidos são omitidos, como manda o contrato do JMX
+            }
+        }
+        return lista;
+    }
+
+    @Override
+    public void setAttribute(Attribute atributo) throws AttributeNotFoundException {
+        throw new AttributeNotFoundException("Métricas são somente leitura: " + atributo.getName());
+    }
+
+    @Override
+    public AttributeList setAttributes(AttributeList atributos) {
+        return new AttributeList();
+    }
+
+    @Override
+    public Object invoke(String operacao, Object[] parametros, String[] assinatura)
+            throws MBeanException, ReflectionException {
+        if (operacao.equals("exportarTexto")) {
+            return Metricas.exportarTexto();
+        }
+        throw new ReflectionException(new NoSuchMethodException(operacao));
+    }
+
+    @Override
+    public MBeanInfo getMBeanInfo() {
+        ArrayList<MBeanAttributeInfo> atributos = new ArrayList<>();
+        for (HistogramaLatencia h : Metricas.getHistogramas().values()) {
+            for (String sufixo : new String[]{"contagem", "p50_us", "p99_us", "max_us"}) {
+                atributos.add(new MBeanAttributeInfo(h.getNome() + "_" + sufixo, "java.lang.Long",
+                        h.getNome() + " (" + sufixo + ")", true, false, false));
+            }
+        }
+        for (Map.Entry<String, LongAdder> contador : Metricas.getContadores().entrySet()) {
+            atributos.add(new MBeanAttributeInfo(contador.getKey(), "java.lang.Long",
+                    contador.getKey(), true, false, false));
+        }
+        MBeanOperationInfo exportar = new MBeanOperationInfo("exportarTexto", "Exporta as métricas em texto",
+                null, "java.lang.String", MBeanOperationInfo.INFO);
+        return new MBeanInfo(getClass().getName(), "Métricas do sistema de aprendizado",
+                atributos.toArray(new MBeanAttributeInfo[0]), null,
+                new MBeanOperationInfo[]{exportar}, null);
+    }
+}
@@ -0,0 +1,27 @@
+// =============================================
+// Classe BancoEmbutido
+// Guarda o banco de questões embutido no código, montado uma
+// única vez na inicialização da classe
+// Na imagem nativa a classe é inicializada em tempo de build
+// (--initialize-at-build-time), então as questões e os textos do
+// ReservatorioTextos já vêm prontos no heap da imagem
+// =============================================
+
+package Questoes;
+
+import Exceptions.QuestaoException;
+
+final class BancoEmbutido {
+    static final BancoQuestoes BANCO;
+
+    static {
+        try {
+            BANCO = BancoQuestoes.construir();
+        } catch (QuestaoException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private BancoEmbutido() {
+    }
+}
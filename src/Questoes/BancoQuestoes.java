@@ -0,0 +1,280 @@
+// =============================================
+// Classe BancoQuestoes
+// Banco de questões pré-computado (snapshot em arquivo)
+// Permite iniciar sem executar os métodos criarQuestoes*:
+// o arquivo é lido uma vez e as questões (imutáveis) são
+// compartilhadas; cada pedido recebe uma lista nova
+// Formato texto, uma questão por linha, campos separados por TAB:
+//   topico  TIPO  NIVEL  enunciado  explicacao  dado1 ... dadoN
+// com \t, \n e \\ escapados (editável à mão)
+// O banco em uso é publicado em uma AtomicReference: uma recarga
+// (RecarregadorBanco) monta a nova versão à parte e a troca de uma
+// vez; quem já pegou questões continua com as suas
+// A versão é a impressão digital (FNV-1a) das linhas do snapshot,
+// igual entre processos; o banco embutido tem versão 0
+// =============================================
+
+package Questoes;
+
+import Exceptions.QuestaoException;
+import enums.NivelDificuldade;
+import enums.TipoQuestao;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+public final class BancoQuestoes {
+    public static final String[] TOPICOS = {"encapsulamento", "herança", "interface", "polimorfismo", "abstração"};
+    private static final String CABECALHO = "# Banco de questões - snapshot v1";
+
+    public static final long VERSAO_EMBUTIDO = 0;
+    private static final Object TRAVA_SNAPSHOT = new Object();
+    private static final AtomicReference<BancoQuestoes> snapshot = new AtomicReference<>();
+    private static volatile boolean snapshotCarregado;
+    private static final int VERSOES_RETIDAS = 4;
+    // Últimas versões substituídas, para retomar tópicos salvos (passivados) na versão em que começaram
+    private static final LinkedHashMap<Long, BancoQuestoes> anteriores = new LinkedHashMap<>();
+
+    private final LinkedHashMap<String, Questao[]> porTopico;
+    private final long versao;
+
+    private BancoQuestoes(LinkedHashMap<String, Questao[]> porTopico, long versao) {
+        this.porTopico = porTopico;
+        this.versao = versao;
+    }
+
+    // Monta o banco a partir das questões embutidas na fábrica
+    public static BancoQuestoes construir() throws QuestaoException {
+        LinkedHashMap<String, Questao[]> porTopico = new LinkedHashMap<>();
+        for (String topico : TOPICOS) {
+            porTopico.put(topico, QuestaoFactory.criarQuestoesEmbutidas(topico).toArray(new Questao[0]));
+        }
+        return new BancoQuestoes(porTopico, VERSAO_EMBUTIDO);
+    }
+
+    // Lê o snapshot; cada linha passa pela validação da fábrica
+    public static BancoQuestoes carregar(Path arquivo) throws IOException, QuestaoException {
+        LinkedHashMap<String, ArrayList<Questao>> lidas = new LinkedHashMap<>();
+        long versao = 0xcbf29ce484222325L;
+        try (BufferedReader reader = Files.newBufferedReader(arquivo, StandardCharsets.UTF_8)) {
+            String linha;
+            int numero = 0;
+            while ((linha = reader.readLine()) != null) {
+                numero++;
+                if (linha.isEmpty() || linha.startsWith("#")) {
+                    continue;
+                }
+                for (int i = 0; i < linha.length(); i++) {
+                    versao = (versao ^ linha.charAt(i)) * 0x100000001b3L;
+                }
+                versao = (versao ^ '\n') * 0x100000001b3L;
+                String[] campos = linha.split("\t", -1);
+                if (campos.length < 6) {
+                    throw new QuestaoException("Linha " + numero + " do snapshot incompleta");
+                }
+                try {
+                    TipoQuestao tipo = TipoQuestao.valueOf(campos[1]);
+                    NivelDificuldade nivel = NivelDificuldade.valueOf(campos[2]);
+                    String[] dados = new String[campos.length - 5];
+                    for (int i = 0; i < dados.length; i++) {
+                        dados[i] = desescapar(campos[i + 5]);
+                    }
+                    Questao questao = QuestaoFactory.criarQuestao(tipo, nivel, desescapar(campos[3]), dados,
+                            desescapar(campos[4]));
+                    lidas.computeIfAbsent(campos[0].toLowerCase(), t -> new ArrayList<>()).add(questao);
+                } catch (IllegalArgumentException e) {
+                    throw new QuestaoException("Linha " + numero + " do snapshot inválida: " + e.getMessage());
+                } catch (QuestaoException e) {
+                    throw new QuestaoException("Linha " + numero + " do snapshot: " + e.getMessage());
+                }
+            }
+        }
+        LinkedHashMap<String, Questao[]> porTopico = new LinkedHashMap<>();
+        for (Map.Entry<String, ArrayList<Questao>> entrada : lidas.entrySet()) {
+            porTopico.put(entrada.getKey(), entrada.getValue().toArray(new Questao[0]));
+        }
+        // 0 fica reservado ao banco embutido
+        return new BancoQuestoes(porTopico, versao == VERSAO_EMBUTIDO ? 1 : versao);
+    }
+
+    // Grava o snapshot de forma atômica (arquivo temporário + move)
+    public void gravar(Path arquivo) throws IOException {
+        Path temporario = arquivo.resolveSibling(arquivo.getFileName() + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(temporario, StandardCharsets.UTF_8)) {
+            writer.write(CABECALHO);
+            writer.newLine();
+            writer.write("# topico\ttipo\tnivel\tenunciado\texplicacao\tdados...");
+            writer.newLine();
+            StringBuilder linha = new StringBuilder(256);
+            for (Map.Entry<String, Questao[]> entrada : porTopico.entrySet()) {
+                for (Questao questao : entrada.getValue()) {
+                    linha.setLength(0);
+                    linha.append(entrada.getKey()).append('\t').append(questao.getTipo().name())
+                            .append('\t').append(questao.getNivel().name()).append('\t');
+                    escapar(linha, questao.getEnunciado()).append('\t');
+                    escapar(linha, questao.getExplicacao());
+                    for (String dado : questao.getDados()) {
+                        escapar(linha.append('\t'), dado);
+                    }
+                    writer.write(linha.toString());
+                    writer.newLine();
+                }
+            }
+        }
+        Files.move(temporario, arquivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // Questões do tópico em uma lista nova (a ordenação não afeta o banco), ou null
+    public ArrayList<Questao> getQuestoes(String topico) {
+        Questao[] questoes = porTopico.get(topico.toLowerCase());
+        return questoes == null ? null : new ArrayList<>(Arrays.asList(questoes));
+    }
+
+    public long getVersao() { return versao; }
+
+    // Impressão digital (FNV-1a) das questões do tópico na ordem do banco: tipo, enunciado
+    // e dados; muda se uma questão for trocada, reordenada, incluída ou removida (0 se não houver o tópico)
+    public long getImpressaoTopico(String topico) {
+        Questao[] questoes = porTopico.get(topico.toLowerCase());
+        if (questoes == null) {
+            return 0;
+        }
+        long impressao = 0xcbf29ce484222325L;
+        for (Questao questao : questoes) {
+            impressao = misturar(impressao, questao.getTipo().name());
+            impressao = misturar(impressao, questao.getEnunciado());
+            for (String dado : questao.getDados()) {
+                impressao = misturar(impressao, dado);
+            }
+        }
+        return impressao;
+    }
+
+    // Um campo e o separador na impressão digital
+    private static long misturar(long impressao, String texto) {
+        for (int i = 0; i < texto.length(); i++) {
+            impressao = (impressao ^ texto.charAt(i)) * 0x100000001b3L;
+        }
+        return (impressao ^ '\t') * 0x100000001b3L;
+    }
+
+    public Set<String> getTopicos() {
+        return porTopico.keySet();
+    }
+
+    public int getTotal() {
+        int total = 0;
+        for (Questao[] questoes : porTopico.values()) {
+            total += questoes.length;
+        }
+        return total;
+    }
+
+    // Snapshot configurado por -Dsistema.banco.snapshot=<arquivo>: carregado na primeira
+    // chamada e depois trocado só por publicar(); null se não configurado ou ilegível
+    // (a fábrica usa então as questões embutidas)
+    public static BancoQuestoes getSnapshot() {
+        if (snapshotCarregado) {
+            return snapshot.get();
+        }
+        synchronized (TRAVA_SNAPSHOT) {
+            if (!snapshotCarregado) {
+                String caminho = System.getProperty("sistema.banco.snapshot");
+                if (caminho != null && !caminho.isEmpty()) {
+                    try {
+                        snapshot.compareAndSet(null, carregar(Path.of(caminho)));
+                    } catch (IOException | QuestaoException e) {
+                        System.err.println("Snapshot do banco ignorado (" + caminho + "): " + e.getMessage());
+                    }
+                }
+                snapshotCarregado = true;
+            }
+            return snapshot.get();
+        }
+    }
+
+    // Troca o banco em uso de uma vez (cópia na escrita: o banco anterior não muda);
+    // falso se "anterior" não é mais o banco publicado (outra recarga ganhou)
+    public static boolean publicar(BancoQuestoes anterior, BancoQuestoes novo) {
+        getSnapshot();
+        if (!snapshot.compareAndSet(anterior, novo)) {
+            return false;
+        }
+        if (anterior != null) {
+            synchronized (anteriores) {
+                anteriores.remove(anterior.versao);
+                anteriores.put(anterior.versao, anterior);
+                if (anteriores.size() > VERSOES_RETIDAS) {
+                    anteriores.remove(anteriores.keySet().iterator().next());
+                }
+            }
+        }
+        return true;
+    }
+
+    // Versão já substituída e ainda retida, ou null
+    static BancoQuestoes versaoAnterior(long versao) {
+        synchronized (anteriores) {
+            return anteriores.get(versao);
+        }
+    }
+
+    // Lê o snapshot em segundo plano, enquanto o usuário ainda digita o nome
+    // (com um único processador a thread só disputaria CPU com a inicialização)
+    public static void precarregar() {
+        if (snapshotCarregado || System.getProperty("sistema.banco.snapshot") == null
+                || Runtime.getRuntime().availableProcessors() < 2) {
+            return;
+        }
+        Thread leitor = new Thread(BancoQuestoes::getSnapshot, "carga-banco");
+        leitor.setDaemon(true);
+        leitor.start();
+    }
+
+    private static StringBuilder escapar(StringBuilder sb, String texto) {
+        for (int i = 0; i < texto.length(); i++) {
+            char c = texto.charAt(i);
+            switch (c) {
+                case '\\': sb.append("\\\\"); break;
+                case '\t': sb.append("\\t"); break;
+                case '\n': sb.append("\\n"); break;
+                case '\r': sb.append("\\r"); break;
+                default: sb.append(c);
+            }
+        }
+        return sb;
+    }
+
+    static String desescapar(String texto) {
+        if (texto.indexOf('\\') < 0) {
+            return texto;
+        }
+        StringBuilder sb = new StringBuilder(texto.length());
+        for (int i = 0; i < texto.length(); i++) {
+            char c = texto.charAt(i);
+            if (c == '\\' && i + 1 < texto.length()) {
+                char proximo = texto.charAt(++i);
+                switch (proximo) {
+                    case 't': sb.append('\t'); break;
+                    case 'n': sb.append('\n'); break;
+                    case 'r': sb.append('\r'); break;
+                    default: sb.append(proximo);
+                }
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,291 @@
+// =============================================
+// Classe GeradorMutacoes
+// Gera questões de IDENTIFICAR_ERRO a partir de código correto:
+// aplica mutações típicas de POO (as mesmas do banco fixo) e
+// confirma com o compilador do JDK, em memória, que o mutante
+// se comporta como esperado (erro de compilação ou, no caso do
+// 'this' removido, código que compila mas está errado)
+// Processa lotes em paralelo e guarda em cache o resultado por
+// trecho e mutação, para que novas execuções só compilem o que mudou
+// A chave do cache inclui a assinatura da mutação (versão do gerador,
+// padrão e resultado esperado): mudar uma regra invalida só as dela
+// A alternativa correta muda de letra conforme o trecho e a mutação
+// =============================================
+
+package Questoes;
+
+import Exceptions.QuestaoException;
+import enums.NivelDificuldade;
+import enums.TipoQuestao;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+public class GeradorMutacoes {
+    // Incrementar ao mudar a forma como aplicar() reescreve o código
+    private static final int VERSAO = 2;
+    private static final Pattern NOME_TIPO = Pattern.compile("\\b(?:class|interface)\\s+(\\w+)");
+
+    // Mutações disponíveis; cada uma sabe se o mutante deve ou não compilar
+    public enum Mutacao {
+        REMOVER_THIS(false, "Identifique o erro no código:",
+                new String[]{"Não usa 'this' para distinguir atributo do parâmetro", "Falta validação",
+                        "Deveria ser private", "Parâmetro errado"},
+                "Sem 'this', o parâmetro é atribuído a si mesmo e o atributo não é alterado."),
+        SUPER_FORA_DE_ORDEM(true, "Identifique o erro no construtor:",
+                new String[]{"super() deve ser a primeira instrução", "Falta parâmetro", "this incorreto",
+                        "Deveria ser private"},
+                "A chamada ao construtor da superclasse deve ser a primeira instrução do construtor."),
+        METODO_INTERFACE_PRIVADO(true, "Identifique o erro na interface:",
+                new String[]{"Métodos em interface não podem ser private sem corpo", "Falta palavra abstract",
+                        "Deveria usar class", "Falta implementação"},
+                "Métodos abstratos de interfaces são implicitamente public; private exige corpo."),
+        SOBRECARGA_SO_RETORNO(true, "Identifique o erro na sobrecarga:",
+                new String[]{"Não pode diferir apenas pelo tipo de retorno", "Parâmetros devem ter nomes diferentes",
+                        "Falta modificador static", "Deveria ser private"},
+                "Sobrecarga exige listas de parâmetros diferentes; o tipo de retorno não distingue métodos.");
+
+        private static final Pattern ATRIBUICAO_THIS = Pattern.compile("this\\.(\\w+)\\s*=\\s*(\\1)\\s*;");
+        private static final Pattern SUPER_PRIMEIRO = Pattern.compile("\\{\\s*(super\\([^;]*\\);)\\s*([^;{}]+;)");
+        private static final Pattern METODO_INTERFACE = Pattern.compile(
+                "(interface\\s+\\w+[^{]*\\{[^}]*?)(?:public\\s+)?(?:abstract\\s+)?([\\w<>\\[\\]]+\\s+\\w+\\s*\\([^)]*\\)\\s*;)");
+        private static final Pattern METODO_VOID = Pattern.compile(
+                "((?:public\\s+|protected\\s+|private\\s+)?)void\\s+(\\w+)\\s*\\(([^)]*)\\)\\s*\\{[^{}]*\\}");
+
+        private final boolean esperaErroCompilacao;
+        private final String enunciado;
+        private final String[] alternativas;
+        private final String explicacao;
+
+        Mutacao(boolean esperaErroCompilacao, String enunciado, String[] alternativas, String explicacao) {
+            this.esperaErroCompilacao = esperaErroCompilacao;
+            this.enunciado = enunciado;
+            this.alternativas = alternativas;
+            this.explicacao = explicacao;
+        }
+
+        // Retorna o código mutado, ou null se a mutação não se aplica ao trecho
+        public String aplicar(String codigo) {
+            Matcher m;
+            switch (this) {
+                case REMOVER_THIS:
+                    m = ATRIBUICAO_THIS.matcher(codigo);
+                    return m.find() ? codigo.substring(0, m.start()) + m.group(1) + " = " + m.group(2) + ";"
+                            + codigo.substring(m.end()) : null;
+                case SUPER_FORA_DE_ORDEM:
+                    m = SUPER_PRIMEIRO.matcher(codigo);
+                    return m.find() ? codigo.substring(0, m.start()) + "{ " + m.group(2).trim() + " " + m.group(1)
+                            + codigo.substring(m.end()) : null;
+                case METODO_INTERFACE_PRIVADO:
+                    m = METODO_INTERFACE.matcher(codigo);
+                    return m.find() ? codigo.substring(0, m.start()) + m.group(1) + "private " + m.group(2)
+                            + codigo.substring(m.end()) : null;
+                case SOBRECARGA_SO_RETORNO:
+                    m = METODO_VOID.matcher(codigo);
+                    return m.find() ? codigo.substring(0, m.end()) + " " + m.group(1) + "int " + m.group(2)
+                            + "(" + m.group(3) + ") { return 0; }" + codigo.substring(m.end()) : null;
+                default:
+                    return null;
+            }
+        }
+
+        // Identifica a regra da mutação; entra na chave do cache
+        String assinatura() {
+            Pattern padrao;
+            switch (this) {
+                case REMOVER_THIS: padrao = ATRIBUICAO_THIS; break;
+                case SUPER_FORA_DE_ORDEM: padrao = SUPER_PRIMEIRO; break;
+                case METODO_INTERFACE_PRIVADO: padrao = METODO_INTERFACE; break;
+                case SOBRECARGA_SO_RETORNO: padrao = METODO_VOID; break;
+                default: padrao = null;
+            }
+            return resumo("v" + VERSAO + '\n' + name() + '\n' + padrao + '\n' + esperaErroCompilacao).substring(0, 8);
+        }
+
+        public boolean isEsperaErroCompilacao() { return esperaErroCompilacao; }
+    }
+
+    private final JavaCompiler compilador;
+    private final Path arquivoCache;
+    private final Map<String, Boolean> cache; // "hash:MUTACAO:assinatura" → mutante aprovado
+    private final Map<Mutacao, String> assinaturas;
+    private final LongAdder compilacoes = new LongAdder();
+    private boolean cacheObsoleto;            // Havia entradas de regras antigas no arquivo
+
+    public GeradorMutacoes(Path arquivoCache) throws QuestaoException {
+        this.compilador = ToolProvider.getSystemJavaCompiler();
+        if (compilador == null) {
+            throw new QuestaoException("Compilador Java indisponível: execute com um JDK, não um JRE");
+        }
+        this.arquivoCache = arquivoCache;
+        this.cache = new ConcurrentHashMap<>();
+        this.assinaturas = new EnumMap<>(Mutacao.class);
+        for (Mutacao mutacao : Mutacao.values()) {
+            assinaturas.put(mutacao, mutacao.assinatura());
+        }
+        carregarCache();
+    }
+
+    // Gera as questões de todos os trechos em paralelo, na ordem de entrada
+    public List<Questao> gerar(List<String> trechosCorretos) throws QuestaoException {
+        int tamanhoAntes = cache.size();
+        List<List<Questao>> porTrecho = trechosCorretos.parallelStream()
+                .map(this::gerarParaTrecho)
+                .collect(Collectors.toList());
+        if (cache.size() != tamanhoAntes || cacheObsoleto) {
+            salvarCache();
+        }
+        ArrayList<Questao> questoes = new ArrayList<>();
+        for (List<Questao> lista : porTrecho) {
+            questoes.addAll(lista);
+        }
+        return questoes;
+    }
+
+    private List<Questao> gerarParaTrecho(String codigo) {
+        ArrayList<Questao> questoes = new ArrayList<>();
+        String hash = resumo(codigo);
+        Boolean originalCompila = null;  // Compilado no máximo uma vez por trecho, e só se faltar algo no cache
+        for (Mutacao mutacao : Mutacao.values()) {
+            String mutante = mutacao.aplicar(codigo);
+            if (mutante == null) {
+                continue;
+            }
+            String chave = hash + ":" + mutacao.name() + ":" + assinaturas.get(mutacao);
+            Boolean aprovado = cache.get(chave);
+            if (aprovado == null) {
+                if (originalCompila == null) {
+                    originalCompila = compila(codigo);
+                }
+                // O original precisa compilar (senão nenhuma mutação do trecho é aproveitada, sem
+                // compilar o mutante); o mutante precisa falhar (ou compilar, se for erro de lógica)
+                aprovado = originalCompila && compila(mutante) != mutacao.isEsperaErroCompilacao();
+                cache.put(chave, aprovado);
+            }
+            if (aprovado) {
+                try {
+                    // A correta é a primeira da mutação; gira conforme o trecho, sempre igual para o mesmo trecho
+                    String[] a = mutacao.alternativas;
+                    String[] dados = {mutante, a[0], a[1], a[2], a[3], "A"};
+                    PermutacaoAlternativas.girar(dados, 1, Character.digit(hash.charAt(0), 16) + mutacao.ordinal());
+                    questoes.add(QuestaoFactory.criarQuestao(TipoQuestao.IDENTIFICAR_ERRO, NivelDificuldade.DIFICIL,
+                            mutacao.enunciado, dados, mutacao.explicacao));
+                } catch (QuestaoException e) {
+                    throw new IllegalStateException(e.getMessage(), e);
+                }
+            }
+        }
+        return questoes;
+    }
+
+    // Compila em memória, descartando os .class gerados
+    boolean compila(String codigo) {
+        compilacoes.increment();
+        Matcher nome = NOME_TIPO.matcher(codigo);
+        String classe = nome.find() ? nome.group(1) : "Trecho";
+        JavaFileObject fonte = new SimpleJavaFileObject(
+                URI.create("string:///" + classe + JavaFileObject.Kind.SOURCE.extension), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignorarErros) {
+                return codigo;
+            }
+        };
+        DiagnosticCollector<JavaFileObject> diagnosticos = new DiagnosticCollector<>();
+        StandardJavaFileManager padrao = compilador.getStandardFileManager(diagnosticos, null, StandardCharsets.UTF_8);
+        try (JavaFileManager descarte = new ForwardingJavaFileManager<>(padrao) {
+            @Override
+            public JavaFileObject getJavaFileForOutput(Location local, String nomeClasse, JavaFileObject.Kind tipo,
+                                                       FileObject irmao) {
+                return new SimpleJavaFileObject(URI.create("mem:///" + nomeClasse + tipo.extension), tipo) {
+                    @Override
+                    public OutputStream openOutputStream() {
+                        return new ByteArrayOutputStream();
+                    }
+                };
+            }
+        }) {
+            return compilador.getTask(null, descarte, diagnosticos, List.of("-proc:none", "-Xlint:none"),
+                    null, List.of(fonte)).call();
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void carregarCache() {
+        if (arquivoCache == null || !Files.exists(arquivoCache)) {
+            return;
+        }
+        try {
+            for (String linha : Files.readAllLines(arquivoCache, StandardCharsets.UTF_8)) {
+                int tab = linha.indexOf('\t');
+                if (tab <= 0) {
+                    continue;
+                }
+                String chave = linha.substring(0, tab);
+                if (assinaturas.containsValue(chave.substring(chave.lastIndexOf(':') + 1))) {
+                    cache.put(chave, linha.substring(tab + 1).equals("1"));
+                } else {
+                    cacheObsoleto = true;  // Chave antiga ou de regra alterada: recompila e some no próximo salvamento
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Cache de mutações ignorado: " + e.getMessage());
+        }
+    }
+
+    private void salvarCache() throws QuestaoException {
+        if (arquivoCache == null) {
+            return;
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(arquivoCache, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (Map.Entry<String, Boolean> entrada : cache.entrySet()) {
+                writer.write(entrada.getKey() + '\t' + (entrada.getValue() ? "1" : "0"));
+                writer.newLine();
+            }
+            cacheObsoleto = false;
+        } catch (IOException e) {
+            throw new QuestaoException("Falha ao salvar o cache de mutações", e);
+        }
+    }
+
+    private static String resumo(String codigo) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(codigo.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+
+    public int getTamanhoCache() { return cache.size(); }
+    public long getCompilacoes() { return compilacoes.sum(); }
+}
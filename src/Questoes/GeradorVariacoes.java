@@ -0,0 +1,111 @@
+// =============================================
+// Classe GeradorVariacoes
+// Produz, sob demanda, questões concretas a partir de modelos
+// Nada é pré-gerado: cada questão é montada ao ser pedida
+// A ordem é embaralhada pela semente sem guardar a permutação
+// (passo co-primo ao total de variações de cada modelo)
+// e os modelos se alternam para variar os assuntos
+// =============================================
+
+package Questoes;
+
+import Exceptions.QuestaoException;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+public class GeradorVariacoes implements Iterable<Questao> {
+    private final ModeloQuestao[] modelos;
+    private final long semente;
+
+    public GeradorVariacoes(List<ModeloQuestao> modelos, long semente) {
+        this.modelos = modelos.toArray(new ModeloQuestao[0]);
+        this.semente = semente;
+    }
+
+    // Total de questões distintas que podem ser geradas
+    public long getTotalVariacoes() {
+        long total = 0;
+        for (ModeloQuestao modelo : modelos) {
+            total = Math.addExact(total, modelo.getTotalVariacoes());
+        }
+        return total;
+    }
+
+    @Override
+    public Iterator<Questao> iterator() {
+        return new Iterator<>() {
+            private final long[] totais = new long[modelos.length];
+            private final long[] passos = new long[modelos.length];
+            private final long[] atuais = new long[modelos.length];
+            private final long[] geradas = new long[modelos.length];
+            private int proximoModelo;
+            private long restantes;
+
+            {
+                long mistura = semente;
+                for (int i = 0; i < modelos.length; i++) {
+                    totais[i] = modelos[i].getTotalVariacoes();
+                    mistura = misturar(mistura + i);
+                    passos[i] = passoCoprimo(Math.floorMod(mistura, totais[i]), totais[i]);
+                    atuais[i] = Math.floorMod(misturar(mistura), totais[i]);
+                    restantes += totais[i];
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return restantes > 0;
+            }
+
+            @Override
+            public Questao next() {
+                if (restantes == 0) {
+                    throw new NoSuchElementException();
+                }
+                while (geradas[proximoModelo] == totais[proximoModelo]) {
+                    proximoModelo = (proximoModelo + 1) % modelos.length;
+                }
+                int m = proximoModelo;
+                long variacao = atuais[m];
+                atuais[m] = (atuais[m] + passos[m]) % totais[m];
+                geradas[m]++;
+                restantes--;
+                proximoModelo = (proximoModelo + 1) % modelos.length;
+                try {
+                    return modelos[m].instanciar(variacao);
+                } catch (QuestaoException e) {
+                    // Os modelos são validados na criação; falhar aqui é erro de programação
+                    throw new IllegalStateException(e.getMessage(), e);
+                }
+            }
+        };
+    }
+
+    // Primeiro passo ≥ candidato que não tem divisor comum com o total
+    private static long passoCoprimo(long candidato, long total) {
+        long passo = Math.max(1, candidato);
+        while (mdc(passo, total) != 1) {
+            passo = passo % total + 1;
+        }
+        return passo;
+    }
+
+    private static long mdc(long a, long b) {
+        while (b != 0) {
+            long resto = a % b;
+            a = b;
+            b = resto;
+        }
+        return a;
+    }
+
+    // Mistura de bits (SplitMix64) para derivar valores da semente
+    private static long misturar(long x) {
+        x += 0x9E3779B97F4A7C15L;
+        x = (x ^ (x >>> 30)) * 0xBF58476D1CE4E5B9L;
+        x = (x ^ (x >>> 27)) * 0x94D049BB133111EBL;
+        return x ^ (x >>> 31);
+    }
+}
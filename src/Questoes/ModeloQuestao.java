@@ -0,0 +1,223 @@
+// =============================================
+// Classe ModeloQuestao
+// Questão parametrizada: os textos usam variáveis como {classe},
+// {campo} e {tipo}, e cada variável tem uma lista de valores
+// Cada combinação de valores é uma questão concreta diferente
+// Modificador {campo:Maiuscula} capitaliza o valor (ex.: getNome)
+// Valores compostos "int|idade" são lidos por parte: {atributo#0}, {atributo#1}
+// =============================================
+
+package Questoes;
+
+import Exceptions.QuestaoException;
+import enums.NivelDificuldade;
+import enums.TipoQuestao;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class ModeloQuestao {
+    // Textos compilados são compartilhados entre modelos e reaproveitados
+    private static final ConcurrentHashMap<String, TextoCompilado> CACHE = new ConcurrentHashMap<>();
+
+    private final TipoQuestao tipo;
+    private final NivelDificuldade nivel;
+    private final String[] nomesVariaveis;
+    private final String[][] valores;
+    private final TextoCompilado enunciado;
+    private final TextoCompilado[] dados;
+    private final TextoCompilado explicacao;
+
+    private ModeloQuestao(TipoQuestao tipo, NivelDificuldade nivel, LinkedHashMap<String, String[]> variaveis,
+                          String enunciado, String[] dados, String explicacao) throws QuestaoException {
+        if (!QuestaoFactory.validarDados(tipo, dados)) {
+            throw new QuestaoException("Dados inválidos para o modelo do tipo: " + tipo);
+        }
+        this.tipo = tipo;
+        this.nivel = nivel;
+        this.nomesVariaveis = variaveis.keySet().toArray(new String[0]);
+        this.valores = new String[nomesVariaveis.length][];
+        for (int i = 0; i < nomesVariaveis.length; i++) {
+            String[] lista = variaveis.get(nomesVariaveis[i]);
+            if (lista == null || lista.length == 0) {
+                throw new QuestaoException("Variável sem valores: " + nomesVariaveis[i]);
+            }
+            this.valores[i] = lista.clone();
+        }
+        this.enunciado = compilar(enunciado);
+        this.dados = new TextoCompilado[dados.length];
+        for (int i = 0; i < dados.length; i++) {
+            this.dados[i] = compilar(dados[i]);
+        }
+        this.explicacao = compilar(explicacao);
+    }
+
+    // Modelo de questão de completar código: dados = {template, resposta}
+    public static ModeloQuestao completar(NivelDificuldade nivel, LinkedHashMap<String, String[]> variaveis,
+                                          String enunciado, String template, String resposta, String explicacao)
+            throws QuestaoException {
+        return new ModeloQuestao(TipoQuestao.COMPLETAR, nivel, variaveis, enunciado,
+                new String[]{template, resposta}, explicacao);
+    }
+
+    // Modelo de questão de identificar erro: dados = {código, 4 alternativas, letra correta}
+    public static ModeloQuestao identificarErro(NivelDificuldade nivel, LinkedHashMap<String, String[]> variaveis,
+                                                String enunciado, String codigo, String[] alternativas,
+                                                String correta, String explicacao) throws QuestaoException {
+        if (alternativas.length != 4) {
+            throw new QuestaoException("O modelo precisa de 4 alternativas");
+        }
+        return new ModeloQuestao(TipoQuestao.IDENTIFICAR_ERRO, nivel, variaveis, enunciado,
+                new String[]{codigo, alternativas[0], alternativas[1], alternativas[2], alternativas[3], correta},
+                explicacao);
+    }
+
+    // Quantidade de questões distintas que o modelo gera
+    public long getTotalVariacoes() {
+        long total = 1;
+        for (String[] lista : valores) {
+            total = Math.multiplyExact(total, lista.length);
+        }
+        return total;
+    }
+
+    // Monta a variação de número n (0 ≤ n < total): n é lido como um número
+    // em base mista, um dígito por variável
+    // Em identificar erro, a variação também decide quanto as alternativas
+    // giram, para a letra correta não ser sempre a que o modelo escreveu
+    public Questao instanciar(long n) throws QuestaoException {
+        if (n < 0 || n >= getTotalVariacoes()) {
+            throw new QuestaoException("Variação inexistente: " + n);
+        }
+        // Dois bits altos do hash de Fibonacci: espalha variações vizinhas
+        int deslocamento = (int) ((n * 0x9E3779B97F4A7C15L) >>> 62);
+        String[] escolhidos = new String[valores.length];
+        for (int i = valores.length - 1; i >= 0; i--) {
+            escolhidos[i] = valores[i][(int) (n % valores[i].length)];
+            n /= valores[i].length;
+        }
+        String[] concretos = new String[dados.length];
+        for (int i = 0; i < dados.length; i++) {
+            concretos[i] = dados[i].aplicar(escolhidos);
+        }
+        if (tipo == TipoQuestao.IDENTIFICAR_ERRO) {
+            PermutacaoAlternativas.girar(concretos, 1, deslocamento);
+        }
+        return QuestaoFactory.criarQuestao(tipo, nivel, enunciado.aplicar(escolhidos), concretos,
+                explicacao.aplicar(escolhidos));
+    }
+
+    private TextoCompilado compilar(String texto) {
+        Map<String, Integer> indices = new LinkedHashMap<>();
+        for (int i = 0; i < nomesVariaveis.length; i++) {
+            indices.put(nomesVariaveis[i], i);
+        }
+        // A chave inclui os nomes das variáveis, pois os índices dependem deles
+        String chave = String.join(",", nomesVariaveis) + '\u0000' + texto;
+        TextoCompilado compilado = CACHE.get(chave);
+        if (compilado == null) {
+            compilado = TextoCompilado.compilar(texto, indices);
+            CACHE.putIfAbsent(chave, compilado);
+        }
+        return compilado;
+    }
+
+    public TipoQuestao getTipo() { return tipo; }
+    public NivelDificuldade getNivel() { return nivel; }
+
+    // Texto dividido em trechos fixos e referências a variáveis
+    private static final class TextoCompilado {
+        private final String[] trechos;     // trechos[i] vem antes da variável i
+        private final int[] variaveis;      // índice da variável em cada lacuna
+        private final int[] partes;         // parte do valor composto (-1 = valor inteiro)
+        private final boolean[] maiuscula;  // capitalizar o valor da lacuna
+
+        private TextoCompilado(String[] trechos, int[] variaveis, int[] partes, boolean[] maiuscula) {
+            this.trechos = trechos;
+            this.variaveis = variaveis;
+            this.partes = partes;
+            this.maiuscula = maiuscula;
+        }
+
+        static TextoCompilado compilar(String texto, Map<String, Integer> indices) {
+            ArrayList<String> trechos = new ArrayList<>();
+            ArrayList<Integer> variaveis = new ArrayList<>();
+            ArrayList<Integer> partes = new ArrayList<>();
+            ArrayList<Boolean> maiuscula = new ArrayList<>();
+            StringBuilder atual = new StringBuilder();
+            int inicio = 0;
+            int abre;
+            while ((abre = texto.indexOf('{', inicio)) >= 0) {
+                int fecha = texto.indexOf('}', abre);
+                String nome = fecha < 0 ? "" : texto.substring(abre + 1, fecha);
+                boolean capitalizar = nome.endsWith(":Maiuscula");
+                if (capitalizar) {
+                    nome = nome.substring(0, nome.length() - ":Maiuscula".length());
+                }
+                int parte = -1;
+                int cerquilha = nome.indexOf('#');
+                if (cerquilha > 0 && cerquilha == nome.length() - 2 && Character.isDigit(nome.charAt(cerquilha + 1))) {
+                    parte = nome.charAt(cerquilha + 1) - '0';
+                    nome = nome.substring(0, cerquilha);
+                }
+                Integer indice = indices.get(nome);
+                if (indice == null) {
+                    // Chaves de código Java ("{ return x; }") ficam como texto
+                    atual.append(texto, inicio, abre + 1);
+                    inicio = abre + 1;
+                    continue;
+                }
+                atual.append(texto, inicio, abre);
+                trechos.add(atual.toString());
+                atual.setLength(0);
+                variaveis.add(indice);
+                partes.add(parte);
+                maiuscula.add(capitalizar);
+                inicio = fecha + 1;
+            }
+            atual.append(texto, inicio, texto.length());
+            trechos.add(atual.toString());
+
+            int[] vetorVariaveis = new int[variaveis.size()];
+            int[] vetorPartes = new int[variaveis.size()];
+            boolean[] vetorMaiuscula = new boolean[variaveis.size()];
+            for (int i = 0; i < vetorVariaveis.length; i++) {
+                vetorVariaveis[i] = variaveis.get(i);
+                vetorPartes[i] = partes.get(i);
+                vetorMaiuscula[i] = maiuscula.get(i);
+            }
+            return new TextoCompilado(trechos.toArray(new String[0]), vetorVariaveis, vetorPartes, vetorMaiuscula);
+        }
+
+        String aplicar(String[] escolhidos) {
+            if (variaveis.length == 0) {
+                return trechos[0];
+            }
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < variaveis.length; i++) {
+                sb.append(trechos[i]);
+                String valor = escolhidos[variaveis[i]];
+                int inicio = 0;
+                int fim = valor.length();
+                if (partes[i] >= 0) {
+                    // Localiza a parte pedida do valor composto "a|b|c"
+                    for (int p = 0; p < partes[i] && inicio <= valor.length(); p++) {
+                        int barra = valor.indexOf('|', inicio);
+                        inicio = barra < 0 ? valor.length() + 1 : barra + 1;
+                    }
+                    inicio = Math.min(inicio, valor.length());
+                    int barra = valor.indexOf('|', inicio);
+                    fim = barra < 0 ? valor.length() : barra;
+                }
+                if (maiuscula[i] && fim > inicio) {
+                    sb.append(Character.toUpperCase(valor.charAt(inicio))).append(valor, inicio + 1, fim);
+                } else {
+                    sb.append(valor, inicio, fim);
+                }
+            }
+            return sb.append(trechos[variaveis.length]).toString();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+// =============================================
+// Classe ModelosQuestoes
+// Modelos parametrizados por tópico, escritos uma vez e
+// instanciados em milhares de variações pelo GeradorVariacoes
+// Segue os mesmos padrões das questões fixas da QuestaoFactory
+// As letras corretas dos modelos de identificar erro variam, e o
+// ModeloQuestao ainda gira as alternativas a cada variação
+// =============================================
+
+package Questoes;
+
+import Exceptions.QuestaoException;
+import enums.NivelDificuldade;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+
+public class ModelosQuestoes {
+    private static final String[] CLASSES = {"Pessoa", "Cliente", "Produto", "Conta", "Aluno", "Funcionario",
+            "Pedido", "Livro", "Carro", "Paciente", "Fornecedor", "Curso"};
+    // Atributos compostos "tipo|nome"
+    private static final String[] ATRIBUTOS = {"String|nome", "int|idade", "double|salario", "String|email",
+            "double|saldo", "double|preco", "String|titulo", "int|codigo", "int|ano", "boolean|ativo",
+            "String|telefone", "long|matricula", "String|endereco", "int|quantidade"};
+    private static final String[] INTERFACES = {"Animal", "Veiculo", "Pagavel", "Imprimivel", "Comparavel",
+            "Autenticavel", "Desenhavel", "Tributavel"};
+    private static final String[] METODOS = {"calcular", "exibir", "processar", "validar", "dormir", "mover",
+            "salvar", "imprimir", "pagar", "desenhar"};
+
+    public static ArrayList<ModeloQuestao> criarModelos(String topico) throws QuestaoException {
+        ArrayList<ModeloQuestao> modelos = new ArrayList<>();
+
+        switch (topico.toLowerCase()) {
+            case "encapsulamento":
+                modelos.add(ModeloQuestao.completar(NivelDificuldade.MEDIO,
+                        variaveis("classe", CLASSES, "atributo", ATRIBUTOS),
+                        "Complete o método getter do atributo '{atributo#1}' da classe {classe}: "
+                                + "public {atributo#0} get{atributo#1:Maiuscula}() { return ______; }",
+                        "public {atributo#0} get{atributo#1:Maiuscula}() { return ______; }",
+                        "{atributo#1}",
+                        "O método getter deve retornar o valor do atributo privado '{atributo#1}'."));
+                modelos.add(ModeloQuestao.identificarErro(NivelDificuldade.DIFICIL,
+                        variaveis("classe", CLASSES, "atributo", ATRIBUTOS),
+                        "Identifique o erro no setter da classe {classe}:",
+                        "public void set{atributo#1:Maiuscula}({atributo#0} {atributo#1}) { {atributo#1} = {atributo#1}; }",
+                        new String[]{"Falta validação", "Não usa 'this' para distinguir atributo do parâmetro",
+                                "Deveria ser private", "Parâmetro errado"},
+                        "B",
+                        "Sem 'this', o parâmetro '{atributo#1}' é atribuído a si mesmo e o atributo não muda."));
+                break;
+            case "herança":
+                modelos.add(ModeloQuestao.identificarErro(NivelDificuldade.DIFICIL,
+                        variaveis("classe", CLASSES, "atributo", ATRIBUTOS),
+                        "Identifique o erro no construtor da subclasse {classe}:",
+                        "public {classe}({atributo#0} {atributo#1}) { this.{atributo#1} = {atributo#1}; super(); }",
+                        new String[]{"Falta parâmetro", "this incorreto",
+                                "super() deve ser a primeira instrução", "Deveria ser private"},
+                        "C",
+                        "A chamada ao construtor da superclasse deve ser a primeira instrução do construtor."));
+                modelos.add(ModeloQuestao.completar(NivelDificuldade.MEDIO,
+                        variaveis("classe", CLASSES, "atributo", ATRIBUTOS),
+                        "Complete o construtor da subclasse {classe}: "
+                                + "public {classe}({atributo#0} {atributo#1}) { ______({atributo#1}); }",
+                        "public {classe}({atributo#0} {atributo#1}) { ______({atributo#1}); }",
+                        "super",
+                        "'super' chama o construtor da superclasse repassando '{atributo#1}'."));
+                break;
+            case "interface":
+                modelos.add(ModeloQuestao.identificarErro(NivelDificuldade.DIFICIL,
+                        variaveis("interface", INTERFACES, "metodo", METODOS),
+                        "Identifique o erro na interface {interface}:",
+                        "interface {interface} { private void {metodo}(); }",
+                        new String[]{"Falta palavra abstract", "Deveria usar class", "Falta implementação",
+                                "Métodos em interface não podem ser private sem corpo"},
+                        "D",
+                        "Métodos abstratos de interfaces são implicitamente public; private exige corpo."));
+                break;
+            case "polimorfismo":
+                modelos.add(ModeloQuestao.identificarErro(NivelDificuldade.DIFICIL,
+                        variaveis("classe", CLASSES, "metodo", METODOS),
+                        "Identifique o erro na sobrecarga da classe {classe}:",
+                        "public void {metodo}(int a) { } public int {metodo}(int b) { }",
+                        new String[]{"Parâmetros devem ter nomes diferentes", "Não pode diferir apenas pelo tipo de retorno",
+                                "Falta modificador static", "Deveria ser private"},
+                        "B",
+                        "Sobrecarga exige listas de parâmetros diferentes; o retorno não distingue '{metodo}'."));
+                break;
+            case "abstração":
+                modelos.add(ModeloQuestao.completar(NivelDificuldade.MEDIO,
+                        variaveis("classe", CLASSES, "metodo", METODOS),
+                        "Complete a declaração do método abstrato da classe {classe}: "
+                                + "public ______ void {metodo}();",
+                        "public ______ void {metodo}();",
+                        "abstract",
+                        "Métodos sem implementação em classes abstratas são declarados com 'abstract'."));
+                break;
+            default:
+                throw new QuestaoException("Tópico não encontrado: " + topico);
+        }
+
+        return modelos;
+    }
+
+    private static LinkedHashMap<String, String[]> variaveis(String nome1, String[] valores1,
+                                                             String nome2, String[] valores2) {
+        LinkedHashMap<String, String[]> variaveis = new LinkedHashMap<>();
+        variaveis.put(nome1, valores1);
+        variaveis.put(nome2, valores2);
+        return variaveis;
+    }
+}
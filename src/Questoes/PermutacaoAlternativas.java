@@ -0,0 +1,104 @@
+// =============================================
+// Classe PermutacaoAlternativas
+// Ordem das 4 alternativas de uma questão em um único byte:
+// os bits 2i..2i+1 guardam qual alternativa original aparece na
+// posição exibida i (a identidade é 0b11_10_01_00)
+// A questão continua imutável e compartilhada; cada sessão guarda
+// só um byte por questão e as letras são convertidas na exibição
+// e na correção
+// =============================================
+
+package Questoes;
+
+import java.util.Random;
+
+public final class PermutacaoAlternativas {
+    public static final int TOTAL = 4;
+    public static final byte IDENTIDADE = (byte) 0b11_10_01_00;
+
+    private PermutacaoAlternativas() {
+    }
+
+    // Fisher-Yates sobre as 4 posições, empacotado no byte
+    public static byte sortear(Random aleatorio) {
+        int[] ordem = {0, 1, 2, 3};
+        for (int i = TOTAL - 1; i > 0; i--) {
+            int j = aleatorio.nextInt(i + 1);
+            int troca = ordem[i];
+            ordem[i] = ordem[j];
+            ordem[j] = troca;
+        }
+        int permutacao = 0;
+        for (int i = 0; i < TOTAL; i++) {
+            permutacao |= ordem[i] << (2 * i);
+        }
+        return (byte) permutacao;
+    }
+
+    // Alternativa original exibida na posição "exibida"
+    public static int original(byte permutacao, int exibida) {
+        return (permutacao >> (2 * exibida)) & 0b11;
+    }
+
+    // Posição em que a alternativa "original" é exibida
+    public static int exibida(byte permutacao, int original) {
+        for (int i = 0; i < TOTAL; i++) {
+            if (original(permutacao, i) == original) {
+                return i;
+            }
+        }
+        return original;
+    }
+
+    // Verifica se a permutação é um byte válido (cada alternativa uma vez)
+    public static boolean valida(byte permutacao) {
+        int vistas = 0;
+        for (int i = 0; i < TOTAL; i++) {
+            vistas |= 1 << original(permutacao, i);
+        }
+        return vistas == 0b1111;
+    }
+
+    // Índice (0-3) da letra no início da resposta, ou -1
+    public static int indiceLetra(String resposta) {
+        if (resposta == null) {
+            return -1;
+        }
+        String texto = resposta.trim();
+        if (texto.length() != 1) {
+            return -1;
+        }
+        int indice = Character.toUpperCase(texto.charAt(0)) - 'A';
+        return indice >= 0 && indice < TOTAL ? indice : -1;
+    }
+
+    // Letra digitada (na ordem exibida) convertida para a letra original;
+    // respostas que não são uma letra de alternativa voltam inalteradas
+    public static String letraOriginal(byte permutacao, String resposta) {
+        int exibida = indiceLetra(resposta);
+        return exibida < 0 ? resposta : String.valueOf((char) ('A' + original(permutacao, exibida)));
+    }
+
+    // Gira as 4 alternativas de dados[inicio..inicio+3] em "deslocamento"
+    // posições e ajusta a letra correta, guardada em dados[inicio+4];
+    // usada por quem gera questões, para a correta não cair sempre na mesma letra
+    public static void girar(String[] dados, int inicio, int deslocamento) {
+        int correta = indiceLetra(dados[inicio + TOTAL]);
+        int passo = Math.floorMod(deslocamento, TOTAL);
+        if (correta < 0 || passo == 0) {
+            return;
+        }
+        String[] giradas = new String[TOTAL];
+        for (int i = 0; i < TOTAL; i++) {
+            giradas[(i + passo) % TOTAL] = dados[inicio + i];
+        }
+        System.arraycopy(giradas, 0, dados, inicio, TOTAL);
+        dados[inicio + TOTAL] = String.valueOf((char) ('A' + (correta + passo) % TOTAL));
+    }
+
+    // Letra original convertida para a letra que a sessão vê
+    public static String letraExibida(byte permutacao, String correta) {
+        int original = indiceLetra(correta);
+        return original < 0 ? correta : String.valueOf((char) ('A' + exibida(permutacao, original)));
+    }
+}
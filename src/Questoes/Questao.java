@@ -3,33 +3,89 @@
 // Base para todos os tipos de questões do sistema
 // Define interface comum e comportamentos básicos
 // Serve como template para questões específicas
+// Os textos ficam no ReservatorioTextos; a questão guarda só ids
 // =============================================
 
 package Questoes;
 
+import Idiomas.Catalogo;
+import Idiomas.Mensagem;
 import enums.NivelDificuldade;
 import enums.TipoQuestao;
 
 public abstract class Questao {
-    protected String enunciado;
-    protected NivelDificuldade nivel;
-    protected TipoQuestao tipo;
-    protected String explicacao;
+    protected final int enunciado;
+    protected final NivelDificuldade nivel;
+    protected final TipoQuestao tipo;
+    protected final int explicacao;
 
     public Questao(String enunciado, NivelDificuldade nivel, TipoQuestao tipo, String explicacao) {
-        this.enunciado = enunciado;
+        this.enunciado = ReservatorioTextos.registrar(enunciado);
         this.nivel = nivel;
         this.tipo = tipo;
-        this.explicacao = explicacao;
+        this.explicacao = ReservatorioTextos.registrar(explicacao);
     }
 
     // Getters
     public NivelDificuldade getNivel() { return nivel; }
     public TipoQuestao getTipo() { return tipo; }
-    public String getExplicacao() { return explicacao; }
+    public String getEnunciado() { return ReservatorioTextos.texto(enunciado); }
+    public String getExplicacao() { return ReservatorioTextos.texto(explicacao); }
+
+    // Tela da questão no idioma padrão
+    public String exibirQuestao() {
+        return exibirQuestao(Catalogo.PADRAO);
+    }
+
+    // Cabeçalho comum: separador, tipo e nível no idioma da sessão e enunciado
+    protected void anexarCabecalho(StringBuilder sb, Catalogo catalogo) {
+        sb.append("\n").append("=".repeat(60)).append("\n");
+        sb.append(catalogo.get(Mensagem.QUESTAO_CABECALHO)).append(tipo.getDescricao(catalogo)).append(" - ")
+                .append(nivel.getDescricao(catalogo)).append("]\n");
+        sb.append("=".repeat(60)).append("\n");
+        sb.append(ReservatorioTextos.texto(enunciado)).append("\n\n");
+    }
+
+    // Anexa as alternativas A), B), C)... na ordem da permutação da sessão
+    protected static void anexarAlternativas(StringBuilder sb, int[] alternativas, byte permutacao) {
+        boolean permutar = alternativas.length == PermutacaoAlternativas.TOTAL;
+        char opcao = 'A';
+        for (int i = 0; i < alternativas.length; i++) {
+            int alternativa = alternativas[permutar ? PermutacaoAlternativas.original(permutacao, i) : i];
+            sb.append(opcao).append(") ").append(ReservatorioTextos.texto(alternativa)).append("\n");
+            opcao++;
+        }
+    }
+
+    // Correção de uma letra exibida contra a letra original correta, sem alocar
+    protected static boolean letraCorreta(String resposta, String correta, int[] alternativas, byte permutacao) {
+        int original = PermutacaoAlternativas.indiceLetra(correta);
+        if (original < 0 || alternativas.length != PermutacaoAlternativas.TOTAL) {
+            return resposta != null && resposta.trim().equalsIgnoreCase(correta.trim());
+        }
+        int exibida = PermutacaoAlternativas.indiceLetra(resposta);
+        return exibida >= 0 && PermutacaoAlternativas.original(permutacao, exibida) == original;
+    }
+
+    // Versões com a ordem de alternativas da sessão (PermutacaoAlternativas);
+    // questões sem alternativas ignoram a permutação
+    public String exibirQuestao(Catalogo catalogo, byte permutacao) {
+        return exibirQuestao(catalogo);
+    }
+
+    public boolean verificarResposta(String resposta, byte permutacao) {
+        return verificarResposta(resposta);
+    }
+
+    public String getCorreta(byte permutacao) {
+        return getCorreta();
+    }
 
     // Métodos abstratos que devem ser implementados pelas subclasses
     public abstract boolean verificarResposta(String resposta);
-    public abstract String exibirQuestao();
+    public abstract String exibirQuestao(Catalogo catalogo);
     public abstract String getCorreta();
+
+    // Dados no formato de QuestaoFactory.criarQuestao (usado nos snapshots do banco)
+    abstract String[] getDados();
 }
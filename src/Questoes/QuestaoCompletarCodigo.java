@@ -3,52 +3,46 @@
 // Implementa questões do tipo completar código
 // Gerencia templates de código, respostas esperadas
 // e variações aceitas de respostas
+// As variações e palavras-chave são derivadas da resposta na
+// verificação, sem ficar guardadas em cada questão
 // =============================================
 
 package Questoes;
 
+import Idiomas.Catalogo;
+import Idiomas.Mensagem;
 import enums.NivelDificuldade;
 import enums.TipoQuestao;
 
 public class QuestaoCompletarCodigo extends Questao {
-    private String templateCodigo;
-    private String respostaEsperada;
-    private String[] palavrasChave;
-    private String[] alternativasAceitas; // Para múltiplas respostas válidas
+    private final int templateCodigo;
+    private final int respostaEsperada;
+    private final int[] alternativasAceitas; // Para múltiplas respostas válidas (null: variações derivadas)
 
     public QuestaoCompletarCodigo(String enunciado, NivelDificuldade nivel,
                                   String template, String resposta, String explicacao) {
         super(enunciado, nivel, TipoQuestao.COMPLETAR, explicacao);
-        this.templateCodigo = template;
-        this.respostaEsperada = resposta;
-        this.palavrasChave = resposta.split("\\s+");
-
-        // Gera alternativas aceitas (variações da resposta esperada)
-        gerarAlternativasAceitas();
+        this.templateCodigo = ReservatorioTextos.registrar(template);
+        this.respostaEsperada = ReservatorioTextos.registrar(resposta);
+        this.alternativasAceitas = null;
     }
 
     // Construtor alternativo para múltiplas respostas aceitas
     public QuestaoCompletarCodigo(String enunciado, NivelDificuldade nivel,
                                   String template, String resposta, String[] alternativas, String explicacao) {
         super(enunciado, nivel, TipoQuestao.COMPLETAR, explicacao);
-        this.templateCodigo = template;
-        this.respostaEsperada = resposta;
-        this.palavrasChave = resposta.split("\\s+");
-        this.alternativasAceitas = alternativas.clone();
+        this.templateCodigo = ReservatorioTextos.registrar(template);
+        this.respostaEsperada = ReservatorioTextos.registrar(resposta);
+        this.alternativasAceitas = ReservatorioTextos.registrar(alternativas);
     }
 
-    // Gera variações aceitas da resposta esperada
-    private void gerarAlternativasAceitas() {
-        // Cria variações comuns da resposta (minúscula, maiúscula, com/sem espaços)
-        String resposta = respostaEsperada.trim();
-        alternativasAceitas = new String[]{
-                resposta.toLowerCase(),
-                resposta.toUpperCase(),
-                resposta, // original
-                resposta.replace(" ", ""), // sem espaços
-                resposta.replace("_", " "), // underscores para espaços
-                resposta.replace(" ", "_")  // espaços para underscores
-        };
+    // Confere as variações comuns da resposta esperada
+    // (maiúsculas/minúsculas já são cobertas por equalsIgnoreCase)
+    private static boolean confereVariacoes(String respostaLimpa, String esperada) {
+        String resposta = esperada.trim();
+        return respostaLimpa.equalsIgnoreCase(resposta.replace(" ", "")) // sem espaços
+                || respostaLimpa.equalsIgnoreCase(resposta.replace("_", " ")) // underscores para espaços
+                || respostaLimpa.equalsIgnoreCase(resposta.replace(" ", "_")); // espaços para underscores
     }
 
     @Override
@@ -58,25 +52,32 @@ public class QuestaoCompletarCodigo extends Questao {
         }
 
         String respostaLimpa = resposta.trim();
+        String esperada = getCorreta();
 
         // Verifica resposta exata
-        if (respostaLimpa.equalsIgnoreCase(respostaEsperada.trim())) {
+        if (respostaLimpa.equalsIgnoreCase(esperada.trim())) {
             return true;
         }
 
         // Verifica contra todas as alternativas aceitas
-        for (String alternativa : alternativasAceitas) {
-            if (alternativa != null && respostaLimpa.equalsIgnoreCase(alternativa.trim())) {
+        if (alternativasAceitas == null) {
+            if (confereVariacoes(respostaLimpa, esperada)) {
                 return true;
             }
+        } else {
+            for (int alternativa : alternativasAceitas) {
+                if (respostaLimpa.equalsIgnoreCase(ReservatorioTextos.texto(alternativa).trim())) {
+                    return true;
+                }
+            }
         }
 
         // Verifica se contém todas as palavras-chave essenciais
-        return verificarPalavrasChave(respostaLimpa);
+        return verificarPalavrasChave(respostaLimpa, esperada.split("\\s+"));
     }
 
     // Verifica se a resposta contém as palavras-chave essenciais
-    private boolean verificarPalavrasChave(String resposta) {
+    private static boolean verificarPalavrasChave(String resposta, String[] palavrasChave) {
         if (palavrasChave == null || palavrasChave.length == 0) {
             return false;
         }
@@ -99,37 +100,43 @@ public class QuestaoCompletarCodigo extends Questao {
     }
 
     @Override
-    public String exibirQuestao() {
+    public String exibirQuestao(Catalogo catalogo) {
         StringBuilder sb = new StringBuilder();
-        sb.append("\n").append("=".repeat(60)).append("\n");
-        sb.append("QUESTÃO [").append(tipo.getDescricao()).append(" - ").append(nivel.getDescricao()).append("]\n");
-        sb.append("=".repeat(60)).append("\n");
-        sb.append(enunciado).append("\n\n");
-        sb.append("CÓDIGO PARA COMPLETAR:\n");
+        anexarCabecalho(sb, catalogo);
+        sb.append(catalogo.get(Mensagem.CODIGO_COMPLETAR));
         sb.append("-".repeat(40)).append("\n");
-        sb.append(templateCodigo).append("\n");
+        sb.append(ReservatorioTextos.texto(templateCodigo)).append("\n");
         sb.append("-".repeat(40)).append("\n");
-        sb.append("💡 Dica: Complete o código com a palavra ou expressão correta\n");
-        sb.append("📝 Exemplo: se vê ______, digite apenas a palavra que vai no lugar");
+        sb.append(catalogo.get(Mensagem.DICA_COMPLETAR));
+        sb.append(catalogo.get(Mensagem.EXEMPLO_COMPLETAR));
         return sb.toString();
     }
 
     public String getDica() {
+        return getDica(Catalogo.PADRAO);
+    }
+
+    public String getDica(Catalogo catalogo) {
         switch (nivel) {
             case FACIL:
-                return "💡 Dica: Pense na palavra-chave básica relacionada ao conceito";
+                return catalogo.get(Mensagem.DICA_FACIL);
             case MEDIO:
-                return "💡 Dica: Considere a sintaxe correta em Java";
+                return catalogo.get(Mensagem.DICA_MEDIO);
             case DIFICIL:
-                return "💡 Dica: Analise o contexto completo do código";
+                return catalogo.get(Mensagem.DICA_DIFICIL);
             default:
-                return "💡 Pense com calma e revise os conceitos";
+                return catalogo.get(Mensagem.DICA_PADRAO);
         }
     }
 
+    @Override
+    String[] getDados() {
+        return new String[]{ReservatorioTextos.texto(templateCodigo), getCorreta()};
+    }
+
     @Override
     public String getCorreta() {
-        return respostaEsperada;
+        return ReservatorioTextos.texto(respostaEsperada);
     }
 }
 
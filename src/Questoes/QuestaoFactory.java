@@ -8,6 +8,7 @@
 package Questoes;
 
 import Exceptions.QuestaoException;
+import Monitoramento.Metricas;
 import enums.NivelDificuldade;
 import enums.TipoQuestao;
 
@@ -39,7 +40,40 @@ public class QuestaoFactory {
         }
     }
 
+    // Usa o snapshot do banco quando configurado (sistema.banco.snapshot);
+    // senão o banco embutido, montado uma única vez (na imagem nativa, em tempo de build)
     public static ArrayList<Questao> criarQuestoesPorTopico(String topico) throws QuestaoException {
+        return criarQuestoesPorTopico(bancoAtual(), topico);
+    }
+
+    // Questões do tópico em uma versão específica do banco (ver bancoAtual)
+    public static ArrayList<Questao> criarQuestoesPorTopico(BancoQuestoes banco, String topico)
+            throws QuestaoException {
+        long inicio = Metricas.iniciar();
+        ArrayList<Questao> questoes = banco.getQuestoes(topico);
+        if (questoes == null) {
+            throw new QuestaoException("Tópico não encontrado: " + topico);
+        }
+        Metricas.registrar(Metricas.CARGA_TOPICO, inicio);
+        return questoes;
+    }
+
+    // Banco publicado neste momento; uma recarga posterior não altera o devolvido
+    public static BancoQuestoes bancoAtual() {
+        BancoQuestoes snapshot = BancoQuestoes.getSnapshot();
+        return snapshot != null ? snapshot : BancoEmbutido.BANCO;
+    }
+
+    // Uma versão específica (a atual ou uma das anteriores ainda retidas), ou null
+    public static BancoQuestoes bancoPorVersao(long versao) {
+        BancoQuestoes atual = bancoAtual();
+        if (atual.getVersao() == versao) {
+            return atual;
+        }
+        return versao == BancoQuestoes.VERSAO_EMBUTIDO ? BancoEmbutido.BANCO : BancoQuestoes.versaoAnterior(versao);
+    }
+
+    static ArrayList<Questao> criarQuestoesEmbutidas(String topico) throws QuestaoException {
         ArrayList<Questao> questoes = new ArrayList<>();
 
         switch (topico.toLowerCase()) {
@@ -61,7 +95,20 @@ public class QuestaoFactory {
             default:
                 throw new QuestaoException("Tópico não encontrado: " + topico);
         }
+        return questoes;
+    }
 
+    // Gera questões de variação a partir dos modelos parametrizados do tópico,
+    // sob demanda e sem repetição, na ordem definida pela semente
+    public static ArrayList<Questao> criarQuestoesParametrizadas(String topico, int quantidade, long semente)
+            throws QuestaoException {
+        ArrayList<Questao> questoes = new ArrayList<>(quantidade);
+        for (Questao questao : new GeradorVariacoes(ModelosQuestoes.criarModelos(topico), semente)) {
+            if (questoes.size() == quantidade) {
+                break;
+            }
+            questoes.add(questao);
+        }
         return questoes;
     }
 
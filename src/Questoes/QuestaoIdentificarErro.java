@@ -7,55 +7,77 @@
 
 package Questoes;
 
+import Idiomas.Catalogo;
+import Idiomas.Mensagem;
 import enums.NivelDificuldade;
 import enums.TipoQuestao;
 
 public class QuestaoIdentificarErro extends Questao {
-    private String codigoComErro;
-    private String justificativaCorreta;
-    private String[] alternativasErro;
+    private final int codigoComErro;
+    private final int justificativaCorreta;
+    private final int[] alternativasErro;
 
     public QuestaoIdentificarErro(String enunciado, NivelDificuldade nivel,
                                   String codigo, String[] alternativas, String justificativa, String explicacao) {
         super(enunciado, nivel, TipoQuestao.IDENTIFICAR_ERRO, explicacao);
-        this.codigoComErro = codigo;
-        this.alternativasErro = alternativas.clone();
-        this.justificativaCorreta = justificativa;
+        this.codigoComErro = ReservatorioTextos.registrar(codigo);
+        this.alternativasErro = ReservatorioTextos.registrar(alternativas);
+        this.justificativaCorreta = ReservatorioTextos.registrar(justificativa);
     }
 
     @Override
     public boolean verificarResposta(String resposta) {
-        return resposta != null && resposta.trim().equalsIgnoreCase(getJustificativaCorreta().trim());
+        return verificarResposta(resposta, PermutacaoAlternativas.IDENTIDADE);
     }
 
     @Override
-    public String exibirQuestao() {
+    public boolean verificarResposta(String resposta, byte permutacao) {
+        return letraCorreta(resposta, getJustificativaCorreta(), alternativasErro, permutacao);
+    }
+
+    @Override
+    public String exibirQuestao(Catalogo catalogo) {
+        return exibirQuestao(catalogo, PermutacaoAlternativas.IDENTIDADE);
+    }
+
+    @Override
+    public String exibirQuestao(Catalogo catalogo, byte permutacao) {
         StringBuilder sb = new StringBuilder();
-        sb.append("\n").append("=".repeat(60)).append("\n");
-        sb.append("QUESTÃO [").append(tipo.getDescricao()).append(" - ").append(nivel.getDescricao()).append("]\n");
-        sb.append("=".repeat(60)).append("\n");
-        sb.append(enunciado).append("\n\n");
-        sb.append("CÓDIGO COM ERRO:\n");
+        anexarCabecalho(sb, catalogo);
+        sb.append(catalogo.get(Mensagem.CODIGO_COM_ERRO));
         sb.append("-".repeat(40)).append("\n");
-        sb.append(codigoComErro).append("\n");
+        sb.append(ReservatorioTextos.texto(codigoComErro)).append("\n");
         sb.append("-".repeat(40)).append("\n\n");
 
-        char opcao = 'A';
-        for (String alternativa : alternativasErro) {
-            sb.append(opcao).append(") ").append(alternativa).append("\n");
-            opcao++;
-        }
+        anexarAlternativas(sb, alternativasErro, permutacao);
         sb.append("\n").append("-".repeat(60));
         return sb.toString();
     }
 
+    @Override
+    String[] getDados() {
+        String[] dados = new String[alternativasErro.length + 2];
+        dados[0] = ReservatorioTextos.texto(codigoComErro);
+        for (int i = 0; i < alternativasErro.length; i++) {
+            dados[i + 1] = ReservatorioTextos.texto(alternativasErro[i]);
+        }
+        dados[dados.length - 1] = getJustificativaCorreta();
+        return dados;
+    }
+
     public String getJustificativaCorreta() {
-        return this.justificativaCorreta;
+        return ReservatorioTextos.texto(justificativaCorreta);
     }
 
     @Override
     public String getCorreta() {
-        return this.justificativaCorreta;
+        return getJustificativaCorreta();
+    }
+
+    @Override
+    public String getCorreta(byte permutacao) {
+        return alternativasErro.length == PermutacaoAlternativas.TOTAL
+                ? PermutacaoAlternativas.letraExibida(permutacao, getCorreta()) : getCorreta();
     }
 }
 
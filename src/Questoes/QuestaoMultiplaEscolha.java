@@ -7,44 +7,64 @@
 
 package Questoes;
 
+import Idiomas.Catalogo;
 import enums.NivelDificuldade;
 import enums.TipoQuestao;
 
 public class QuestaoMultiplaEscolha extends Questao {
-    private String[] alternativas;
-    private String correta;
+    private final int[] alternativas;
+    private final int correta;
 
     public QuestaoMultiplaEscolha(String enunciado, NivelDificuldade nivel,
                                   String[] alternativas, String correta, String explicacao) {
         super(enunciado, nivel, TipoQuestao.MULTIPLA, explicacao);
-        this.alternativas = alternativas.clone();
-        this.correta = correta;
+        this.alternativas = ReservatorioTextos.registrar(alternativas);
+        this.correta = ReservatorioTextos.registrar(correta);
     }
 
     @Override
     public boolean verificarResposta(String resposta) {
-        return resposta != null && resposta.trim().equalsIgnoreCase(correta.trim());
+        return verificarResposta(resposta, PermutacaoAlternativas.IDENTIDADE);
     }
 
     @Override
-    public String exibirQuestao() {
+    public boolean verificarResposta(String resposta, byte permutacao) {
+        return letraCorreta(resposta, getCorreta(), alternativas, permutacao);
+    }
+
+    @Override
+    public String exibirQuestao(Catalogo catalogo) {
+        return exibirQuestao(catalogo, PermutacaoAlternativas.IDENTIDADE);
+    }
+
+    @Override
+    public String exibirQuestao(Catalogo catalogo, byte permutacao) {
         StringBuilder sb = new StringBuilder();
-        sb.append("\n").append("=".repeat(60)).append("\n");
-        sb.append("QUESTÃO [").append(tipo.getDescricao()).append(" - ").append(nivel.getDescricao()).append("]\n");
-        sb.append("=".repeat(60)).append("\n");
-        sb.append(enunciado).append("\n\n");
-
-        char opcao = 'A';
-        for (String alternativa : alternativas) {
-            sb.append(opcao).append(") ").append(alternativa).append("\n");
-            opcao++;
-        }
+        anexarCabecalho(sb, catalogo);
+
+        anexarAlternativas(sb, alternativas, permutacao);
         sb.append("\n").append("-".repeat(60));
         return sb.toString();
     }
 
+    @Override
+    String[] getDados() {
+        String[] dados = new String[alternativas.length + 1];
+        for (int i = 0; i < alternativas.length; i++) {
+            dados[i] = ReservatorioTextos.texto(alternativas[i]);
+        }
+        dados[alternativas.length] = getCorreta();
+        return dados;
+    }
+
     @Override
     public String getCorreta() {
-        return correta;
+        return ReservatorioTextos.texto(correta);
+    }
+
+    @Override
+    public String getCorreta(byte permutacao) {
+        return alternativas.length == PermutacaoAlternativas.TOTAL
+                ? PermutacaoAlternativas.letraExibida(permutacao, getCorreta()) : getCorreta();
     }
 }
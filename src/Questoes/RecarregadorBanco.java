@@ -0,0 +1,145 @@
+// =============================================
+// Classe RecarregadorBanco
+// Recarga do banco de questões sem reiniciar o processo
+// Observa o arquivo de snapshot (WatchService no diretório); a cada
+// alteração espera as escritas assentarem, confere o arquivo com o
+// ValidadorBanco, monta a nova versão em segundo plano e a publica
+// de uma vez (BancoQuestoes.publicar)
+// Tópicos iniciados depois usam a nova versão; exercícios em
+// andamento continuam com as questões que já carregaram
+// Um arquivo com erros é recusado e a versão em uso continua valendo
+// =============================================
+
+package Questoes;
+
+import Exceptions.QuestaoException;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class RecarregadorBanco {
+    private static final long ESPERA_ESCRITA_MS = 300;  // Editores gravam em várias etapas
+    private static final int MAX_PROBLEMAS_EXIBIDOS = 10;
+
+    private final Path arquivo;
+    private final WatchService observador;
+    private final Thread thread;
+
+    public RecarregadorBanco(Path arquivo) throws IOException {
+        this.arquivo = arquivo.toAbsolutePath();
+        this.observador = FileSystems.getDefault().newWatchService();
+        // O snapshot é gravado com arquivo temporário + move: observar o diretório
+        this.arquivo.getParent().register(observador, StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY);
+        this.thread = new Thread(this::executar, "recarga-banco");
+        thread.setDaemon(true);
+    }
+
+    // Liga a recarga do snapshot configurado (sistema.banco.snapshot), a menos que
+    // sistema.banco.recarregar=false; null se não houver snapshot
+    public static RecarregadorBanco iniciarPadrao() {
+        String caminho = System.getProperty("sistema.banco.snapshot");
+        if (caminho == null || caminho.isEmpty()
+                || !Boolean.parseBoolean(System.getProperty("sistema.banco.recarregar", "true"))) {
+            return null;
+        }
+        try {
+            RecarregadorBanco recarregador = new RecarregadorBanco(Path.of(caminho));
+            recarregador.thread.start();
+            return recarregador;
+        } catch (IOException e) {
+            System.err.println("Recarga do banco desligada (" + caminho + "): " + e.getMessage());
+            return null;
+        }
+    }
+
+    public void parar() {
+        try {
+            observador.close();
+        } catch (IOException e) {
+            // Já fechado
+        }
+    }
+
+    private void executar() {
+        try {
+            while (true) {
+                WatchKey chave = observador.take();
+                boolean alterado = consumirEventos(chave);
+                // Junta as rajadas de eventos de uma mesma gravação
+                while (true) {
+                    WatchKey proxima = observador.poll(ESPERA_ESCRITA_MS, TimeUnit.MILLISECONDS);
+                    if (proxima == null) {
+                        break;
+                    }
+                    alterado |= consumirEventos(proxima);
+                }
+                if (alterado) {
+                    recarregar();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // parar()
+        }
+    }
+
+    private boolean consumirEventos(WatchKey chave) {
+        boolean alterado = false;
+        for (WatchEvent<?> evento : chave.pollEvents()) {
+            Object contexto = evento.context();
+            if (evento.kind() == StandardWatchEventKinds.OVERFLOW
+                    || (contexto instanceof Path && arquivo.getFileName().equals(contexto))) {
+                alterado = true;
+            }
+        }
+        chave.reset();
+        return alterado;
+    }
+
+    // Valida, monta e publica; devolve a versão em uso ao final
+    public long recarregar() {
+        BancoQuestoes anterior = BancoQuestoes.getSnapshot();
+        try {
+            if (!Files.exists(arquivo)) {
+                return versao(anterior);
+            }
+            List<ValidadorBanco.Problema> erros = new ValidadorBanco(ValidadorBanco.SEM_SEMELHANCA)
+                    .validar(ValidadorBanco.deSnapshot(arquivo)).stream()
+                    .filter(problema -> problema.getGravidade() == ValidadorBanco.Gravidade.ERRO)
+                    .toList();
+            if (!erros.isEmpty()) {
+                System.err.println("⚠️  Banco não recarregado: " + erros.size() + " erro(s) em " + arquivo);
+                erros.stream().limit(MAX_PROBLEMAS_EXIBIDOS).forEach(erro -> System.err.println("   " + erro));
+                return versao(anterior);
+            }
+            BancoQuestoes novo = BancoQuestoes.carregar(arquivo);
+            if (anterior != null && novo.getVersao() == anterior.getVersao()) {
+                return anterior.getVersao();  // Gravado sem mudanças
+            }
+            if (!BancoQuestoes.publicar(anterior, novo)) {
+                return versao(BancoQuestoes.getSnapshot());
+            }
+            System.out.println(String.format("🔄 Banco de questões recarregado: versão %016x (%d questões)",
+                    novo.getVersao(), novo.getTotal()));
+            return novo.getVersao();
+        } catch (IOException | QuestaoException e) {
+            System.err.println("⚠️  Banco não recarregado (" + arquivo + "): " + e.getMessage());
+            return versao(anterior);
+        }
+    }
+
+    private static long versao(BancoQuestoes banco) {
+        return banco != null ? banco.getVersao() : BancoQuestoes.VERSAO_EMBUTIDO;
+    }
+}
@@ -0,0 +1,72 @@
+// =============================================
+// Classe ReservatorioTextos
+// Reservatório global de textos das questões (flyweight)
+// Cada texto distinto é guardado uma única vez e recebe um
+// identificador inteiro; as questões guardam só os ids
+// Textos repetidos entre questões ("public", "Deveria ser
+// private", explicações iguais...) passam a ocupar um só String
+// Texto já registrado não pega trava (mapa concorrente); só a
+// inclusão de um texto novo é serializada, para crescer o vetor
+//
+// Retenção: nada sai do reservatório. Os ids são índices do vetor e
+// ficam gravados nas questões, inclusive nas de versões antigas do
+// banco que exercícios em andamento ainda usam; por isso um texto
+// não pode ser liberado sem saber quem ainda o referencia
+// O crescimento é limitado pelo que entra: o banco fixo, as
+// combinações finitas dos ModelosQuestoes e, a cada recarga
+// (RecarregadorBanco), só os textos que a edição mudou, pois os
+// iguais reaproveitam o id. Não registrar aqui textos sem limite
+// (entrada de usuário, código gerado sem fim): eles vivem até o
+// processo terminar
+// =============================================
+
+package Questoes;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class ReservatorioTextos {
+    private static final ConcurrentHashMap<String, Integer> IDS = new ConcurrentHashMap<>(2048);
+    private static final Object TRAVA_INCLUSAO = new Object();
+    private static volatile String[] textos = new String[1024];
+    private static int total; // Guardado por TRAVA_INCLUSAO
+
+    private ReservatorioTextos() {
+    }
+
+    // Retorna o id do texto, registrando-o na primeira ocorrência
+    public static int registrar(String texto) {
+        Integer id = IDS.get(texto);
+        return id != null ? id : IDS.computeIfAbsent(texto, ReservatorioTextos::incluir);
+    }
+
+    public static int[] registrar(String[] textos) {
+        int[] ids = new int[textos.length];
+        for (int i = 0; i < textos.length; i++) {
+            ids[i] = registrar(textos[i]);
+        }
+        return ids;
+    }
+
+    // Chamado pelo computeIfAbsent uma única vez por texto novo
+    private static int incluir(String texto) {
+        synchronized (TRAVA_INCLUSAO) {
+            String[] atuais = textos;
+            if (total == atuais.length) {
+                atuais = Arrays.copyOf(atuais, total * 2);
+            }
+            atuais[total] = texto;
+            textos = atuais; // Escrita volátil publica o novo texto antes de o id sair do mapa
+            return total++;
+        }
+    }
+
+    // Leitura sem trava: um acesso a vetor
+    public static String texto(int id) {
+        return textos[id];
+    }
+
+    public static int getTotal() {
+        return IDS.size();
+    }
+}
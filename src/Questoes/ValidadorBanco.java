@@ -0,0 +1,438 @@
+// =============================================
+// Classe ValidadorBanco
+// Verificações de conteúdo do banco de questões antes da publicação
+// (QuestaoFactory.validarDados só confere a quantidade de dados)
+// Trabalha sobre os registros crus, para relatar todos os problemas
+// de uma vez em vez de parar na primeira questão que não monta
+//
+// Regras:
+//   CAMPOS          tipo/nível conhecidos e quantidade de dados do tipo
+//   TEXTO_VAZIO     enunciado, explicação ou dado em branco
+//   LETRA_CORRETA   MULTIPLA / IDENTIFICAR_ERRO: resposta é uma letra A-D
+//   ALTERNATIVAS    alternativas repetidas na mesma questão
+//   LACUNA          COMPLETAR: o modelo tem exatamente uma lacuna "______"
+//   DUPLICADA       mesma questão (tipo, enunciado e dados) mais de uma vez
+//   QUASE_DUPLICADA enunciados muito parecidos (MinHash + LSH), aviso
+// As verificações por questão, as assinaturas MinHash e a conferência
+// dos pares candidatos rodam em paralelo (parallelStream)
+// =============================================
+
+package Questoes;
+
+import enums.NivelDificuldade;
+import enums.TipoQuestao;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class ValidadorBanco {
+    public enum Gravidade { ERRO, AVISO }
+
+    public static final class Problema {
+        private final int indice;  // Registro de origem, para ordenar o relatório
+        private final String origem;
+        private final String regra;
+        private final Gravidade gravidade;
+        private final String mensagem;
+
+        Problema(Registro registro, String regra, Gravidade gravidade, String mensagem) {
+            this.indice = registro.indice;
+            this.origem = registro.origem;
+            this.regra = regra;
+            this.gravidade = gravidade;
+            this.mensagem = mensagem;
+        }
+
+        public String getOrigem() { return origem; }
+        public String getRegra() { return regra; }
+        public Gravidade getGravidade() { return gravidade; }
+        public String getMensagem() { return mensagem; }
+
+        @Override
+        public String toString() {
+            return gravidade + " " + origem + " [" + regra + "] " + mensagem;
+        }
+    }
+
+    // Questão como está no banco ou no snapshot, antes de ser montada
+    public static final class Registro {
+        private final int indice;
+        private final String origem;
+        private final String topico;
+        private final String tipoTexto;
+        private final String nivelTexto;
+        private final String enunciado;
+        private final String explicacao;
+        private final String[] dados;
+
+        public Registro(int indice, String origem, String topico, String tipo, String nivel,
+                        String enunciado, String explicacao, String[] dados) {
+            this.indice = indice;
+            this.origem = origem;
+            this.topico = topico;
+            this.tipoTexto = tipo;
+            this.nivelTexto = nivel;
+            this.enunciado = enunciado;
+            this.explicacao = explicacao;
+            this.dados = dados;
+        }
+
+        public String getOrigem() { return origem; }
+        public String getTopico() { return topico; }
+        public String getEnunciado() { return enunciado; }
+
+        TipoQuestao tipo() {
+            for (TipoQuestao tipo : TipoQuestao.values()) {
+                if (tipo.name().equals(tipoTexto)) {
+                    return tipo;
+                }
+            }
+            return null;
+        }
+
+        boolean nivelValido() {
+            return Arrays.stream(NivelDificuldade.values()).anyMatch(nivel -> nivel.name().equals(nivelTexto));
+        }
+    }
+
+    private static final String LACUNA = "______";
+    private static final int TAMANHO_FRAGMENTO = 5;  // Caracteres por fragmento (shingle) do enunciado
+    private static final int FUNCOES_HASH = 128;
+    private static final int LINHAS_POR_FAIXA = 8;   // 16 faixas: ~95% dos pares com 0,8 de semelhança viram candidatos
+    private static final int MAX_VIZINHOS_BALDE = 16; // Limita a comparação em baldes enormes (modelos repetidos)
+
+    private static final long[] MULTIPLICADORES = new long[FUNCOES_HASH];
+    private static final long[] SOMAS = new long[FUNCOES_HASH];
+
+    static {
+        SplittableRandom aleatorio = new SplittableRandom(0x5EED_BA4C0L);
+        for (int f = 0; f < FUNCOES_HASH; f++) {
+            MULTIPLICADORES[f] = aleatorio.nextLong() | 1;
+            SOMAS[f] = aleatorio.nextLong();
+        }
+    }
+
+    // Limiar que desliga a busca de quase duplicatas (só as regras que geram erros)
+    public static final double SEM_SEMELHANCA = Double.POSITIVE_INFINITY;
+
+    private final double limiarSemelhanca;
+
+    public ValidadorBanco(double limiarSemelhanca) {
+        this.limiarSemelhanca = limiarSemelhanca;
+    }
+
+    // Registros do banco já montado (embutido ou snapshot carregado)
+    public static List<Registro> deBanco(BancoQuestoes banco) {
+        List<Registro> registros = new ArrayList<>(banco.getTotal());
+        for (String topico : banco.getTopicos()) {
+            List<Questao> questoes = banco.getQuestoes(topico);
+            for (int i = 0; i < questoes.size(); i++) {
+                Questao questao = questoes.get(i);
+                registros.add(new Registro(registros.size(), topico + " #" + (i + 1), topico,
+                        questao.getTipo().name(), questao.getNivel().name(), questao.getEnunciado(),
+                        questao.getExplicacao(), questao.getDados()));
+            }
+        }
+        return registros;
+    }
+
+    // Registros de um arquivo de snapshot, sem montar as questões
+    // (linhas que a fábrica recusaria viram problemas, não exceções)
+    public static List<Registro> deSnapshot(Path arquivo) throws IOException {
+        List<Registro> registros = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(arquivo, StandardCharsets.UTF_8)) {
+            String linha;
+            int numero = 0;
+            while ((linha = reader.readLine()) != null) {
+                numero++;
+                if (linha.isEmpty() || linha.startsWith("#")) {
+                    continue;
+                }
+                String[] campos = linha.split("\t", -1);
+                String[] dados = new String[Math.max(0, campos.length - 5)];
+                for (int i = 0; i < dados.length; i++) {
+                    dados[i] = BancoQuestoes.desescapar(campos[i + 5]);
+                }
+                registros.add(new Registro(registros.size(), "linha " + numero, campo(campos, 0).toLowerCase(),
+                        campo(campos, 1), campo(campos, 2), BancoQuestoes.desescapar(campo(campos, 3)),
+                        BancoQuestoes.desescapar(campo(campos, 4)), dados));
+            }
+        }
+        return registros;
+    }
+
+    private static String campo(String[] campos, int indice) {
+        return indice < campos.length ? campos[indice] : "";
+    }
+
+    // Todas as regras; problemas na ordem dos registros
+    public List<Problema> validar(List<Registro> registros) {
+        List<Problema> problemas = registros.parallelStream()
+                .flatMap(registro -> verificar(registro).stream())
+                .collect(Collectors.toCollection(ArrayList::new));
+        boolean[] duplicadas = new boolean[registros.size()];
+        problemas.addAll(procurarDuplicadas(registros, duplicadas));
+        if (limiarSemelhanca <= 1) {
+            problemas.addAll(procurarQuaseDuplicadas(registros, duplicadas));
+        }
+        problemas.sort(Comparator.comparingInt((Problema p) -> p.indice).thenComparing(p -> p.regra));
+        return problemas;
+    }
+
+    // ---------------------------------------------
+    // Regras de uma questão
+    // ---------------------------------------------
+    private static List<Problema> verificar(Registro registro) {
+        List<Problema> problemas = new ArrayList<>(2);
+        TipoQuestao tipo = registro.tipo();
+        if (tipo == null) {
+            problemas.add(new Problema(registro, "CAMPOS", Gravidade.ERRO, "Tipo desconhecido: '" + registro.tipoTexto + "'"));
+            return problemas;
+        }
+        if (!registro.nivelValido()) {
+            problemas.add(new Problema(registro, "CAMPOS", Gravidade.ERRO, "Nível desconhecido: '" + registro.nivelTexto + "'"));
+        }
+        if (!QuestaoFactory.validarDados(tipo, registro.dados)) {
+            problemas.add(new Problema(registro, "CAMPOS", Gravidade.ERRO,
+                    registro.dados.length + " dados para o tipo " + tipo));
+            return problemas;
+        }
+        if (registro.enunciado.isBlank()) {
+            problemas.add(new Problema(registro, "TEXTO_VAZIO", Gravidade.ERRO, "Enunciado em branco"));
+        }
+        if (registro.explicacao.isBlank()) {
+            problemas.add(new Problema(registro, "TEXTO_VAZIO", Gravidade.AVISO, "Explicação em branco"));
+        }
+        for (int i = 0; i < registro.dados.length; i++) {
+            if (registro.dados[i].isBlank()) {
+                problemas.add(new Problema(registro, "TEXTO_VAZIO", Gravidade.ERRO, "Dado " + (i + 1) + " em branco"));
+            }
+        }
+
+        switch (tipo) {
+            case MULTIPLA:
+                verificarAlternativas(registro, 0, registro.dados[4], problemas);
+                break;
+            case IDENTIFICAR_ERRO:
+                verificarAlternativas(registro, 1, registro.dados[5], problemas);
+                break;
+            case COMPLETAR:
+                int lacunas = contarLacunas(registro.dados[0]);
+                if (lacunas != 1) {
+                    problemas.add(new Problema(registro, "LACUNA", Gravidade.ERRO,
+                            lacunas == 0 ? "Modelo sem a lacuna " + LACUNA : lacunas + " lacunas no modelo"));
+                }
+                break;
+            default:
+                break;
+        }
+        return problemas;
+    }
+
+    // As 4 alternativas começam em dados[inicio]
+    private static void verificarAlternativas(Registro registro, int inicio, String correta, List<Problema> problemas) {
+        if (PermutacaoAlternativas.indiceLetra(correta) < 0) {
+            problemas.add(new Problema(registro, "LETRA_CORRETA", Gravidade.ERRO,
+                    "Resposta '" + correta + "' não é uma das letras A-D"));
+        }
+        for (int i = 0; i < PermutacaoAlternativas.TOTAL; i++) {
+            for (int j = i + 1; j < PermutacaoAlternativas.TOTAL; j++) {
+                if (normalizar(registro.dados[inicio + i]).equals(normalizar(registro.dados[inicio + j]))) {
+                    problemas.add(new Problema(registro, "ALTERNATIVAS", Gravidade.ERRO,
+                            "Alternativas " + (char) ('A' + i) + " e " + (char) ('A' + j) + " iguais"));
+                }
+            }
+        }
+    }
+
+    private static int contarLacunas(String modelo) {
+        int total = 0;
+        for (int i = modelo.indexOf(LACUNA); i >= 0; i = modelo.indexOf(LACUNA, i + LACUNA.length())) {
+            total++;
+        }
+        return total;
+    }
+
+    // ---------------------------------------------
+    // Duplicatas exatas: mesma chave (tipo, enunciado, dados normalizados)
+    // ---------------------------------------------
+    // Marca as repetidas (a primeira ocorrência fica como original)
+    private static List<Problema> procurarDuplicadas(List<Registro> registros, boolean[] duplicadas) {
+        ConcurrentMap<String, List<Registro>> grupos = registros.parallelStream()
+                .collect(Collectors.groupingByConcurrent(ValidadorBanco::chaveExata));
+        List<Problema> problemas = new ArrayList<>();
+        for (List<Registro> grupo : grupos.values()) {
+            if (grupo.size() < 2) {
+                continue;
+            }
+            grupo.sort(Comparator.comparingInt(r -> r.indice));
+            Registro primeiro = grupo.get(0);
+            for (Registro repetido : grupo.subList(1, grupo.size())) {
+                problemas.add(new Problema(repetido, "DUPLICADA", Gravidade.ERRO, "Mesma questão que " + primeiro.origem));
+                duplicadas[repetido.indice] = true;
+            }
+        }
+        return problemas;
+    }
+
+    private static String chaveExata(Registro registro) {
+        StringBuilder chave = new StringBuilder(registro.tipoTexto).append('\0').append(normalizar(registro.enunciado));
+        for (String dado : registro.dados) {
+            chave.append('\0').append(normalizar(dado));
+        }
+        return chave.toString();
+    }
+
+    // ---------------------------------------------
+    // Quase duplicatas: assinatura MinHash dos fragmentos do enunciado,
+    // LSH por faixas da assinatura para achar candidatos sem comparar
+    // todos os pares, e conferência da semelhança estimada
+    // Cada questão é relatada uma vez, contra a primeira anterior parecida
+    // ---------------------------------------------
+    private List<Problema> procurarQuaseDuplicadas(List<Registro> registros, boolean[] duplicadas) {
+        int total = registros.size();
+        int faixas = FUNCOES_HASH / LINHAS_POR_FAIXA;
+        long[][] assinaturas = registros.parallelStream()
+                .map(registro -> assinatura(registro.enunciado))
+                .toArray(long[][]::new);
+
+        // Uma entrada por (questão, faixa): hash da faixa nos 32 bits altos, índice nos baixos;
+        // ordenadas, as questões de um mesmo balde ficam contíguas e em ordem de índice
+        long[] entradas = new long[total * faixas];
+        IntStream.range(0, total).parallel().forEach(i -> {
+            for (int faixa = 0; faixa < faixas; faixa++) {
+                long chave = faixa;
+                for (int linha = 0; linha < LINHAS_POR_FAIXA; linha++) {
+                    chave = misturar(chave * 31 + assinaturas[i][faixa * LINHAS_POR_FAIXA + linha]);
+                }
+                entradas[i * faixas + faixa] = (chave & 0xFFFFFFFF00000000L) | i;
+            }
+        });
+        Arrays.parallelSort(entradas);
+        int[] posicoes = new int[entradas.length];
+        int[] preenchidas = new int[total];
+        for (int p = 0; p < entradas.length; p++) {
+            int i = (int) entradas[p];
+            posicoes[i * faixas + preenchidas[i]++] = p;
+        }
+
+        // Cada questão procura, nos seus baldes, uma anterior parecida
+        return IntStream.range(0, total).parallel()
+                .mapToObj(b -> {
+                    if (duplicadas[b]) {
+                        return null;
+                    }
+                    for (int faixa = 0; faixa < faixas; faixa++) {
+                        int p = posicoes[b * faixas + faixa];
+                        long balde = entradas[p] >>> 32;
+                        for (int q = p - 1; q >= 0 && q >= p - MAX_VIZINHOS_BALDE && entradas[q] >>> 32 == balde; q--) {
+                            int a = (int) entradas[q];
+                            double semelhanca = semelhanca(assinaturas[a], assinaturas[b]);
+                            if (!duplicadas[a] && semelhanca >= limiarSemelhanca) {
+                                return new Problema(registros.get(b), "QUASE_DUPLICADA", Gravidade.AVISO,
+                                        String.format(Locale.ROOT, "Enunciado ~%.0f%% igual ao de %s",
+                                                semelhanca * 100, registros.get(a).origem));
+                            }
+                        }
+                    }
+                    return null;
+                })
+                .filter(problema -> problema != null)
+                .collect(Collectors.toList());
+    }
+
+    // Menor hash de cada uma das FUNCOES_HASH funções sobre os fragmentos
+    private static long[] assinatura(String enunciado) {
+        String texto = normalizar(enunciado);
+        int total = Math.max(1, texto.length() - TAMANHO_FRAGMENTO + 1);
+        long[] fragmentos = new long[total];
+        for (int i = 0; i < total; i++) {
+            fragmentos[i] = misturar(hashTexto(texto, i, Math.min(texto.length(), i + TAMANHO_FRAGMENTO)));
+        }
+        Arrays.sort(fragmentos);
+        long[] minimos = new long[FUNCOES_HASH];
+        Arrays.fill(minimos, Long.MAX_VALUE);
+        for (int i = 0; i < total; i++) {
+            if (i > 0 && fragmentos[i] == fragmentos[i - 1]) {
+                continue;  // Fragmento repetido no mesmo enunciado
+            }
+            // Funções afins h = a*x + b (a ímpar) sobre o hash já misturado do fragmento
+            for (int f = 0; f < FUNCOES_HASH; f++) {
+                long h = fragmentos[i] * MULTIPLICADORES[f] + SOMAS[f];
+                if (h < minimos[f]) {
+                    minimos[f] = h;
+                }
+            }
+        }
+        return minimos;
+    }
+
+    // Fração de funções com o mesmo mínimo: estimativa da semelhança de Jaccard
+    private static double semelhanca(long[] a, long[] b) {
+        int iguais = 0;
+        for (int i = 0; i < FUNCOES_HASH; i++) {
+            if (a[i] == b[i]) {
+                iguais++;
+            }
+        }
+        return (double) iguais / FUNCOES_HASH;
+    }
+
+    private static long hashTexto(String texto, int inicio, int fim) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = inicio; i < fim; i++) {
+            h ^= texto.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return h;
+    }
+
+    // Finalizador do MurmurHash3
+    private static long misturar(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    // Minúsculas e espaços colapsados
+    private static String normalizar(String texto) {
+        StringBuilder sb = new StringBuilder(texto.length());
+        boolean espaco = false;
+        for (int i = 0; i < texto.length(); i++) {
+            char c = texto.charAt(i);
+            if (Character.isWhitespace(c)) {
+                espaco = sb.length() > 0;
+            } else {
+                if (espaco) {
+                    sb.append(' ');
+                    espaco = false;
+                }
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    // Questões por tópico, na ordem do banco (resumo do LinterBanco)
+    public static Map<String, Long> contarPorTopico(List<Registro> registros) {
+        return registros.stream().collect(Collectors.groupingBy(r -> r.topico, LinkedHashMap::new,
+                Collectors.counting()));
+    }
+}
@@ -0,0 +1,90 @@
+// =============================================
+// Classe RelatorioAnalise
+// Relatório offline dos logs de eventos (RegistroEventos)
+// Cada arquivo é lido mapeado em memória e resumido em paralelo;
+// os resumos são combinados no final
+// Uso: java RelatorioAnalise <diretorio> [dias]
+// (dias: só os arquivos dos últimos N dias; padrão, todos)
+// =============================================
+
+import Analise.LeitorEventos;
+import Analise.RegistroEventos;
+import Analise.ResumoEventos;
+import Exceptions.QuestaoException;
+import Questoes.Questao;
+import Questoes.QuestaoFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class RelatorioAnalise {
+    private static final int MAIS_ERRADAS = 10;
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.out.println("Uso: java RelatorioAnalise <diretorio> [dias]");
+            return;
+        }
+        LocalDate desde = args.length > 1 ? LocalDate.now().minusDays(Integer.parseInt(args[1]) - 1L) : LocalDate.MIN;
+        List<Path> arquivos;
+        try (Stream<Path> listagem = Files.list(Path.of(args[0]))) {
+            arquivos = listagem.filter(arquivo -> dentroDoPeriodo(arquivo, desde)).sorted().collect(Collectors.toList());
+        }
+
+        long inicio = System.nanoTime();
+        ResumoEventos total = arquivos.parallelStream()
+                .map(RelatorioAnalise::resumir)
+                .reduce(new ResumoEventos(), (a, b) -> new ResumoEventos().combinar(a).combinar(b));
+        long ms = (System.nanoTime() - inicio) / 1_000_000;
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("=".repeat(60)).append('\n');
+        sb.append("Relatório de eventos: ").append(arquivos.size()).append(" arquivo(s) em ").append(ms).append(" ms\n");
+        sb.append("=".repeat(60)).append('\n');
+        total.formatar(sb);
+        sb.append("\nQuestões mais erradas:\n");
+        for (ResumoEventos.QuestaoErrada questao : total.maisErradas(MAIS_ERRADAS)) {
+            sb.append(String.format("  %4d erros  %-16s #%-4d %s%n", questao.erros, questao.topico,
+                    questao.posicaoBanco + 1, enunciado(questao.topico, questao.posicaoBanco)));
+        }
+        System.out.print(sb);
+    }
+
+    // eventos-AAAA-MM-DD-NNN.log com data a partir de "desde"
+    private static boolean dentroDoPeriodo(Path arquivo, LocalDate desde) {
+        String nome = arquivo.getFileName().toString();
+        if (!nome.startsWith(RegistroEventos.PREFIXO) || !nome.endsWith(RegistroEventos.EXTENSAO)) {
+            return false;
+        }
+        int inicioData = RegistroEventos.PREFIXO.length();
+        return !LocalDate.parse(nome.substring(inicioData, inicioData + 10)).isBefore(desde);
+    }
+
+    private static ResumoEventos resumir(Path arquivo) {
+        try {
+            return LeitorEventos.resumir(arquivo);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Início do enunciado, pela posição no banco do tópico
+    private static String enunciado(String topico, int posicaoBanco) {
+        try {
+            List<Questao> questoes = QuestaoFactory.criarQuestoesPorTopico(topico);
+            if (posicaoBanco < questoes.size()) {
+                String texto = questoes.get(posicaoBanco).getEnunciado().replace('\n', ' ');
+                return texto.length() > 60 ? texto.substring(0, 57) + "..." : texto;
+            }
+        } catch (QuestaoException e) {
+            return "(" + e.getMessage() + ")";
+        }
+        return "";
+    }
+}
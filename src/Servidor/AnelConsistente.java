@@ -0,0 +1,91 @@
+// =============================================
+// Classe AnelConsistente
+// Hashing consistente com nós virtuais: cada nó ocupa várias
+// posições no anel e a chave vai para o primeiro nó no sentido
+// horário. Remover um nó só move as chaves que eram dele
+// Não é thread-safe: o Roteador troca a topologia sob trava de escrita
+// =============================================
+
+package Servidor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class AnelConsistente {
+    private final int nosVirtuais;
+    private final TreeMap<Long, String> anel;
+    private final List<String> nos;
+
+    public AnelConsistente(int nosVirtuais) {
+        this.nosVirtuais = Math.max(1, nosVirtuais);
+        this.anel = new TreeMap<>();
+        this.nos = new ArrayList<>();
+    }
+
+    public void adicionar(String no) {
+        if (nos.contains(no)) {
+            return;
+        }
+        nos.add(no);
+        for (int i = 0; i < nosVirtuais; i++) {
+            anel.put(hash(no + "#" + i), no);
+        }
+    }
+
+    public void remover(String no) {
+        if (!nos.remove(no)) {
+            return;
+        }
+        for (int i = 0; i < nosVirtuais; i++) {
+            anel.remove(hash(no + "#" + i), no);
+        }
+    }
+
+    // Nó responsável pela chave, ou null se o anel estiver vazio
+    public String no(long chave) {
+        if (anel.isEmpty()) {
+            return null;
+        }
+        Map.Entry<Long, String> entrada = anel.ceilingEntry(chave);
+        return entrada != null ? entrada.getValue() : anel.firstEntry().getValue();
+    }
+
+    public List<String> getNos() { return new ArrayList<>(nos); }
+
+    // FNV-1a de 64 bits com a mistura final do MurmurHash3 (espalha bem chaves parecidas)
+    public static long hash(String texto) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : texto.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b & 0xFF;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    // Prefixo dos ids de sessão: a chave do usuário em hexadecimal,
+    // para que o roteador saiba o nó sem guardar estado
+    public static String prefixoSessao(String nomeUsuario) {
+        return String.format("%016x", hash(nomeUsuario));
+    }
+
+    // Chave de roteamento de um id de sessão ("<prefixo>.<uuid>"); ids sem prefixo usam o próprio id
+    public static long chaveSessao(String id) {
+        int ponto = id.indexOf('.');
+        if (ponto == 16) {
+            try {
+                return Long.parseUnsignedLong(id.substring(0, ponto), 16);
+            } catch (NumberFormatException e) {
+                return hash(id);
+            }
+        }
+        return hash(id);
+    }
+}
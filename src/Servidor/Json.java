@@ -0,0 +1,81 @@
+// =============================================
+// Classe Json
+// Montagem mínima de respostas JSON sem dependências
+// Objeto construído campo a campo sobre um StringBuilder
+// =============================================
+
+package Servidor;
+
+public class Json {
+    private final StringBuilder sb;
+    private boolean primeiro;
+
+    public Json() {
+        this.sb = new StringBuilder(256).append('{');
+        this.primeiro = true;
+    }
+
+    public Json campo(String nome, String valor) {
+        chave(nome);
+        if (valor == null) {
+            sb.append("null");
+        } else {
+            escapar(sb, valor);
+        }
+        return this;
+    }
+
+    public Json campo(String nome, long valor) {
+        chave(nome);
+        sb.append(valor);
+        return this;
+    }
+
+    public Json campo(String nome, double valor) {
+        chave(nome);
+        sb.append(Math.round(valor * 10) / 10.0);
+        return this;
+    }
+
+    public Json campo(String nome, boolean valor) {
+        chave(nome);
+        sb.append(valor);
+        return this;
+    }
+
+    private void chave(String nome) {
+        if (!primeiro) {
+            sb.append(',');
+        }
+        primeiro = false;
+        escapar(sb, nome);
+        sb.append(':');
+    }
+
+    // Escreve a string entre aspas, escapando caracteres de controle
+    public static void escapar(StringBuilder destino, String texto) {
+        destino.append('"');
+        for (int i = 0; i < texto.length(); i++) {
+            char c = texto.charAt(i);
+            switch (c) {
+                case '"': destino.append("\\\""); break;
+                case '\\': destino.append("\\\\"); break;
+                case '\n': destino.append("\\n"); break;
+                case '\r': destino.append("\\r"); break;
+                case '\t': destino.append("\\t"); break;
+                default:
+                    if (c < 0x20) {
+                        destino.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        destino.append(c);
+                    }
+            }
+        }
+        destino.append('"');
+    }
+
+    @Override
+    public String toString() {
+        return sb.toString() + '}';
+    }
+}
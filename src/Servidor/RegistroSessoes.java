@@ -0,0 +1,315 @@
+// =============================================
+// Classe RegistroSessoes
+// Guarda as sessões ativas da API com limite de memória:
+// - contabiliza o espaço estimado de cada sessão
+// - ao passar do limite (quantidade ou bytes), remove a menos
+//   usada recentemente (LRU)
+// - sessões ociosas também saem da memória
+// Sessões removidas são passivadas em disco em formato binário
+// compacto e reativadas na mesma questão quando o usuário volta;
+// um tópico cujo banco mudou nesse meio-tempo é descartado sozinho
+// =============================================
+
+package Servidor;
+
+import Core.ExercicioTopico;
+import Core.Usuario;
+import Exceptions.QuestaoException;
+import Idiomas.Catalogo;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class RegistroSessoes {
+    private static final int VERSAO_FORMATO = 4;
+
+    private final int maxSessoes;
+    private final long maxBytes;
+    private final Path diretorio;
+    private final LinkedHashMap<String, SessaoWeb> ativas;   // Ordem de acesso (LRU)
+    private final Map<String, SessaoWeb> emPassivacao;       // Saindo da memória, ainda sem arquivo
+    private final Object travaReativacao = new Object();
+    private long bytesEstimados;
+
+    public RegistroSessoes(int maxSessoes, long maxBytes, Path diretorio) throws IOException {
+        this.maxSessoes = maxSessoes;
+        this.maxBytes = maxBytes;
+        this.diretorio = Files.createDirectories(diretorio);
+        this.ativas = new LinkedHashMap<>(16, 0.75f, true);
+        this.emPassivacao = new LinkedHashMap<>();
+    }
+
+    public void adicionar(SessaoWeb sessao) {
+        ArrayList<SessaoWeb> excedentes;
+        synchronized (this) {
+            sessao.setBytesEstimados(sessao.estimarBytes());
+            ativas.put(sessao.getId(), sessao);
+            bytesEstimados += sessao.getBytesEstimados();
+            excedentes = selecionarExcedentes();
+        }
+        passivar(excedentes);
+    }
+
+    // Busca a sessão na memória ou, se foi passivada, reativa a partir do disco
+    public SessaoWeb obter(String id) {
+        SessaoWeb sessao;
+        synchronized (this) {
+            sessao = ativas.get(id);
+            if (sessao == null) {
+                sessao = emPassivacao.get(id);
+            }
+        }
+        if (sessao != null && !sessao.isPassivada()) {
+            return sessao;
+        }
+        // Passivada (o arquivo já está completo) ou fora da memória
+        return reativar(id);
+    }
+
+    // Atualiza a contabilidade de memória após uma requisição alterar a sessão
+    public void atualizar(SessaoWeb sessao) {
+        ArrayList<SessaoWeb> excedentes;
+        synchronized (this) {
+            if (ativas.get(sessao.getId()) != sessao) {
+                return;
+            }
+            long novo = sessao.estimarBytes();
+            bytesEstimados += novo - sessao.getBytesEstimados();
+            sessao.setBytesEstimados(novo);
+            excedentes = selecionarExcedentes();
+        }
+        passivar(excedentes);
+    }
+
+    // Remove de vez a sessão (memória e disco)
+    // A trava da sessão espera uma passivação em andamento terminar de gravar;
+    // a marca de removida impede que uma passivação posterior recrie o arquivo
+    public void remover(String id) {
+        SessaoWeb sessao;
+        synchronized (this) {
+            sessao = ativas.get(id);
+            if (sessao == null) {
+                sessao = emPassivacao.get(id);
+            }
+        }
+        if (sessao != null) {
+            synchronized (sessao) {
+                synchronized (this) {
+                    if (ativas.get(id) == sessao) {
+                        ativas.remove(id);
+                        bytesEstimados -= sessao.getBytesEstimados();
+                    }
+                    emPassivacao.remove(id);
+                }
+                sessao.marcarRemovida();
+                apagarArquivo(id);
+            }
+        } else {
+            apagarArquivo(id);
+        }
+    }
+
+    private void apagarArquivo(String id) {
+        try {
+            Files.deleteIfExists(arquivo(id));
+        } catch (IOException e) {
+            System.err.println("Não foi possível apagar a sessão passivada " + id + ": " + e.getMessage());
+        }
+    }
+
+    // Passiva as sessões sem acesso há mais que o limite
+    public void passivarOciosas(long limiteNanos) {
+        long agora = System.nanoTime();
+        ArrayList<SessaoWeb> ociosas = new ArrayList<>();
+        synchronized (this) {
+            Iterator<SessaoWeb> it = ativas.values().iterator();
+            while (it.hasNext()) {
+                SessaoWeb sessao = it.next();
+                if (sessao.estaOciosa(limiteNanos, agora)) {
+                    it.remove();
+                    bytesEstimados -= sessao.getBytesEstimados();
+                    emPassivacao.put(sessao.getId(), sessao);
+                    ociosas.add(sessao);
+                }
+            }
+        }
+        passivar(ociosas);
+    }
+
+    // Passiva todas as sessões (o nó vai sair e outro assumirá os usuários)
+    public int passivarTodas() {
+        ArrayList<SessaoWeb> todas;
+        synchronized (this) {
+            todas = new ArrayList<>(ativas.values());
+            for (SessaoWeb sessao : todas) {
+                emPassivacao.put(sessao.getId(), sessao);
+            }
+            ativas.clear();
+            bytesEstimados = 0;
+        }
+        passivar(todas);
+        return todas.size();
+    }
+
+    public synchronized int getTotalAtivas() { return ativas.size(); }
+    public synchronized long getBytesEstimados() { return bytesEstimados; }
+
+    // Retira da memória as sessões menos usadas até voltar aos limites
+    private ArrayList<SessaoWeb> selecionarExcedentes() {
+        ArrayList<SessaoWeb> excedentes = new ArrayList<>();
+        Iterator<SessaoWeb> it = ativas.values().iterator();
+        while ((ativas.size() > maxSessoes || bytesEstimados > maxBytes) && it.hasNext()) {
+            SessaoWeb maisAntiga = it.next();
+            it.remove();
+            bytesEstimados -= maisAntiga.getBytesEstimados();
+            emPassivacao.put(maisAntiga.getId(), maisAntiga);
+            excedentes.add(maisAntiga);
+        }
+        return excedentes;
+    }
+
+    // Grava as sessões em disco fora da trava do registro
+    private void passivar(ArrayList<SessaoWeb> sessoes) {
+        for (SessaoWeb sessao : sessoes) {
+            synchronized (sessao) {
+                if (sessao.isRemovida()) {
+                    continue;  // Apagada enquanto esperava a vez; remover já limpou o registro
+                }
+                try {
+                    gravar(sessao);
+                    sessao.marcarPassivada();
+                } catch (IOException e) {
+                    // Sem espaço em disco, a sessão continua na memória
+                    System.err.println("Falha ao passivar sessão " + sessao.getId() + ": " + e.getMessage());
+                    synchronized (this) {
+                        ativas.put(sessao.getId(), sessao);
+                        bytesEstimados += sessao.getBytesEstimados();
+                    }
+                }
+            }
+            synchronized (this) {
+                emPassivacao.remove(sessao.getId(), sessao);
+            }
+        }
+    }
+
+    private void gravar(SessaoWeb sessao) throws IOException {
+        Path temporario = diretorio.resolve(sessao.getId() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporario)))) {
+            out.writeByte(VERSAO_FORMATO);
+            out.writeUTF(sessao.getUsuario().getNome());
+            out.writeUTF(sessao.getUsuario().getIdioma().getCodigo());
+            sessao.getUsuario().getEstatisticas().gravarEstado(out);
+            ExercicioTopico exercicio = sessao.getExercicio();
+            out.writeBoolean(exercicio != null);
+            if (exercicio != null) {
+                exercicio.gravarEstado(out);
+            }
+            out.writeByte(sessao.getUsuario().getTopicosPausados().size());
+            for (ExercicioTopico pausado : sessao.getUsuario().getTopicosPausados()) {
+                pausado.gravarEstado(out);
+            }
+        }
+        Files.move(temporario, arquivo(sessao.getId()), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // Lê a sessão do disco; a trava de reativação evita carregar o mesmo arquivo duas vezes
+    private SessaoWeb reativar(String id) {
+        if (!idValido(id)) {
+            return null;
+        }
+        synchronized (travaReativacao) {
+            synchronized (this) {
+                SessaoWeb jaAtiva = ativas.get(id);
+                if (jaAtiva != null) {
+                    return jaAtiva;
+                }
+            }
+            Path arquivo = arquivo(id);
+            SessaoWeb sessao;
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(arquivo)))) {
+                if (in.readByte() != VERSAO_FORMATO) {
+                    throw new IOException("Versão de formato desconhecida");
+                }
+                Usuario usuario = new Usuario(in.readUTF());
+                Catalogo idioma = Catalogo.porCodigo(in.readUTF());
+                usuario.getEstatisticas().restaurarEstado(in);
+                sessao = new SessaoWeb(id, usuario);
+                if (in.readBoolean()) {
+                    ExercicioTopico exercicio = lerTopico(in, sessao);
+                    if (exercicio != null) {
+                        exercicio.setCatalogo(idioma);
+                        sessao.setExercicio(exercicio);
+                    }
+                }
+                int totalPausados = in.readByte();
+                for (int i = 0; i < totalPausados; i++) {
+                    ExercicioTopico pausado = lerTopico(in, sessao);
+                    if (pausado != null) {
+                        usuario.pausarTopico(pausado);
+                    }
+                }
+                usuario.setIdioma(idioma);
+            } catch (NoSuchFileException e) {
+                return null;
+            } catch (IOException e) {
+                System.err.println("Sessão passivada ilegível " + id + ": " + e.getMessage());
+                return null;
+            }
+
+            try {
+                Files.deleteIfExists(arquivo);
+            } catch (IOException e) {
+                // O arquivo antigo será sobrescrito na próxima passivação
+            }
+            adicionar(sessao);
+            return sessao;
+        }
+    }
+
+    // Um tópico da sessão passivada; se o banco do tópico mudou (outra versão já não
+    // retida, outro nó, reinício), descarta só esse tópico e mantém o resto da sessão
+    private static ExercicioTopico lerTopico(DataInputStream in, SessaoWeb sessao) throws IOException {
+        try {
+            return ExercicioTopico.lerEstado(in, sessao.getUsuario().getEstatisticas(), sessao.getSaidaDescartada());
+        } catch (QuestaoException e) {
+            System.err.println("Tópico descartado da sessão " + sessao.getId() + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    // Ids são UUIDs, opcionalmente com o prefixo do usuário ("<16 hex>.");
+    // qualquer outra coisa não pode virar nome de arquivo
+    private static boolean idValido(String id) {
+        int inicio = id.length() == 53 && id.charAt(16) == '.' ? 17 : 0;
+        if (id.length() - inicio != 36) {
+            return false;
+        }
+        for (int i = 0; i < id.length(); i++) {
+            if (i == 16 && inicio > 0) {
+                continue;
+            }
+            char c = id.charAt(i);
+            if (!(c == '-' || (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f'))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Path arquivo(String id) {
+        return diretorio.resolve(id + ".sessao");
+    }
+}
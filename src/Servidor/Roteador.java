@@ -0,0 +1,268 @@
+// =============================================
+// Classe Roteador
+// Proxy HTTP na frente de vários processos ServidorHttp (nós)
+// Cada usuário fica sempre no mesmo nó (hashing consistente da
+// identidade): a criação de sessão usa o nome; as demais rotas, o
+// prefixo do id da sessão, que carrega a mesma chave
+// Os nós compartilham o diretório de sessões passivadas; ao mudar
+// a topologia, os nós afetados são drenados (passivam tudo) antes
+// de o anel mudar, e o novo dono reativa as sessões do disco
+//
+// Rotas próprias:
+//   GET    /roteador/nos                     lista os nós
+//   POST   /roteador/nos?endereco=host:porta adiciona um nó
+//   DELETE /roteador/nos?endereco=host:porta remove um nó (com entrega das sessões)
+// As rotas /admin/* dos nós (drenagem) não são encaminhadas: só o
+// próprio roteador as chama, direto no nó, com o mesmo
+// -Dsistema.admin.token configurado nos nós
+// =============================================
+
+package Servidor;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public class Roteador {
+    private static final String PREFIXO_SESSOES = "/api/sessoes";
+    private static final String PREFIXO_ADMIN = "/admin";
+    private static final int NOS_VIRTUAIS = 128;
+
+    private final int porta;
+    private final AnelConsistente anel;
+    private final ReentrantReadWriteLock topologia;  // Leitura: encaminhamento; escrita: troca de nós
+    private final HttpClient cliente;
+    private final String tokenAdmin;
+    private HttpServer servidor;
+    private ExecutorService executor;
+
+    public Roteador(int porta, List<String> nos) {
+        this.porta = porta;
+        this.anel = new AnelConsistente(NOS_VIRTUAIS);
+        for (String no : nos) {
+            anel.adicionar(no);
+        }
+        this.topologia = new ReentrantReadWriteLock();
+        this.cliente = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(2))
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+        this.tokenAdmin = System.getProperty("sistema.admin.token");
+    }
+
+    public void iniciar() throws IOException {
+        servidor = HttpServer.create(new InetSocketAddress(porta), 1024);
+        servidor.createContext("/", this::encaminhar);
+        servidor.createContext("/roteador/nos", this::tratarNos);
+        executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 8);
+        servidor.setExecutor(executor);
+        servidor.start();
+        System.out.println("🔀 Roteador ouvindo na porta " + getPorta() + " com nós " + getNos());
+    }
+
+    public void parar() {
+        servidor.stop(0);
+        executor.shutdown();
+    }
+
+    public int getPorta() { return servidor.getAddress().getPort(); }
+
+    public List<String> getNos() {
+        topologia.readLock().lock();
+        try {
+            return anel.getNos();
+        } finally {
+            topologia.readLock().unlock();
+        }
+    }
+
+    // Nó que atende o usuário (mesma chave usada nos ids de sessão)
+    public String noDoUsuario(String nome) {
+        topologia.readLock().lock();
+        try {
+            return anel.no(AnelConsistente.hash(nome));
+        } finally {
+            topologia.readLock().unlock();
+        }
+    }
+
+    // Novo nó: os nós existentes são drenados, pois parte dos usuários deles muda de dono
+    public void adicionarNo(String endereco) {
+        topologia.writeLock().lock();
+        try {
+            if (anel.getNos().contains(endereco)) {
+                return;
+            }
+            for (String no : anel.getNos()) {
+                drenar(no);
+            }
+            anel.adicionar(endereco);
+        } finally {
+            topologia.writeLock().unlock();
+        }
+    }
+
+    // Remove o nó: espera as requisições em andamento (trava de escrita),
+    // drena as sessões dele para o disco compartilhado e só então tira do anel
+    public int removerNo(String endereco) {
+        topologia.writeLock().lock();
+        try {
+            if (!anel.getNos().contains(endereco)) {
+                return -1;
+            }
+            int drenadas = drenar(endereco);
+            anel.remover(endereco);
+            return drenadas;
+        } finally {
+            topologia.writeLock().unlock();
+        }
+    }
+
+    private int drenar(String no) {
+        try {
+            HttpRequest.Builder requisicao = HttpRequest.newBuilder(URI.create("http://" + no + "/admin/drenar"))
+                    .POST(HttpRequest.BodyPublishers.noBody())
+                    .timeout(Duration.ofSeconds(30));
+            if (tokenAdmin != null && !tokenAdmin.isEmpty()) {
+                requisicao.header(ServidorHttp.CABECALHO_TOKEN_ADMIN, tokenAdmin);
+            }
+            HttpResponse<String> resposta = cliente.send(requisicao.build(), HttpResponse.BodyHandlers.ofString());
+            if (resposta.statusCode() != 200) {
+                throw new IOException("HTTP " + resposta.statusCode());
+            }
+            String corpo = resposta.body();
+            int inicio = corpo.indexOf(':') + 1;
+            return Integer.parseInt(corpo.substring(inicio, corpo.indexOf('}', inicio)).trim());
+        } catch (IOException | RuntimeException e) {
+            // Nó fora do ar: o que não foi passivado se perdeu com ele
+            System.err.println("Não foi possível drenar " + no + ": " + e.getMessage());
+            return 0;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 0;
+        }
+    }
+
+    private void tratarNos(HttpExchange troca) throws IOException {
+        String endereco = ServidorHttp.lerParametros(troca).get("endereco");
+        switch (troca.getRequestMethod()) {
+            case "GET":
+                Json lista = new Json();
+                List<String> nos = getNos();
+                for (int i = 0; i < nos.size(); i++) {
+                    lista.campo(String.valueOf(i), nos.get(i));
+                }
+                ServidorHttp.responderJson(troca, 200, lista);
+                return;
+            case "POST":
+                if (endereco == null) {
+                    ServidorHttp.responderErro(troca, 400, "Informe o endereco (host:porta)");
+                    return;
+                }
+                adicionarNo(endereco);
+                ServidorHttp.responderJson(troca, 200, new Json().campo("adicionado", endereco));
+                return;
+            case "DELETE":
+                if (endereco == null) {
+                    ServidorHttp.responderErro(troca, 400, "Informe o endereco (host:porta)");
+                    return;
+                }
+                int drenadas = removerNo(endereco);
+                if (drenadas < 0) {
+                    ServidorHttp.responderErro(troca, 404, "Nó desconhecido");
+                } else {
+                    ServidorHttp.responderJson(troca, 200, new Json().campo("removido", endereco)
+                            .campo("sessoesEntregues", drenadas));
+                }
+                return;
+            default:
+                ServidorHttp.responderErro(troca, 405, "Método não suportado");
+        }
+    }
+
+    private void encaminhar(HttpExchange troca) throws IOException {
+        byte[] corpo;
+        try (InputStream entrada = troca.getRequestBody()) {
+            corpo = entrada.readAllBytes();
+        }
+        // Caminho normalizado: "/api/../admin/drenar" também é uma rota administrativa
+        String caminho = troca.getRequestURI().normalize().getRawPath();
+        if (caminho.equals(PREFIXO_ADMIN) || caminho.startsWith(PREFIXO_ADMIN + "/")) {
+            ServidorHttp.responderErro(troca, 403, "Rota administrativa do nó não é encaminhada");
+            return;
+        }
+        topologia.readLock().lock();
+        try {
+            String no = anel.no(chave(troca));
+            if (no == null) {
+                ServidorHttp.responderErro(troca, 503, "Nenhum nó disponível");
+                return;
+            }
+            String query = troca.getRequestURI().getRawQuery();
+            HttpRequest.Builder requisicao = HttpRequest.newBuilder(
+                            URI.create("http://" + no + caminho + (query != null ? "?" + query : "")))
+                    .timeout(Duration.ofSeconds(30))
+                    .method(troca.getRequestMethod(), corpo.length == 0
+                            ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofByteArray(corpo));
+            String tipo = troca.getRequestHeaders().getFirst("Content-Type");
+            if (tipo != null) {
+                requisicao.header("Content-Type", tipo);
+            }
+
+            HttpResponse<byte[]> resposta;
+            try {
+                resposta = cliente.send(requisicao.build(), HttpResponse.BodyHandlers.ofByteArray());
+            } catch (HttpTimeoutException e) {
+                ServidorHttp.responderErro(troca, 504, "Nó não respondeu a tempo");
+                return;
+            } catch (IOException e) {
+                // Recusou a conexão, caiu no meio da resposta ou respondeu algo que não é HTTP
+                ServidorHttp.responderErro(troca, 502, "Nó indisponível");
+                return;
+            }
+            resposta.headers().firstValue("Content-Type")
+                    .ifPresent(valor -> troca.getResponseHeaders().set("Content-Type", valor));
+            troca.getResponseHeaders().set("X-No", no);
+            byte[] bytes = resposta.body();
+            troca.sendResponseHeaders(resposta.statusCode(), bytes.length == 0 ? -1 : bytes.length);
+            try (OutputStream saida = troca.getResponseBody()) {
+                saida.write(bytes);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            ServidorHttp.responderErro(troca, 503, "Interrompido");
+        } finally {
+            topologia.readLock().unlock();
+        }
+    }
+
+    // Chave de roteamento: nome na criação de sessão, prefixo do id nas demais rotas
+    private static long chave(HttpExchange troca) {
+        String caminho = troca.getRequestURI().getPath();
+        if (caminho.startsWith(PREFIXO_SESSOES)) {
+            String resto = caminho.substring(PREFIXO_SESSOES.length());
+            if (resto.isEmpty() || resto.equals("/")) {
+                Map<String, String> parametros = ServidorHttp.lerParametros(troca);
+                return AnelConsistente.hash(parametros.getOrDefault("nome", "").trim());
+            }
+            int fimId = resto.indexOf('/', 1);
+            return AnelConsistente.chaveSessao(fimId < 0 ? resto.substring(1) : resto.substring(1, fimId));
+        }
+        return AnelConsistente.hash(caminho);
+    }
+}
@@ -0,0 +1,541 @@
+// =============================================
+// Classe SalaAoVivo
+// Modo sala de aula: o professor envia uma questão a todos os
+// alunos conectados (telnet/nc) e acompanha as respostas ao vivo
+// - a tela da questão é renderizada uma vez em um ByteBuffer direto
+//   somente leitura; cada conexão recebe um duplicate() (mesmos
+//   bytes, posição própria); a tela da questão aberta fica guardada
+//   para quem entra (ou informa o nome) depois do envio
+// - os laços de rede só enfileiram as respostas em uma fila sem trava
+//   (vários produtores, um consumidor)
+// - aluno que não lê o socket para de ser lido acima de um limite de
+//   saída pendente e é desconectado acima do máximo
+// - uma única thread de tique drena a fila em intervalo fixo e é a dona
+//   do histograma e da questão aberta, sem trava por resposta
+//
+// Comandos do professor (console):
+//   questao <tópico 1-5> <número>   abre a questão para a turma
+//   fechar                          encerra a questão e envia o resultado
+//   sair                            encerra a sala
+// =============================================
+
+package Servidor;
+
+import Exceptions.QuestaoException;
+import Idiomas.Catalogo;
+import Idiomas.Mensagem;
+import Questoes.BancoQuestoes;
+import Questoes.Questao;
+import Questoes.QuestaoFactory;
+import enums.TipoQuestao;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SalaAoVivo {
+    private static final long TIQUE_MS = 250;
+    private static final int TAMANHO_LEITURA = 1024;
+    private static final int LINHA_MAXIMA = 256;
+    private static final int SAIDA_PAUSA_LEITURA = 64 * 1024;  // Bytes pendentes por aluno
+    private static final int SAIDA_MAXIMA = 1024 * 1024;
+    private static final int ALTERNATIVAS = 4;  // A-D
+    private static final int LARGURA_BARRA = 40;
+
+    private final int porta;
+    private final int totalLacos;
+    private final Catalogo catalogo;
+    private final PrintStream painel;   // Console do professor
+    private final AtomicInteger conectados;
+    private final ConcurrentLinkedQueue<Resposta> respostas;  // MPSC: laços -> tique
+    private final ScheduledExecutorService tique;
+    private ServerSocketChannel canalServidor;
+    private LacoSala[] lacos;
+    private volatile boolean executando;
+
+    // Questão aberta vista pelos laços (só o tique escreve); 0 = nenhuma
+    // A tela é publicada antes do número, para quem vê o número achar a tela
+    private volatile Tela telaAberta;
+    private volatile int questaoAberta;
+
+    // Estado da thread de tique
+    private int ultimaQuestao;
+    private Questao questaoAtual;
+    private final int[] histograma = new int[ALTERNATIVAS];
+    private int totalRespostas;
+    private int acertos;
+    private int totalDesenhado = -1;
+
+    // Tela renderizada para a turma; questao != 0 na tela de uma questão
+    private static final class Tela {
+        final int questao;
+        final ByteBuffer bytes;  // Somente leitura; cada aluno usa um duplicate()
+
+        Tela(int questao, ByteBuffer bytes) {
+            this.questao = questao;
+            this.bytes = bytes;
+        }
+    }
+
+    // Resposta de um aluno a uma questão (criada no laço, consumida no tique)
+    private static final class Resposta {
+        final int questao;
+        final int alternativa;
+
+        Resposta(int questao, int alternativa) {
+            this.questao = questao;
+            this.alternativa = alternativa;
+        }
+    }
+
+    public SalaAoVivo(int porta, int totalLacos, Catalogo catalogo, PrintStream painel) {
+        this.porta = porta;
+        this.totalLacos = Math.max(1, totalLacos);
+        this.catalogo = catalogo;
+        this.painel = painel;
+        this.conectados = new AtomicInteger();
+        this.respostas = new ConcurrentLinkedQueue<>();
+        this.tique = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "sala-tique"));
+    }
+
+    public static SalaAoVivo criarPadrao(int porta) {
+        return new SalaAoVivo(porta, Integer.getInteger("sistema.telnet.lacos", Runtime.getRuntime().availableProcessors()),
+                Catalogo.porCodigo(System.getProperty("sistema.idioma")), System.out);
+    }
+
+    public void iniciar() throws IOException {
+        canalServidor = ServerSocketChannel.open();
+        canalServidor.bind(new InetSocketAddress(porta), 1024);
+        executando = true;
+        lacos = new LacoSala[totalLacos];
+        for (int i = 0; i < totalLacos; i++) {
+            lacos[i] = new LacoSala(Selector.open());
+            new Thread(lacos[i], "laco-sala-" + i).start();
+        }
+        new Thread(this::aceitar, "aceite-sala").start();
+        tique.scheduleAtFixedRate(this::processarTique, TIQUE_MS, TIQUE_MS, TimeUnit.MILLISECONDS);
+        painel.println("🏫 Sala ao vivo na porta " + getPorta());
+        painel.println("Comandos: questao <tópico 1-5> <número> | fechar | sair");
+    }
+
+    // Lê os comandos do professor até "sair" (ou fim da entrada)
+    public void conduzir(InputStream comandos) throws IOException {
+        BufferedReader entrada = new BufferedReader(new InputStreamReader(comandos));
+        String linha;
+        while ((linha = entrada.readLine()) != null) {
+            String[] partes = linha.trim().split("\\s+");
+            if (partes[0].equalsIgnoreCase("sair")) {
+                break;
+            } else if (partes[0].equalsIgnoreCase("fechar")) {
+                tique.execute(this::fecharQuestao);
+            } else if (partes[0].equalsIgnoreCase("questao") && partes.length == 3) {
+                try {
+                    Questao questao = buscarQuestao(Integer.parseInt(partes[1]), Integer.parseInt(partes[2]));
+                    tique.execute(() -> abrirQuestao(questao));
+                } catch (NumberFormatException | QuestaoException e) {
+                    painel.println("❌ " + e.getMessage());
+                }
+            } else if (!partes[0].isEmpty()) {
+                painel.println("Comandos: questao <tópico 1-5> <número> | fechar | sair");
+            }
+        }
+        parar();
+    }
+
+    public void parar() {
+        try {
+            tique.submit(this::fecharQuestao).get();
+        } catch (Exception e) {
+            painel.println("Erro ao fechar a questão: " + e.getMessage());
+        }
+        transmitir(new Tela(0, renderizar(catalogo.get(Mensagem.SALA_ENCERRADA) + "\n")));
+        executando = false;
+        tique.shutdown();
+        try {
+            canalServidor.close();
+        } catch (IOException e) {
+            painel.println("Erro ao fechar a sala: " + e.getMessage());
+        }
+        for (LacoSala laco : lacos) {
+            laco.selector.wakeup();
+        }
+    }
+
+    public int getPorta() { return canalServidor.socket().getLocalPort(); }
+    public int getConectados() { return conectados.get(); }
+
+    // Só questões de letra (A-D) fazem sentido com histograma
+    private static Questao buscarQuestao(int topico, int numero) throws QuestaoException {
+        if (topico < 1 || topico > BancoQuestoes.TOPICOS.length) {
+            throw new QuestaoException("Tópico inválido: " + topico);
+        }
+        ArrayList<Questao> questoes = QuestaoFactory.criarQuestoesPorTopico(BancoQuestoes.TOPICOS[topico - 1]);
+        if (numero < 1 || numero > questoes.size()) {
+            throw new QuestaoException("O tópico tem " + questoes.size() + " questões");
+        }
+        Questao questao = questoes.get(numero - 1);
+        if (questao.getTipo() == TipoQuestao.COMPLETAR) {
+            throw new QuestaoException("Questão " + numero + " é de completar código; escolha uma de alternativas");
+        }
+        return questao;
+    }
+
+    // ---------------------------------------------
+    // Thread de tique: dona da questão aberta e do histograma
+    // ---------------------------------------------
+
+    private void abrirQuestao(Questao questao) {
+        fecharQuestao();
+        questaoAtual = questao;
+        Arrays.fill(histograma, 0);
+        totalRespostas = 0;
+        acertos = 0;
+        totalDesenhado = -1;
+        ultimaQuestao++;
+        // A tela é montada e codificada uma só vez para toda a turma
+        Tela tela = new Tela(ultimaQuestao,
+                renderizar(questao.exibirQuestao(catalogo) + "\n" + catalogo.get(Mensagem.SALA_SUA_RESPOSTA)));
+        telaAberta = tela;
+        questaoAberta = ultimaQuestao;
+        transmitir(tela);
+        painel.println("📤 Questão " + ultimaQuestao + " enviada a " + conectados.get() + " aluno(s)");
+    }
+
+    private void fecharQuestao() {
+        if (questaoAtual == null) {
+            return;
+        }
+        questaoAberta = 0;
+        telaAberta = null;
+        processarTique(); // Respostas que chegaram antes de fechar ainda contam
+        String resultado = catalogo.get(Mensagem.SALA_RESULTADO) + questaoAtual.getCorreta() + "\n" + desenharHistograma();
+        transmitir(new Tela(0, renderizar("\n" + resultado + "\n")));
+        painel.println("✅ Questão " + ultimaQuestao + " encerrada\n" + resultado);
+        questaoAtual = null;
+    }
+
+    // Drena a fila e atualiza o histograma; o painel só é redesenhado se algo mudou
+    private void processarTique() {
+        Resposta resposta;
+        while ((resposta = respostas.poll()) != null) {
+            if (questaoAtual == null || resposta.questao != ultimaQuestao) {
+                continue; // Resposta atrasada de uma questão já fechada
+            }
+            histograma[resposta.alternativa]++;
+            totalRespostas++;
+            if (questaoAtual.verificarResposta(String.valueOf((char) ('A' + resposta.alternativa)))) {
+                acertos++;
+            }
+        }
+        if (questaoAtual != null && totalRespostas != totalDesenhado) {
+            painel.print(desenharHistograma());
+            totalDesenhado = totalRespostas;
+        }
+    }
+
+    private String desenharHistograma() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Respostas: ").append(totalRespostas).append('/').append(conectados.get())
+                .append(" | acertos: ").append(acertos).append('\n');
+        for (int i = 0; i < ALTERNATIVAS; i++) {
+            int tamanho = totalRespostas == 0 ? 0 : histograma[i] * LARGURA_BARRA / totalRespostas;
+            sb.append("  ").append((char) ('A' + i)).append(" |");
+            for (int j = 0; j < LARGURA_BARRA; j++) {
+                sb.append(j < tamanho ? '█' : ' ');
+            }
+            sb.append("| ").append(histograma[i]).append('\n');
+        }
+        return sb.toString();
+    }
+
+    // ---------------------------------------------
+    // Envio: um buffer somente leitura, repartido entre os laços
+    // ---------------------------------------------
+
+    private static ByteBuffer renderizar(String texto) {
+        byte[] bytes = texto.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes).flip();
+        return buffer.asReadOnlyBuffer();
+    }
+
+    private void transmitir(Tela tela) {
+        for (LacoSala laco : lacos) {
+            laco.transmissoes.add(tela);
+            laco.selector.wakeup();
+        }
+    }
+
+    private void aceitar() {
+        int proximo = 0;
+        while (executando) {
+            try {
+                SocketChannel canal = canalServidor.accept();
+                canal.configureBlocking(false);
+                canal.socket().setTcpNoDelay(true);
+                lacos[proximo].novas.add(canal);
+                lacos[proximo].selector.wakeup();
+                proximo = (proximo + 1) % lacos.length;
+            } catch (ClosedChannelException e) {
+                return;
+            } catch (IOException e) {
+                painel.println("Falha ao aceitar aluno: " + e.getMessage());
+            }
+        }
+    }
+
+    // ---------------------------------------------
+    // Laço de rede: conexões dos alunos atribuídas a um Selector
+    // ---------------------------------------------
+    private final class LacoSala implements Runnable {
+        private final Selector selector;
+        private final ConcurrentLinkedQueue<SocketChannel> novas = new ConcurrentLinkedQueue<>();
+        private final ConcurrentLinkedQueue<Tela> transmissoes = new ConcurrentLinkedQueue<>();
+        private final ByteBuffer entrada = ByteBuffer.allocateDirect(TAMANHO_LEITURA);
+
+        LacoSala(Selector selector) {
+            this.selector = selector;
+        }
+
+        @Override
+        public void run() {
+            while (executando || !transmissoes.isEmpty()) {
+                try {
+                    selector.select();
+                    registrarNovas();
+                    distribuirTransmissoes();
+                    Iterator<SelectionKey> prontas = selector.selectedKeys().iterator();
+                    while (prontas.hasNext()) {
+                        SelectionKey chave = prontas.next();
+                        prontas.remove();
+                        Aluno aluno = (Aluno) chave.attachment();
+                        try {
+                            if (chave.isValid() && chave.isReadable()) {
+                                aluno.ler(entrada);
+                            }
+                            if (chave.isValid() && chave.isWritable()) {
+                                aluno.escrever();
+                            }
+                        } catch (IOException e) {
+                            aluno.fechar();
+                        }
+                    }
+                } catch (IOException e) {
+                    painel.println("Erro no laço da sala: " + e.getMessage());
+                }
+            }
+            for (SelectionKey chave : selector.keys()) {
+                Aluno aluno = (Aluno) chave.attachment();
+                try {
+                    aluno.escrever(); // Última tentativa de entregar o aviso de encerramento
+                } catch (IOException e) {
+                    // Conexão já caiu
+                }
+                aluno.fechar();
+            }
+            try {
+                selector.close();
+            } catch (IOException e) {
+                painel.println("Erro ao fechar o selector da sala: " + e.getMessage());
+            }
+        }
+
+        private void registrarNovas() throws IOException {
+            SocketChannel canal;
+            while ((canal = novas.poll()) != null) {
+                SelectionKey chave = canal.register(selector, SelectionKey.OP_READ);
+                Aluno aluno = new Aluno(canal, chave);
+                chave.attach(aluno);
+                conectados.incrementAndGet();
+                aluno.enviar(catalogo.get(Mensagem.SALA_BOAS_VINDAS));
+            }
+        }
+
+        // Cada aluno recebe uma visão própria (duplicate) do mesmo buffer
+        private void distribuirTransmissoes() {
+            Tela tela;
+            while ((tela = transmissoes.poll()) != null) {
+                for (SelectionKey chave : selector.keys()) {
+                    Aluno aluno = (Aluno) chave.attachment();
+                    if (chave.isValid() && aluno.nome != null) {
+                        aluno.exibir(tela);
+                    }
+                }
+            }
+        }
+    }
+
+    // ---------------------------------------------
+    // Aluno conectado (acessado só pela thread do seu laço)
+    // ---------------------------------------------
+    private final class Aluno {
+        private final SocketChannel canal;
+        private final SelectionKey chave;
+        private final ArrayDeque<ByteBuffer> pendentes = new ArrayDeque<>();
+        private long bytesPendentes;
+        private final byte[] linha = new byte[LINHA_MAXIMA];
+        private int tamanhoLinha;
+        private int bytesTelnet;        // Bytes restantes de um comando IAC em andamento
+        private String nome;
+        private int questaoRespondida;  // Só a primeira resposta de cada questão conta
+        private int questaoExibida;     // Última questão cuja tela foi enfileirada
+        private boolean fechado;
+
+        Aluno(SocketChannel canal, SelectionKey chave) {
+            this.canal = canal;
+            this.chave = chave;
+        }
+
+        void ler(ByteBuffer entrada) throws IOException {
+            entrada.clear();
+            if (canal.read(entrada) < 0) {
+                fechar();
+                return;
+            }
+            entrada.flip();
+            while (entrada.hasRemaining() && !fechado) {
+                int b = entrada.get() & 0xFF;
+                if (bytesTelnet > 0) {
+                    bytesTelnet = (bytesTelnet == 2 && b >= 251 && b <= 254) ? 1 : 0;  // WILL..DONT têm opção
+                } else if (b == 0xFF) {
+                    bytesTelnet = 2;
+                } else if (b == '\n') {
+                    tratarLinha(new String(linha, 0, tamanhoLinha, StandardCharsets.UTF_8).trim());
+                    tamanhoLinha = 0;
+                } else if (b != '\r' && b != 0 && tamanhoLinha < linha.length) {
+                    linha[tamanhoLinha++] = (byte) b;
+                }
+            }
+        }
+
+        private void tratarLinha(String texto) throws IOException {
+            if (nome == null) {
+                if (!texto.isEmpty()) {
+                    nome = texto;
+                    enviar(catalogo.get(Mensagem.SALA_AGUARDE) + "\n");
+                    exibirAberta(questaoAberta);  // Chegou depois do envio da questão
+                }
+                return;
+            }
+            int questao = questaoAberta;
+            if (questao == 0) {
+                enviar(catalogo.get(Mensagem.SALA_SEM_QUESTAO) + "\n");
+                return;
+            }
+            if (questaoExibida != questao) {
+                // Aberta, mas a tela ainda não chegou a este aluno: resposta às cegas não conta
+                exibirAberta(questao);
+                return;
+            }
+            if (questaoRespondida == questao) {
+                enviar(catalogo.get(Mensagem.SALA_JA_RESPONDEU) + "\n");
+                return;
+            }
+            int alternativa = texto.length() == 1 ? Character.toUpperCase(texto.charAt(0)) - 'A' : -1;
+            if (alternativa < 0 || alternativa >= ALTERNATIVAS) {
+                enviar(catalogo.get(Mensagem.SALA_RESPOSTA_INVALIDA));
+                return;
+            }
+            questaoRespondida = questao;
+            respostas.add(new Resposta(questao, alternativa));
+            enviar(catalogo.get(Mensagem.SALA_RESPOSTA_REGISTRADA) + (char) ('A' + alternativa) + "\n");
+        }
+
+        // Telas de questão vão uma vez só por aluno (envio geral ou entrada tardia)
+        void exibir(Tela tela) {
+            if (tela.questao != 0) {
+                if (tela.questao == questaoExibida) {
+                    return;
+                }
+                questaoExibida = tela.questao;
+            }
+            enfileirar(tela.bytes.duplicate());
+        }
+
+        private void exibirAberta(int questao) throws IOException {
+            Tela aberta = telaAberta;
+            if (questao != 0 && aberta != null && aberta.questao == questao) {
+                exibir(aberta);
+                escrever();
+            }
+        }
+
+        void enviar(String texto) throws IOException {
+            enfileirar(ByteBuffer.wrap(texto.getBytes(StandardCharsets.UTF_8)));
+            escrever();
+        }
+
+        void enfileirar(ByteBuffer buffer) {
+            if (fechado) {
+                return;
+            }
+            bytesPendentes += buffer.remaining();
+            if (bytesPendentes > SAIDA_MAXIMA) {
+                fechar();  // Não lê o que recebe; não vale segurar a memória
+                return;
+            }
+            pendentes.addLast(buffer);
+            atualizarInteresse();
+        }
+
+        void escrever() throws IOException {
+            if (fechado) {
+                return;
+            }
+            while (!pendentes.isEmpty()) {
+                ByteBuffer primeiro = pendentes.peekFirst();
+                bytesPendentes -= canal.write(primeiro);
+                if (primeiro.hasRemaining()) {
+                    break; // Socket cheio; continua no próximo OP_WRITE
+                }
+                pendentes.pollFirst();
+            }
+            atualizarInteresse();
+        }
+
+        // Acima do limite de pausa as linhas do aluno esperam o socket drenar
+        private void atualizarInteresse() {
+            if (!chave.isValid()) {
+                return;
+            }
+            int interesse = bytesPendentes < SAIDA_PAUSA_LEITURA ? SelectionKey.OP_READ : 0;
+            if (!pendentes.isEmpty()) {
+                interesse |= SelectionKey.OP_WRITE;
+            }
+            chave.interestOps(interesse);
+        }
+
+        void fechar() {
+            if (fechado) {
+                return;
+            }
+            fechado = true;
+            conectados.decrementAndGet();
+            chave.cancel();
+            try {
+                canal.close();
+            } catch (IOException e) {
+                painel.println("Erro ao desconectar aluno: " + e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,422 @@
+// =============================================
+// Classe ServidorHttp
+// API HTTP/JSON do sistema de aprendizado sobre o servidor
+// embutido do JDK (com.sun.net.httpserver)
+// Reaproveita ExercicioTopico e Questao para toda a lógica
+// Sessões ficam no RegistroSessoes, que as passiva em disco quando
+// ociosas ou quando os limites de memória são atingidos
+//
+// Rotas:
+//   POST   /api/sessoes?nome=Ana[&idioma=en]          cria sessão
+//   POST   /api/sessoes/{id}/topico?topico=1&ordem=crescente[&retomar=false]
+//   GET    /api/sessoes/{id}/questao                  questão atual
+//   POST   /api/sessoes/{id}/resposta?resposta=B      (ou no corpo)
+//   POST   /api/sessoes/{id}/navegar?comando=V|P|M
+//   GET    /api/sessoes/{id}/estatisticas
+//   DELETE /api/sessoes/{id}                          encerra sessão
+//   GET    /metricas, /analise (com -Dsistema.analise.dir)
+//   GET    /fraude (com -Dsistema.fraude=true)
+//   POST   /admin/drenar                              passiva todas as sessões
+//
+// O nó ouve só no loopback, a menos de -Dsistema.http.endereco
+// (ex.: 0.0.0.0 quando o roteador está em outra máquina)
+// As rotas /admin/* exigem o cabeçalho X-Token-Admin igual a
+// -Dsistema.admin.token; sem token configurado, só aceitam chamadas
+// do loopback. Qualquer um que alcance a porta poderia drenar o nó
+// =============================================
+
+package Servidor;
+
+import Analise.Telemetria;
+import Core.Estatisticas;
+import Core.ExercicioTopico;
+import Core.Usuario;
+import Exceptions.NavegacaoException;
+import Exceptions.QuestaoException;
+import Idiomas.Catalogo;
+import Monitoramento.Metricas;
+import Questoes.Questao;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HashMap;
+import java.util.Map;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public class ServidorHttp {
+    public static final String[] TOPICOS = {"encapsulamento", "herança", "interface", "polimorfismo", "abstração"};
+    public static final String CABECALHO_TOKEN_ADMIN = "X-Token-Admin";
+    private static final String PREFIXO = "/api/sessoes";
+
+    private final InetAddress endereco;
+    private final int porta;
+    private final byte[] tokenAdmin;  // null: /admin/* só do loopback
+    private final long ociosidadeMaximaNanos;
+    private final RegistroSessoes sessoes;
+    private HttpServer servidor;
+    private ExecutorService executor;
+    private ScheduledExecutorService limpeza;
+
+    public ServidorHttp(int porta, long ociosidadeMaximaMinutos, RegistroSessoes sessoes) {
+        this(InetAddress.getLoopbackAddress(), porta, ociosidadeMaximaMinutos, sessoes, null);
+    }
+
+    public ServidorHttp(InetAddress endereco, int porta, long ociosidadeMaximaMinutos, RegistroSessoes sessoes,
+                        String tokenAdmin) {
+        this.endereco = endereco;
+        this.porta = porta;
+        this.tokenAdmin = tokenAdmin == null || tokenAdmin.isEmpty()
+                ? null : tokenAdmin.getBytes(StandardCharsets.UTF_8);
+        this.ociosidadeMaximaNanos = TimeUnit.MINUTES.toNanos(ociosidadeMaximaMinutos);
+        this.sessoes = sessoes;
+    }
+
+    // Cria o servidor com limites lidos das propriedades do sistema
+    public static ServidorHttp criarPadrao(int porta) throws IOException {
+        RegistroSessoes registro = new RegistroSessoes(
+                Integer.getInteger("sistema.sessoes.max", 10_000),
+                Long.getLong("sistema.sessoes.maxMB", 256) * 1024 * 1024,
+                Path.of(System.getProperty("sistema.sessoes.dir", "sessoes-passivadas")));
+        String endereco = System.getProperty("sistema.http.endereco");
+        return new ServidorHttp(endereco == null ? InetAddress.getLoopbackAddress() : InetAddress.getByName(endereco),
+                porta, Long.getLong("sistema.http.ociosidadeMin", 30), registro,
+                System.getProperty("sistema.admin.token"));
+    }
+
+    public void iniciar() throws IOException {
+        // A pausa simulada de ordenação não faz sentido em uma API
+        ExercicioTopico.setAtrasoOrdenacaoMs(0);
+
+        servidor = HttpServer.create(new InetSocketAddress(endereco, porta), 1024);
+        servidor.createContext(PREFIXO, this::tratar);
+        servidor.createContext("/metricas", troca -> responder(troca, 200, "text/plain", Metricas.exportarTexto()));
+        servidor.createContext("/admin/drenar", this::drenar);
+        if (Telemetria.getAgregador() != null) {
+            servidor.createContext("/analise", troca ->
+                    responder(troca, 200, "text/plain", Telemetria.getAgregador().getRelatorio()));
+        }
+        if (Telemetria.getDetector() != null) {
+            servidor.createContext("/fraude", troca ->
+                    responder(troca, 200, "text/plain", Telemetria.getDetector().getRelatorio()));
+        }
+        executor = criarExecutor();
+        servidor.setExecutor(executor);
+        servidor.start();
+
+        limpeza = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "expiracao-sessoes");
+            t.setDaemon(true);
+            return t;
+        });
+        limpeza.scheduleWithFixedDelay(() -> sessoes.passivarOciosas(ociosidadeMaximaNanos), 30, 30, TimeUnit.SECONDS);
+        System.out.println("🌐 Servidor HTTP ouvindo em " + endereco.getHostAddress() + ":" + servidor.getAddress().getPort());
+    }
+
+    public void parar() {
+        servidor.stop(0);
+        executor.shutdown();
+        limpeza.shutdownNow();
+    }
+
+    public int getPorta() { return servidor.getAddress().getPort(); }
+    public int getTotalSessoes() { return sessoes.getTotalAtivas(); }
+
+    // Uma thread virtual por requisição quando o JDK oferece (21+);
+    // caso contrário, um pool fixo proporcional aos núcleos
+    // (a busca é reflexiva; na imagem nativa, que não registra reflexão, vai direto ao pool)
+    private static ExecutorService criarExecutor() {
+        if (System.getProperty("org.graalvm.nativeimage.imagecode") != null) {
+            return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 4);
+        }
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 4);
+        }
+    }
+
+    private void tratar(HttpExchange troca) throws IOException {
+        try {
+            String[] partes = troca.getRequestURI().getPath().substring(PREFIXO.length()).split("/");
+            String metodo = troca.getRequestMethod();
+            Map<String, String> parametros = lerParametros(troca);
+
+            if (partes.length <= 1) {
+                if (metodo.equals("POST")) {
+                    criarSessao(troca, parametros);
+                } else {
+                    responderErro(troca, 405, "Método não suportado");
+                }
+                return;
+            }
+
+            String acao = partes.length > 2 ? partes[2] : "";
+            SessaoWeb sessao = sessoes.obter(partes[1]);
+            if (sessao == null) {
+                responderErro(troca, 404, "Sessão não encontrada");
+                return;
+            }
+
+            synchronized (sessao) {
+                if (sessao.isPassivada()) {
+                    // Foi para o disco enquanto esperávamos: busca a versão reativada
+                    tratar(troca);
+                    return;
+                }
+                sessao.tocar();
+                switch (metodo + " " + acao) {
+                    case "POST topico": iniciarTopico(troca, sessao, parametros); break;
+                    case "GET questao": enviarQuestao(troca, sessao); break;
+                    case "POST resposta": responderQuestao(troca, sessao, parametros); break;
+                    case "POST navegar": navegar(troca, sessao, parametros); break;
+                    case "GET estatisticas": enviarEstatisticas(troca, sessao); break;
+                    case "DELETE ": encerrarSessao(troca, sessao); break;
+                    default: responderErro(troca, 404, "Rota não encontrada");
+                }
+            }
+            if (!acao.isEmpty()) {
+                sessoes.atualizar(sessao);
+            }
+        } catch (QuestaoException e) {
+            responderErro(troca, 400, e.getMessage());
+        } catch (NavegacaoException e) {
+            responderErro(troca, 409, e.getMessage());
+        } catch (RuntimeException e) {
+            responderErro(troca, 500, "Erro inesperado: " + e.getMessage());
+        }
+    }
+
+    private void criarSessao(HttpExchange troca, Map<String, String> parametros) throws IOException {
+        String nome = parametros.getOrDefault("nome", "").trim();
+        if (nome.isEmpty()) {
+            responderErro(troca, 400, "Nome não pode estar vazio");
+            return;
+        }
+        Usuario usuario = new Usuario(nome);
+        usuario.setIdioma(Catalogo.porCodigo(parametros.get("idioma")));
+        usuario.getEstatisticas().iniciar();
+        // O prefixo com a chave do usuário permite ao Roteador achar o nó só pelo id
+        SessaoWeb sessao = new SessaoWeb(AnelConsistente.prefixoSessao(nome) + "." + UUID.randomUUID(), usuario);
+        sessoes.adicionar(sessao);
+        responderJson(troca, 201, new Json().campo("id", sessao.getId()).campo("nome", nome)
+                .campo("idioma", usuario.getIdioma().getCodigo()));
+    }
+
+    private void iniciarTopico(HttpExchange troca, SessaoWeb sessao, Map<String, String> parametros)
+            throws IOException, QuestaoException {
+        String topico = resolverTopico(parametros.getOrDefault("topico", ""));
+        String ordem = parametros.getOrDefault("ordem", "embaralhadas");
+        Estatisticas estatisticas = sessao.getUsuario().getEstatisticas();
+        if (!estatisticas.isSessaoAtiva()) {
+            estatisticas.iniciar();
+        }
+
+        estatisticas.adicionarTopicoEstudado(topico);
+        ExercicioTopico exercicio = sessao.getUsuario().retomarTopico(topico);
+        if (exercicio == null || "false".equals(parametros.get("retomar"))) {
+            exercicio = new ExercicioTopico(topico, estatisticas, sessao.getSaidaDescartada());
+            exercicio.setCatalogo(sessao.getUsuario().getIdioma());
+            exercicio.aplicarOrdenacao(ordem);
+            exercicio.carregarQuestoes();
+        }
+        sessao.setExercicio(exercicio);
+        exercicio.marcarInicio();
+        enviarQuestao(troca, sessao);
+    }
+
+    // Aceita o número do menu (1-5) ou o nome do tópico
+    private static String resolverTopico(String valor) throws QuestaoException {
+        String topico = valor.trim().toLowerCase();
+        if (topico.length() == 1 && topico.charAt(0) >= '1' && topico.charAt(0) <= '5') {
+            return TOPICOS[topico.charAt(0) - '1'];
+        }
+        for (String conhecido : TOPICOS) {
+            if (conhecido.equals(topico)) {
+                return conhecido;
+            }
+        }
+        throw new QuestaoException("Tópico não encontrado: " + valor);
+    }
+
+    private void enviarQuestao(HttpExchange troca, SessaoWeb sessao) throws IOException {
+        ExercicioTopico exercicio = sessao.getExercicio();
+        if (exercicio == null || exercicio.obterQuestaoAtual() == null) {
+            responderErro(troca, 409, "Nenhum tópico em andamento");
+            return;
+        }
+        Questao questao = exercicio.obterQuestaoAtual();
+        responderJson(troca, 200, new Json()
+                .campo("topico", exercicio.getTituloTopico())
+                .campo("posicao", exercicio.getIndiceAtual() + 1)
+                .campo("total", exercicio.getTotalQuestoes())
+                .campo("tipo", questao.getTipo().name())
+                .campo("nivel", questao.getNivel().name())
+                .campo("tela", exercicio.exibirQuestaoAtual())
+                .campo("progresso", exercicio.calcularProgresso())
+                .campo("temAnterior", exercicio.temQuestaoAnterior())
+                .campo("temProxima", exercicio.temProximaQuestao()));
+    }
+
+    private void responderQuestao(HttpExchange troca, SessaoWeb sessao, Map<String, String> parametros)
+            throws IOException, NavegacaoException {
+        ExercicioTopico exercicio = sessao.getExercicio();
+        if (exercicio == null || exercicio.obterQuestaoAtual() == null) {
+            responderErro(troca, 409, "Nenhum tópico em andamento");
+            return;
+        }
+        String resposta = parametros.containsKey("resposta") ? parametros.get("resposta") : lerCorpo(troca);
+        Questao questao = exercicio.obterQuestaoAtual();
+        String correta = exercicio.getCorretaAtual();
+        boolean acertou = exercicio.responderAtual(resposta.trim().toUpperCase());
+
+        Json json = new Json().campo("correta", acertou);
+        if (!acertou) {
+            json.campo("respostaCorreta", correta).campo("explicacao", questao.getExplicacao());
+        }
+        avancarOuConcluir(sessao, json);
+        responderJson(troca, 200, json);
+    }
+
+    private void navegar(HttpExchange troca, SessaoWeb sessao, Map<String, String> parametros)
+            throws IOException, NavegacaoException {
+        ExercicioTopico exercicio = sessao.getExercicio();
+        if (exercicio == null) {
+            responderErro(troca, 409, "Nenhum tópico em andamento");
+            return;
+        }
+        Json json = new Json();
+        switch (parametros.getOrDefault("comando", "").trim().toUpperCase()) {
+            case "V":
+            case "VOLTAR":
+                exercicio.voltar();
+                json.campo("posicao", exercicio.getIndiceAtual() + 1);
+                break;
+            case "P":
+            case "PULAR":
+                exercicio.pularQuestao();
+                avancarOuConcluir(sessao, json);
+                break;
+            case "M":
+            case "MENU":
+                exercicio.irParaMenu();
+                sessao.getUsuario().pausarTopico(exercicio);
+                sessao.setExercicio(null);
+                json.campo("menu", true);
+                break;
+            default:
+                responderErro(troca, 400, "Comando inválido (use V, P ou M)");
+                return;
+        }
+        responderJson(troca, 200, json);
+    }
+
+    // Mesmo fluxo do console: avança se houver próxima, senão conclui o tópico
+    private void avancarOuConcluir(SessaoWeb sessao, Json json) throws NavegacaoException {
+        ExercicioTopico exercicio = sessao.getExercicio();
+        if (exercicio.temProximaQuestao()) {
+            exercicio.avancar();
+            json.campo("concluido", false);
+        } else {
+            exercicio.marcarConclusao();
+            json.campo("concluido", true).campo("resumo", exercicio.gerarResumoDesempenho());
+            sessao.setExercicio(null);
+        }
+    }
+
+    private void enviarEstatisticas(HttpExchange troca, SessaoWeb sessao) throws IOException {
+        Estatisticas estatisticas = sessao.getUsuario().getEstatisticas();
+        responderJson(troca, 200, new Json()
+                .campo("nome", sessao.getUsuario().getNome())
+                .campo("questoesRespondidas", estatisticas.getQuestoesRespondidas())
+                .campo("acertos", estatisticas.getAcertos())
+                .campo("erros", estatisticas.getErros())
+                .campo("pulos", estatisticas.getPulos())
+                .campo("percentualAcertos", estatisticas.calcularPercentualAcertos())
+                .campo("tempoSessaoSegundos", estatisticas.calcularTempoSessao())
+                .campo("topicosEstudados", estatisticas.getTopicosEstudados().size())
+                .campo("resumo", estatisticas.getResumo(sessao.getUsuario().getIdioma())));
+    }
+
+    // Passiva todas as sessões no diretório compartilhado para outro nó assumi-las
+    // (usado pelo Roteador ao mudar a topologia)
+    private void drenar(HttpExchange troca) throws IOException {
+        if (!autorizadoAdmin(troca)) {
+            responderErro(troca, 403, "Rota administrativa exige o token do nó");
+            return;
+        }
+        if (!troca.getRequestMethod().equals("POST")) {
+            responderErro(troca, 405, "Método não suportado");
+            return;
+        }
+        int drenadas = sessoes.passivarTodas();
+        responderJson(troca, 200, new Json().campo("drenadas", drenadas));
+    }
+
+    // Token em tempo constante; sem token configurado, só o próprio host
+    private boolean autorizadoAdmin(HttpExchange troca) {
+        if (tokenAdmin == null) {
+            return troca.getRemoteAddress().getAddress().isLoopbackAddress();
+        }
+        String informado = troca.getRequestHeaders().getFirst(CABECALHO_TOKEN_ADMIN);
+        return informado != null && MessageDigest.isEqual(tokenAdmin, informado.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void encerrarSessao(HttpExchange troca, SessaoWeb sessao) throws IOException {
+        sessao.getUsuario().getEstatisticas().finalizar();
+        sessoes.remover(sessao.getId());
+        responderJson(troca, 200, new Json().campo("encerrada", true));
+    }
+
+    // Lê os parâmetros da query string (UTF-8)
+    static Map<String, String> lerParametros(HttpExchange troca) {
+        Map<String, String> parametros = new HashMap<>();
+        String query = troca.getRequestURI().getRawQuery();
+        if (query == null || query.isEmpty()) {
+            return parametros;
+        }
+        for (String par : query.split("&")) {
+            int igual = par.indexOf('=');
+            String chave = igual < 0 ? par : par.substring(0, igual);
+            String valor = igual < 0 ? "" : par.substring(igual + 1);
+            parametros.put(URLDecoder.decode(chave, StandardCharsets.UTF_8),
+                    URLDecoder.decode(valor, StandardCharsets.UTF_8));
+        }
+        return parametros;
+    }
+
+    private static String lerCorpo(HttpExchange troca) throws IOException {
+        try (InputStream corpo = troca.getRequestBody()) {
+            return new String(corpo.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    static void responderErro(HttpExchange troca, int status, String mensagem) throws IOException {
+        responderJson(troca, status, new Json().campo("erro", mensagem));
+    }
+
+    static void responderJson(HttpExchange troca, int status, Json json) throws IOException {
+        responder(troca, status, "application/json", json.toString());
+    }
+
+    static void responder(HttpExchange troca, int status, String tipo, String corpo) throws IOException {
+        byte[] bytes = corpo.getBytes(StandardCharsets.UTF_8);
+        troca.getResponseHeaders().set("Content-Type", tipo + "; charset=utf-8");
+        troca.sendResponseHeaders(status, bytes.length);
+        try (OutputStream os = troca.getResponseBody()) {
+            os.write(bytes);
+        }
+    }
+}
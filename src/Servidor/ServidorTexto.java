@@ -0,0 +1,386 @@
+// =============================================
+// Classe ServidorTexto
+// Servidor de sessões em texto (telnet/nc) sobre NIO não bloqueante
+// Um laço de eventos (Selector) por núcleo conduz muitas conexões:
+// cada linha recebida é uma transição da MaquinaSessao, cuja saída
+// vai para um ByteBuffer direto e é escrita quando o canal aceita
+// Nenhuma thread fica parada esperando a próxima linha do usuário
+// Contrapressão: com muita saída pendente (cliente que envia e não lê)
+// a conexão para de ler até o socket drenar; acima do máximo é fechada
+// =============================================
+
+package Servidor;
+
+import Core.ArmazemProgresso;
+import Core.ExercicioTopico;
+import Fluxo.MaquinaSessao;
+import Idiomas.Catalogo;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ServidorTexto {
+    private static final int TAMANHO_LEITURA = 4096;
+    private static final int TAMANHO_SAIDA_INICIAL = 8192;
+    private static final int LINHA_MAXIMA = 1024;  // Linhas maiores são truncadas
+    private static final int SAIDA_PAUSA_LEITURA = 64 * 1024;  // Acima disso, não processa mais entrada
+    private static final int SAIDA_MAXIMA = 1024 * 1024;       // Uma transição não cabe: fecha a conexão
+    private static final long VARREDURA_OCIOSAS_MS = 1000;
+
+    // Comandos telnet (RFC 854) que o cliente pode intercalar nos dados
+    private static final int IAC = 0xFF;
+    private static final int WILL = 251;
+    private static final int DONT = 254;
+
+    private final int porta;
+    private final int totalLacos;
+    private final long ociosidadeMaximaNanos;
+    private final ArmazemProgresso progresso;
+    private final Catalogo catalogo;
+    private final AtomicInteger conexoesAtivas;
+    private ServerSocketChannel canalServidor;
+    private LacoEventos[] lacos;
+    private Thread aceitador;
+    private volatile boolean executando;
+
+    public ServidorTexto(int porta, int totalLacos, long ociosidadeMaximaMinutos,
+                         ArmazemProgresso progresso, Catalogo catalogo) {
+        this.porta = porta;
+        this.totalLacos = Math.max(1, totalLacos);
+        this.ociosidadeMaximaNanos = TimeUnit.MINUTES.toNanos(ociosidadeMaximaMinutos);
+        this.progresso = progresso;
+        this.catalogo = catalogo;
+        this.conexoesAtivas = new AtomicInteger();
+    }
+
+    // Cria o servidor com um laço por núcleo e limites lidos das propriedades do sistema
+    public static ServidorTexto criarPadrao(int porta) {
+        return new ServidorTexto(porta,
+                Integer.getInteger("sistema.telnet.lacos", Runtime.getRuntime().availableProcessors()),
+                Long.getLong("sistema.telnet.ociosidadeMin", 30),
+                new ArmazemProgresso(Path.of(System.getProperty("sistema.progresso.dir", "progresso"))),
+                Catalogo.porCodigo(System.getProperty("sistema.idioma")));
+    }
+
+    public void iniciar() throws IOException {
+        // Uma pausa bloquearia todas as conexões do laço
+        ExercicioTopico.setAtrasoOrdenacaoMs(0);
+
+        canalServidor = ServerSocketChannel.open();
+        canalServidor.bind(new InetSocketAddress(porta), 1024);
+        executando = true;
+
+        lacos = new LacoEventos[totalLacos];
+        for (int i = 0; i < totalLacos; i++) {
+            lacos[i] = new LacoEventos(Selector.open());
+            Thread t = new Thread(lacos[i], "laco-telnet-" + i);
+            t.start();
+        }
+
+        // Aceite bloqueante em thread própria; as conexões são distribuídas em rodízio
+        aceitador = new Thread(this::aceitar, "aceite-telnet");
+        aceitador.start();
+        System.out.println("📡 Servidor de texto ouvindo na porta " + getPorta() + " (" + totalLacos + " laços)");
+    }
+
+    public void parar() {
+        executando = false;
+        try {
+            canalServidor.close();
+        } catch (IOException e) {
+            System.err.println("Erro ao fechar o servidor de texto: " + e.getMessage());
+        }
+        for (LacoEventos laco : lacos) {
+            laco.selector.wakeup();
+        }
+        progresso.encerrar();
+    }
+
+    public int getPorta() { return canalServidor.socket().getLocalPort(); }
+    public int getConexoesAtivas() { return conexoesAtivas.get(); }
+
+    private void aceitar() {
+        int proximo = 0;
+        while (executando) {
+            try {
+                SocketChannel canal = canalServidor.accept();
+                canal.configureBlocking(false);
+                canal.socket().setTcpNoDelay(true);
+                lacos[proximo].entregar(canal);
+                proximo = (proximo + 1) % lacos.length;
+            } catch (ClosedChannelException e) {
+                return;
+            } catch (IOException e) {
+                System.err.println("Falha ao aceitar conexão: " + e.getMessage());
+            }
+        }
+    }
+
+    // ---------------------------------------------
+    // Laço de eventos: um Selector e todas as conexões atribuídas a ele
+    // ---------------------------------------------
+    private final class LacoEventos implements Runnable {
+        private final Selector selector;
+        private final ConcurrentLinkedQueue<SocketChannel> novas;
+
+        LacoEventos(Selector selector) {
+            this.selector = selector;
+            this.novas = new ConcurrentLinkedQueue<>();
+        }
+
+        void entregar(SocketChannel canal) {
+            novas.add(canal);
+            selector.wakeup();
+        }
+
+        @Override
+        public void run() {
+            long ultimaVarredura = System.nanoTime();
+            while (executando) {
+                try {
+                    selector.select(VARREDURA_OCIOSAS_MS);
+                    registrarNovas();
+
+                    Iterator<SelectionKey> prontas = selector.selectedKeys().iterator();
+                    while (prontas.hasNext()) {
+                        SelectionKey chave = prontas.next();
+                        prontas.remove();
+                        Conexao conexao = (Conexao) chave.attachment();
+                        try {
+                            if (chave.isValid() && chave.isReadable()) {
+                                conexao.ler();
+                            }
+                            if (chave.isValid() && chave.isWritable()) {
+                                conexao.escrever();
+                            }
+                        } catch (IOException e) {
+                            conexao.fechar();
+                        }
+                    }
+
+                    long agora = System.nanoTime();
+                    if (agora - ultimaVarredura > TimeUnit.MILLISECONDS.toNanos(VARREDURA_OCIOSAS_MS)) {
+                        fecharOciosas(agora);
+                        ultimaVarredura = agora;
+                    }
+                } catch (IOException e) {
+                    System.err.println("Erro no laço de eventos: " + e.getMessage());
+                }
+            }
+            for (SelectionKey chave : selector.keys()) {
+                ((Conexao) chave.attachment()).fechar();
+            }
+            try {
+                selector.close();
+            } catch (IOException e) {
+                System.err.println("Erro ao fechar o selector: " + e.getMessage());
+            }
+        }
+
+        private void registrarNovas() {
+            SocketChannel canal;
+            while ((canal = novas.poll()) != null) {
+                try {
+                    SelectionKey chave = canal.register(selector, SelectionKey.OP_READ);
+                    Conexao conexao = new Conexao(canal, chave);
+                    chave.attach(conexao);
+                    conexoesAtivas.incrementAndGet();
+                    conexao.iniciar();
+                } catch (IOException e) {
+                    System.err.println("Conexão descartada: " + e.getMessage());
+                }
+            }
+        }
+
+        private void fecharOciosas(long agora) {
+            if (ociosidadeMaximaNanos <= 0) {
+                return;
+            }
+            for (SelectionKey chave : selector.keys()) {
+                Conexao conexao = (Conexao) chave.attachment();
+                if (agora - conexao.ultimoAcesso > ociosidadeMaximaNanos) {
+                    conexao.fechar();
+                }
+            }
+        }
+    }
+
+    // ---------------------------------------------
+    // Conexão: montagem das linhas de entrada, sessão e saída pendente
+    // Acessada apenas pela thread do seu laço
+    // ---------------------------------------------
+    private final class Conexao {
+        private final SocketChannel canal;
+        private final SelectionKey chave;
+        private final ByteBuffer entrada;
+        private final SaidaDireta saidaDireta;
+        private final MaquinaSessao sessao;
+        private final byte[] linha;
+        private int tamanhoLinha;
+        private int bytesTelnet;     // Bytes restantes de um comando IAC em andamento
+        private long ultimoAcesso;
+        private boolean fechada;
+
+        Conexao(SocketChannel canal, SelectionKey chave) {
+            this.canal = canal;
+            this.chave = chave;
+            this.entrada = ByteBuffer.allocateDirect(TAMANHO_LEITURA);
+            this.saidaDireta = new SaidaDireta();
+            this.sessao = new MaquinaSessao(new PrintStream(saidaDireta, false, StandardCharsets.UTF_8), progresso, catalogo);
+            this.linha = new byte[LINHA_MAXIMA];
+            this.ultimoAcesso = System.nanoTime();
+        }
+
+        void iniciar() throws IOException {
+            sessao.iniciar();
+            escrever();
+        }
+
+        void ler() throws IOException {
+            int lidos = canal.read(entrada);
+            if (lidos < 0) {
+                fechar();
+                return;
+            }
+            ultimoAcesso = System.nanoTime();
+            escrever();
+        }
+
+        // Transforma em transições as linhas recebidas até a saída pendente
+        // atingir o limite; o restante fica em "entrada" para depois
+        private boolean processarEntrada() throws IOException {
+            entrada.flip();
+            int inicio = entrada.position();
+            while (entrada.hasRemaining() && !sessao.isEncerrada()
+                    && saidaDireta.pendente() < SAIDA_PAUSA_LEITURA) {
+                int b = entrada.get() & 0xFF;
+                if (bytesTelnet > 0) {
+                    bytesTelnet = (bytesTelnet == 2 && b >= WILL && b <= DONT) ? 1 : 0;
+                } else if (b == IAC) {
+                    bytesTelnet = 2;
+                } else if (b == '\n') {
+                    sessao.processarLinha(new String(linha, 0, tamanhoLinha, StandardCharsets.UTF_8));
+                    tamanhoLinha = 0;
+                } else if (b != '\r' && b != 0 && tamanhoLinha < linha.length) {
+                    linha[tamanhoLinha++] = (byte) b;
+                }
+            }
+            boolean consumiu = entrada.position() > inicio;
+            if (sessao.isEncerrada()) {
+                entrada.position(entrada.limit());  // O resto da entrada não tem mais destino
+            }
+            entrada.compact();
+            if (saidaDireta.isExcedida()) {
+                throw new IOException("Saída pendente acima de " + SAIDA_MAXIMA + " bytes");
+            }
+            return consumiu;
+        }
+
+        // Processa as linhas guardadas e envia o que couber; o resto espera OP_WRITE
+        // Continua enquanto o socket aceitar a saída e ainda houver entrada guardada
+        void escrever() throws IOException {
+            boolean consumiu;
+            do {
+                consumiu = processarEntrada();
+                enviar();
+            } while (consumiu && entrada.position() > 0 && saidaDireta.pendente() < SAIDA_PAUSA_LEITURA);
+            atualizarInteresse();
+        }
+
+        private void enviar() throws IOException {
+            ByteBuffer pendente = saidaDireta.buffer;
+            pendente.flip();
+            canal.write(pendente);
+            pendente.compact();
+        }
+
+        // Com saída acima do limite de pausa a leitura fica desligada até o socket drenar
+        private void atualizarInteresse() {
+            if (fechada) {
+                return;
+            }
+            int pendente = saidaDireta.pendente();
+            if (pendente == 0 && sessao.isEncerrada()) {
+                fechar();
+                return;
+            }
+            int interesse = pendente < SAIDA_PAUSA_LEITURA && entrada.hasRemaining() ? SelectionKey.OP_READ : 0;
+            if (pendente > 0) {
+                interesse |= SelectionKey.OP_WRITE;
+            }
+            chave.interestOps(interesse);
+        }
+
+        void fechar() {
+            if (fechada) {
+                return;
+            }
+            fechada = true;
+            sessao.desconectar();
+            conexoesAtivas.decrementAndGet();
+            chave.cancel();
+            try {
+                canal.close();
+            } catch (IOException e) {
+                System.err.println("Erro ao fechar conexão: " + e.getMessage());
+            }
+        }
+    }
+
+    // Saída da sessão acumulada em um ByteBuffer direto (modo escrita) que cresce sob demanda
+    // até SAIDA_MAXIMA; o que passar disso é descartado e a conexão, fechada
+    private static final class SaidaDireta extends OutputStream {
+        private ByteBuffer buffer = ByteBuffer.allocateDirect(TAMANHO_SAIDA_INICIAL);
+        private boolean excedida;
+
+        @Override
+        public void write(int b) {
+            if (garantir(1)) {
+                buffer.put((byte) b);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int inicio, int tamanho) {
+            if (garantir(tamanho)) {
+                buffer.put(b, inicio, tamanho);
+            }
+        }
+
+        int pendente() { return buffer.position(); }
+        boolean isExcedida() { return excedida; }
+
+        private boolean garantir(int adicional) {
+            if (buffer.remaining() >= adicional) {
+                return true;
+            }
+            if ((long) buffer.position() + adicional > SAIDA_MAXIMA) {
+                excedida = true;
+                return false;
+            }
+            int capacidade = buffer.capacity();
+            while (capacidade - buffer.position() < adicional) {
+                capacidade *= 2;
+            }
+            ByteBuffer maior = ByteBuffer.allocateDirect(Math.min(capacidade, SAIDA_MAXIMA));
+            buffer.flip();
+            maior.put(buffer);
+            buffer = maior;
+            return true;
+        }
+    }
+}
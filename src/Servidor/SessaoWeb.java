@@ -0,0 +1,67 @@
+// =============================================
+// Classe SessaoWeb
+// Estado de um usuário conectado pela API HTTP:
+// usuário, exercício em andamento e último acesso
+// Os acessos devem ser sincronizados na própria sessão
+// Depois de passivada, a instância é descartada e deve ser buscada de novo
+// =============================================
+
+package Servidor;
+
+import Core.ExercicioTopico;
+import Core.Usuario;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+public class SessaoWeb {
+    private final String id;
+    private final Usuario usuario;
+    private final PrintStream saidaDescartada; // Mensagens de console não vão para a API
+    private ExercicioTopico exercicio;
+    private volatile long ultimoAcessoNanos;
+    private volatile boolean passivada;  // Já gravada em disco; esta instância não vale mais
+    private volatile boolean removida;   // Apagada pela API; não deve voltar ao disco
+    private long bytesEstimados;         // Último valor contabilizado pelo registro
+
+    public SessaoWeb(String id, Usuario usuario) {
+        this.id = id;
+        this.usuario = usuario;
+        this.saidaDescartada = new PrintStream(OutputStream.nullOutputStream());
+        tocar();
+    }
+
+    // Atualiza o instante do último acesso (usado na expiração por ociosidade)
+    public void tocar() {
+        this.ultimoAcessoNanos = System.nanoTime();
+    }
+
+    public boolean estaOciosa(long limiteNanos, long agoraNanos) {
+        return agoraNanos - ultimoAcessoNanos > limiteNanos;
+    }
+
+    // Estimativa do espaço ocupado pela sessão (usuário, estatísticas e exercício)
+    public long estimarBytes() {
+        long bytes = 160 + 2L * usuario.getNome().length() + usuario.getEstatisticas().estimarBytes();
+        if (exercicio != null) {
+            bytes += exercicio.estimarBytes();
+        }
+        for (ExercicioTopico pausado : usuario.getTopicosPausados()) {
+            bytes += pausado.estimarBytes();
+        }
+        return bytes;
+    }
+
+    public void marcarPassivada() { this.passivada = true; }
+    public boolean isPassivada() { return passivada; }
+    public void marcarRemovida() { this.removida = true; }
+    public boolean isRemovida() { return removida; }
+    public long getBytesEstimados() { return bytesEstimados; }
+    public void setBytesEstimados(long bytesEstimados) { this.bytesEstimados = bytesEstimados; }
+
+    public String getId() { return id; }
+    public Usuario getUsuario() { return usuario; }
+    public PrintStream getSaidaDescartada() { return saidaDescartada; }
+    public ExercicioTopico getExercicio() { return exercicio; }
+    public void setExercicio(ExercicioTopico exercicio) { this.exercicio = exercicio; }
+}
@@ -0,0 +1,173 @@
+// =============================================
+// Classe SimuladorCarga
+// Reproduz transcrições gravadas (Main --gravar) em várias
+// sessões simultâneas, com entrada e saída em memória
+// Mede vazão, latência por turno (p50/p99) e alocação por turno
+// Uso: java SimuladorCarga <transcricao> [sessoes] [threads]
+// =============================================
+
+import Core.ExercicioTopico;
+import Core.Transcricao;
+import Monitoramento.Metricas;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class SimuladorCarga {
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length < 1) {
+            System.out.println("Uso: java SimuladorCarga <transcricao> [sessoes] [threads]");
+            return;
+        }
+        Transcricao transcricao = Transcricao.carregar(Path.of(args[0]));
+        int sessoes = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+
+        // Sem a pausa simulada de ordenação, que dominaria o tempo medido
+        ExercicioTopico.setAtrasoOrdenacaoMs(0);
+        // A transcrição foi gravada com letras de uma ordem que não se repete
+        ExercicioTopico.setEmbaralharAlternativas(false);
+
+        new SimuladorCarga().executar(transcricao, sessoes, threads);
+    }
+
+    public void executar(Transcricao transcricao, int sessoes, int threads) throws InterruptedException {
+        byte[] entrada = transcricao.paraBytes();
+        int turnosPorSessao = transcricao.getTamanho();
+        if ((long) sessoes * turnosPorSessao > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Sessões demais para medir: reduza a quantidade.");
+        }
+        long[] latencias = new long[sessoes * turnosPorSessao];
+        AtomicInteger turnosMedidos = new AtomicInteger();
+        AtomicLong bytesAlocados = new AtomicLong();
+        AtomicInteger falhas = new AtomicInteger();
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        System.out.println("Reproduzindo " + sessoes + " sessões de " + turnosPorSessao
+                + " turnos em " + threads + " threads...");
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        long inicio = System.nanoTime();
+        for (int s = 0; s < sessoes; s++) {
+            int deslocamento = s * turnosPorSessao;
+            executor.execute(() -> {
+                long alocadoAntes = threadBean.getCurrentThreadAllocatedBytes();
+                EntradaReproducao reproducao = new EntradaReproducao(entrada, turnosPorSessao);
+                try {
+                    new SistemaAprendizado(reproducao, new PrintStream(OutputStream.nullOutputStream()), null)
+                            .iniciarSessao();
+                } catch (RuntimeException e) {
+                    falhas.incrementAndGet();
+                }
+                int medidos = reproducao.copiarLatencias(latencias, deslocamento);
+                turnosMedidos.addAndGet(medidos);
+                bytesAlocados.addAndGet(threadBean.getCurrentThreadAllocatedBytes() - alocadoAntes);
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.DAYS);
+        long duracaoNanos = System.nanoTime() - inicio;
+
+        exibirRelatorio(latencias, turnosMedidos.get(), bytesAlocados.get(), sessoes, falhas.get(), duracaoNanos);
+    }
+
+    private void exibirRelatorio(long[] latencias, int turnos, long bytesAlocados,
+                                 int sessoes, int falhas, long duracaoNanos) {
+        long[] medidas = Arrays.stream(latencias).filter(l -> l > 0).sorted().toArray();
+        double segundos = duracaoNanos / 1e9;
+
+        System.out.println("\n" + "=".repeat(50));
+        System.out.println("         RESULTADO DO TESTE DE CARGA");
+        System.out.println("=".repeat(50));
+        System.out.println("Sessões: " + sessoes + " (falhas: " + falhas + ")");
+        System.out.println("Turnos medidos: " + turnos);
+        System.out.println("Duração: " + String.format("%.2f", segundos) + " s");
+        System.out.println("Vazão: " + String.format("%.0f", sessoes / segundos) + " sessões/s | "
+                + String.format("%.0f", turnos / segundos) + " turnos/s");
+        if (medidas.length > 0) {
+            System.out.println("Latência por turno p50: " + formatarMicros(percentil(medidas, 0.50))
+                    + " | p99: " + formatarMicros(percentil(medidas, 0.99))
+                    + " | máx: " + formatarMicros(medidas[medidas.length - 1]));
+        }
+        if (turnos > 0) {
+            System.out.println("Alocação por turno: " + (bytesAlocados / turnos) + " bytes");
+        }
+        System.out.println("=".repeat(50));
+        if (Metricas.ATIVO) {
+            System.out.println(Metricas.exportarTexto());
+        }
+    }
+
+    private static long percentil(long[] ordenados, double fracao) {
+        int indice = (int) Math.ceil(fracao * ordenados.length) - 1;
+        return ordenados[Math.max(0, Math.min(indice, ordenados.length - 1))];
+    }
+
+    private static String formatarMicros(long nanos) {
+        return String.format("%.1f µs", nanos / 1000.0);
+    }
+
+    // Entrega uma linha da transcrição por leitura e mede o tempo que o
+    // sistema levou para processar cada linha até pedir a próxima
+    private static class EntradaReproducao extends InputStream {
+        private final byte[] dados;
+        private final long[] pedidos;
+        private int posicao;
+        private int linhasEntregues;
+
+        EntradaReproducao(byte[] dados, int linhas) {
+            this.dados = dados;
+            this.pedidos = new long[linhas + 1];
+        }
+
+        @Override
+        public int read() {
+            byte[] um = new byte[1];
+            return read(um, 0, 1) < 0 ? -1 : um[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] buffer, int inicio, int tamanho) {
+            if (posicao >= dados.length) {
+                return -1;
+            }
+            boolean inicioDeLinha = posicao == 0 || dados[posicao - 1] == '\n';
+            if (inicioDeLinha && linhasEntregues < pedidos.length) {
+                pedidos[linhasEntregues] = System.nanoTime();
+            }
+            int fim = posicao;
+            while (fim < dados.length && fim - posicao < tamanho && dados[fim++] != '\n') {
+                // avança até o fim da linha ou do buffer
+            }
+            int copiados = fim - posicao;
+            System.arraycopy(dados, posicao, buffer, inicio, copiados);
+            posicao = fim;
+            if (dados[fim - 1] == '\n') {
+                linhasEntregues++;
+            }
+            return copiados;
+        }
+
+        // Latência do turno i = intervalo entre a entrega da linha i e o pedido da linha i+1
+        int copiarLatencias(long[] destino, int deslocamento) {
+            int medidos = 0;
+            for (int i = 1; i < pedidos.length && i <= linhasEntregues && pedidos[i] != 0; i++) {
+                destino[deslocamento + i - 1] = pedidos[i] - pedidos[i - 1];
+                medidos++;
+            }
+            return medidos;
+        }
+    }
+}
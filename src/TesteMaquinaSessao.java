@@ -0,0 +1,284 @@
+// =============================================
+// Classe TesteMaquinaSessao
+// Conduz a MaquinaSessao só por processarLinha, com a saída em
+// memória, e confere o estado e a tela depois de cada transição:
+// - entradas inválidas seguidas nos menus mantêm o estado e
+//   redesenham sempre a mesma tela, em pilha constante (a thread
+//   roda com pilha pequena; a versão recursiva estourava)
+// - linhas vazias não contam como resposta nos menus
+// - comandos de navegação sem diferenciar maiúsculas e a retomada
+//   do tópico pausado
+// - com checkpoints em disco, um nome só serve a uma sessão viva
+//   por vez (até ela sair ou cair)
+// - estatísticas e linha de status no idioma da sessão
+// - alocação da própria máquina por entrada inválida (HotSpot), com
+//   uma saída que só conta caracteres: o PrintStream real aloca por
+//   chamada ao codificar o texto, e isso não é da máquina
+// Sai com código 1 se alguma verificação falhar
+// Uso: java TesteMaquinaSessao [entradasInvalidas]
+// =============================================
+
+import Core.ArmazemProgresso;
+import Core.ExercicioTopico;
+import Fluxo.EstadoSessao;
+import Fluxo.MaquinaSessao;
+import Idiomas.Catalogo;
+import Idiomas.Mensagem;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+public class TesteMaquinaSessao {
+    private static final long PILHA_BYTES = 256 * 1024;
+    private static final long MAX_BYTES_POR_TURNO = 64;  // Folga para o ruído da medição
+
+    private final Catalogo catalogo = Catalogo.PT_BR;
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    private int falhas;
+    private int verificacoes;
+
+    public static void main(String[] args) throws InterruptedException {
+        int entradas = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+        ExercicioTopico.setAtrasoOrdenacaoMs(0);
+        ExercicioTopico.setEmbaralharAlternativas(false);
+
+        TesteMaquinaSessao teste = new TesteMaquinaSessao();
+        Thread thread = new Thread(null, () -> teste.executar(entradas), "teste-maquina", PILHA_BYTES);
+        thread.start();
+        thread.join();
+
+        System.out.println(teste.verificacoes + " verificações, " + teste.falhas + " falha(s)");
+        if (teste.falhas > 0) {
+            System.exit(1);
+        }
+    }
+
+    private void executar(int entradas) {
+        try {
+            menusInvalidos(entradas);
+            navegacao();
+            nomeReservado();
+            estatisticasNoIdioma();
+            alocacao(entradas);
+        } catch (IOException | RuntimeException | StackOverflowError e) {
+            falhar("exceção inesperada: " + e);
+        }
+    }
+
+    // Entradas inválidas seguidas: mesmo estado e mesma tela a cada turno
+    private void menusInvalidos(int entradas) {
+        MaquinaSessao sessao = novaSessao();
+        enviar(sessao, "Ana");
+        verificarEstado(sessao, EstadoSessao.MENU_PRINCIPAL, "após o nome");
+
+        String telaNaoNumero = enviar(sessao, "abc");
+        String telaOpcaoInvalida = enviar(sessao, "9");
+        verificar(telaNaoNumero.startsWith(texto(Mensagem.APENAS_NUMEROS)), "menu principal: aviso de só números");
+        verificar(telaOpcaoInvalida.startsWith(texto(Mensagem.MENU_OPCAO_INVALIDA)), "menu principal: aviso de opção inválida");
+        repetirInvalidas(sessao, entradas, EstadoSessao.MENU_PRINCIPAL, telaNaoNumero, telaOpcaoInvalida);
+
+        enviar(sessao, "1");
+        verificarEstado(sessao, EstadoSessao.MENU_JAVA, "menu Java");
+        telaNaoNumero = enviar(sessao, "x");
+        telaOpcaoInvalida = enviar(sessao, "7");
+        verificar(telaNaoNumero.startsWith(texto(Mensagem.APENAS_NUMEROS)), "menu Java: aviso de só números");
+        verificar(telaOpcaoInvalida.startsWith(texto(Mensagem.MENU_JAVA_OPCAO_INVALIDA)), "menu Java: aviso de opção inválida");
+        verificar(telaOpcaoInvalida.endsWith(texto(Mensagem.MENU_JAVA_OPCAO)), "menu Java: tela termina no pedido de opção");
+        repetirInvalidas(sessao, entradas, EstadoSessao.MENU_JAVA, telaNaoNumero, telaOpcaoInvalida);
+
+        verificar(enviar(sessao, "   ").isEmpty(), "linha vazia no menu não produz saída");
+        verificarEstado(sessao, EstadoSessao.MENU_JAVA, "após linha vazia");
+    }
+
+    private void repetirInvalidas(MaquinaSessao sessao, int entradas, EstadoSessao estado,
+                                  String telaNaoNumero, String telaOpcaoInvalida) {
+        int divergentes = 0;
+        for (int i = 0; i < entradas; i++) {
+            boolean numero = (i & 1) == 1;
+            String tela = enviar(sessao, numero ? "99" : "zz");
+            if (sessao.getEstado() != estado || !tela.equals(numero ? telaOpcaoInvalida : telaNaoNumero)) {
+                divergentes++;
+            }
+        }
+        verificar(divergentes == 0, entradas + " entradas inválidas em " + estado + ": " + divergentes + " turno(s) divergente(s)");
+    }
+
+    // Tópico, comandos de navegação e retomada do tópico pausado
+    private void navegacao() {
+        MaquinaSessao sessao = novaSessao();
+        enviar(sessao, "Bia");
+        enviar(sessao, "1");
+        String ordem = enviar(sessao, "1");
+        verificarEstado(sessao, EstadoSessao.ESCOLHER_ORDEM, "escolha da ordem");
+        verificar(ordem.contains(texto(Mensagem.ORDEM_PERGUNTA)), "pergunta da ordem exibida");
+
+        String questao = enviar(sessao, "2");
+        verificarEstado(sessao, EstadoSessao.QUESTAO, "primeira questão");
+        verificar(questao.contains(texto(Mensagem.INICIANDO_EXERCICIOS)), "início dos exercícios anunciado");
+
+        String voltar = enviar(sessao, "  v ");
+        verificarEstado(sessao, EstadoSessao.QUESTAO, "voltar na primeira questão");
+        verificar(voltar.startsWith(texto(Mensagem.SEM_QUESTAO_ANTERIOR)), "sem questão anterior");
+
+        enviar(sessao, "Pular");
+        verificarEstado(sessao, EstadoSessao.QUESTAO, "após pular");
+
+        String menu = enviar(sessao, "menu");
+        verificarEstado(sessao, EstadoSessao.MENU_PRINCIPAL, "comando menu");
+        verificar(menu.startsWith(texto(Mensagem.PROGRESSO_SALVO)), "progresso salvo ao sair para o menu");
+
+        enviar(sessao, "1");
+        String retomada = enviar(sessao, "1");
+        verificarEstado(sessao, EstadoSessao.RETOMAR, "tópico pausado");
+        verificar(retomada.startsWith(texto(Mensagem.RETOMADA_PAROU) + "2/" + MaquinaSessao.QUESTOES_POR_TOPICO
+                + " (0" + texto(Mensagem.RETOMADA_RESPONDIDAS) + "1" + texto(Mensagem.RETOMADA_PULADAS)),
+                "retomada indica a questão 2 com 1 pulada");
+
+        enviar(sessao, "s");
+        verificarEstado(sessao, EstadoSessao.QUESTAO, "tópico retomado");
+        enviar(sessao, "M");
+        String estatisticas = enviar(sessao, "2");
+        verificarEstado(sessao, EstadoSessao.AGUARDAR_ENTER, "tela de estatísticas");
+        verificar(estatisticas.contains(texto(Mensagem.ESTATISTICAS_PROGRESSO_GERAL)), "progresso geral exibido");
+        verificar(estatisticas.contains("] 1" + texto(Mensagem.ESTATISTICAS_TOPICOS_FIM)), "um tópico estudado");
+
+        enviar(sessao, "");
+        enviar(sessao, "4");
+        verificar(sessao.isEncerrada(), "sessão encerrada pela opção 4");
+    }
+
+    // Duas sessões vivas com o mesmo nome sobrescreveriam o checkpoint uma da outra
+    private void nomeReservado() throws IOException {
+        ArmazemProgresso progresso = new ArmazemProgresso(Files.createTempDirectory("teste-progresso"));
+        MaquinaSessao primeira = novaSessao(progresso);
+        enviar(primeira, "Ana");
+        verificarEstado(primeira, EstadoSessao.MENU_PRINCIPAL, "primeira sessão da Ana");
+
+        MaquinaSessao segunda = novaSessao(progresso);
+        verificar(enviar(segunda, " ana ").equals(texto(Mensagem.NOME_EM_USO)), "nome em uso recusado");
+        verificarEstado(segunda, EstadoSessao.NOME, "segunda sessão continua pedindo o nome");
+
+        enviar(primeira, "4");
+        verificar(primeira.isEncerrada(), "primeira sessão encerrada pela opção 4");
+        enviar(segunda, "Ana");
+        verificarEstado(segunda, EstadoSessao.MENU_PRINCIPAL, "nome liberado ao sair");
+
+        segunda.desconectar();
+        MaquinaSessao terceira = novaSessao(progresso);
+        enviar(terceira, "ANA");
+        verificarEstado(terceira, EstadoSessao.MENU_PRINCIPAL, "nome liberado ao cair a conexão");
+        terceira.desconectar();
+        progresso.encerrar();
+    }
+
+    // Tela de estatísticas e linha de status de uma sessão em inglês
+    private void estatisticasNoIdioma() {
+        bytes.reset();
+        MaquinaSessao sessao = new MaquinaSessao(new PrintStream(bytes, false, StandardCharsets.UTF_8), null, Catalogo.EN);
+        sessao.iniciar();
+        String menu = enviar(sessao, "Eve");
+        String estatisticas = enviar(sessao, "2");
+        verificar(menu.contains(Catalogo.EN.get(Mensagem.LINHA_QUESTOES) + "0" + Catalogo.EN.get(Mensagem.LINHA_ACERTOS)),
+                "linha de status em inglês");
+        verificar(estatisticas.contains(Catalogo.EN.get(Mensagem.ESTATISTICAS_TITULO))
+                && estatisticas.contains(Catalogo.EN.get(Mensagem.ESTATISTICAS_PERCENTUAL)), "estatísticas em inglês");
+        verificar(!menu.contains(texto(Mensagem.LINHA_ACERTOS)) && !estatisticas.contains(texto(Mensagem.ESTATISTICAS_ACERTOS)),
+                "nada das estatísticas em português na sessão em inglês");
+    }
+
+    // Bytes alocados pela thread por entrada inválida no menu Java, com a saída só contada
+    private void alocacao(int entradas) {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean)) {
+            System.out.println("Medição de alocação indisponível nesta JVM");
+            return;
+        }
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        SaidaContada saida = new SaidaContada();
+        MaquinaSessao sessao = new MaquinaSessao(saida, null, catalogo);
+        sessao.processarLinha("Caio");
+        sessao.processarLinha("1");
+        for (int i = 0; i < entradas; i++) {
+            sessao.processarLinha((i & 1) == 1 ? "99" : "zz");  // Aquecimento (JIT)
+        }
+        long id = Thread.currentThread().getId();
+        long antes = threadBean.getThreadAllocatedBytes(id);
+        for (int i = 0; i < entradas; i++) {
+            sessao.processarLinha((i & 1) == 1 ? "99" : "zz");
+        }
+        long porTurno = (threadBean.getThreadAllocatedBytes(id) - antes) / entradas;
+        System.out.println("Alocação por entrada inválida no menu Java: " + porTurno + " bytes ("
+                + saida.caracteres / (2L * entradas) + " caracteres de saída)");
+        verificar(saida.caracteres > 0, "saída contada");
+        verificar(porTurno <= MAX_BYTES_POR_TURNO, "entrada inválida aloca " + porTurno + " bytes por turno");
+    }
+
+    // Saída que só conta os caracteres, sem codificar nem alocar
+    private static final class SaidaContada extends PrintStream {
+        private long caracteres;
+
+        SaidaContada() {
+            super(OutputStream.nullOutputStream());
+        }
+
+        @Override public void print(String s) { caracteres += s.length(); }
+        @Override public void print(char c) { caracteres++; }
+        @Override public void print(int i) { caracteres++; }
+        @Override public void print(long l) { caracteres++; }
+        @Override public void print(Object o) { caracteres++; }
+        @Override public void println() { caracteres++; }
+        @Override public void println(String s) { print(s); println(); }
+        @Override public void println(char c) { print(c); println(); }
+        @Override public void println(int i) { print(i); println(); }
+        @Override public void println(Object o) { print(o); println(); }
+        @Override public void flush() { }
+    }
+
+    // ---------------------------------------------
+    // Auxiliares
+    // ---------------------------------------------
+
+    private MaquinaSessao novaSessao() {
+        return novaSessao(null);
+    }
+
+    private MaquinaSessao novaSessao(ArmazemProgresso progresso) {
+        bytes.reset();
+        MaquinaSessao sessao = new MaquinaSessao(new PrintStream(bytes, false, StandardCharsets.UTF_8), progresso, catalogo);
+        sessao.iniciar();
+        verificarEstado(sessao, EstadoSessao.NOME, "início");
+        return sessao;
+    }
+
+    // Uma transição; devolve só a saída produzida por ela
+    private String enviar(MaquinaSessao sessao, String linha) {
+        bytes.reset();
+        sessao.processarLinha(linha);
+        return bytes.toString(StandardCharsets.UTF_8);
+    }
+
+    private String texto(Mensagem mensagem) {
+        return catalogo.get(mensagem);
+    }
+
+    private void verificarEstado(MaquinaSessao sessao, EstadoSessao esperado, String descricao) {
+        verificar(sessao.getEstado() == esperado, descricao + ": estado " + sessao.getEstado() + ", esperado " + esperado);
+    }
+
+    private void verificar(boolean condicao, String descricao) {
+        verificacoes++;
+        if (!condicao) {
+            falhar(descricao);
+        }
+    }
+
+    private void falhar(String descricao) {
+        falhas++;
+        System.out.println("❌ " + descricao);
+    }
+}
@@ -0,0 +1,242 @@
+// =============================================
+// Classe TesteModelosQuestoes
+// Confere o motor de questões parametrizadas (ModeloQuestao,
+// GeradorVariacoes e QuestaoFactory.criarQuestoesParametrizadas):
+// - cada semente percorre todas as variações de cada modelo uma
+//   única vez (base mista + passo co-primo), inclusive com totais
+//   de 1 e com muitos divisores comuns
+// - chaves de código Java ficam como texto; só variáveis conhecidas
+//   são trocadas, com as partes "#n" e o modificador ":Maiuscula"
+// - nas questões de identificar erro, a letra correta depois do
+//   giro das alternativas ainda aponta para a alternativa certa, e
+//   cada modelo usa as quatro letras
+// Sai com código 1 se alguma verificação falhar
+// Uso: java TesteModelosQuestoes
+// =============================================
+
+import Exceptions.QuestaoException;
+import Questoes.GeradorVariacoes;
+import Questoes.ModeloQuestao;
+import Questoes.ModelosQuestoes;
+import Questoes.Questao;
+import Questoes.QuestaoFactory;
+import enums.NivelDificuldade;
+import enums.TipoQuestao;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class TesteModelosQuestoes {
+    private static final String[] TOPICOS = {"encapsulamento", "herança", "interface", "polimorfismo", "abstração"};
+    private static final long[] SEMENTES = {0, 1, 7, 42, -3, Long.MAX_VALUE, Long.MIN_VALUE};
+
+    // Alternativa certa de cada modelo de identificar erro, pelo início do enunciado
+    private static final Map<String, String> CORRETAS = Map.of(
+            "Identifique o erro no setter", "Não usa 'this' para distinguir atributo do parâmetro",
+            "Identifique o erro no construtor", "super() deve ser a primeira instrução",
+            "Identifique o erro na interface", "Métodos em interface não podem ser private sem corpo",
+            "Identifique o erro na sobrecarga", "Não pode diferir apenas pelo tipo de retorno");
+
+    private int falhas;
+    private int verificacoes;
+
+    public static void main(String[] args) {
+        TesteModelosQuestoes teste = new TesteModelosQuestoes();
+        try {
+            teste.percursoCompleto();
+            teste.substituicao();
+            teste.letraCorreta();
+            teste.parametrizadas();
+        } catch (QuestaoException | RuntimeException e) {
+            teste.falhar("exceção inesperada: " + e);
+        }
+
+        System.out.println(teste.verificacoes + " verificações, " + teste.falhas + " falha(s)");
+        if (teste.falhas > 0) {
+            System.exit(1);
+        }
+    }
+
+    // Cada semente visita cada variação exatamente uma vez, nos modelos reais e em totais extremos
+    private void percursoCompleto() throws QuestaoException {
+        for (String topico : TOPICOS) {
+            conferirPercurso(topico, ModelosQuestoes.criarModelos(topico));
+        }
+        List<ModeloQuestao> extremos = List.of(
+                modeloCompletar(variaveis("a", valores("um", 1), "b", valores("um", 1))),       // total 1
+                modeloCompletar(variaveis("a", valores("dois", 2), "b", valores("dois", 18))),  // 36: 2²·3²
+                modeloCompletar(variaveis("a", valores("sete", 7), "b", valores("sete", 11)))); // 77: primos
+        conferirPercurso("modelos extremos", extremos);
+    }
+
+    private void conferirPercurso(String nome, List<ModeloQuestao> modelos) throws QuestaoException {
+        // Textos esperados: cada variação montada diretamente pela base mista
+        HashMap<String, Integer> esperadas = new HashMap<>();
+        long total = 0;
+        for (ModeloQuestao modelo : modelos) {
+            for (long n = 0; n < modelo.getTotalVariacoes(); n++) {
+                esperadas.merge(chave(modelo.instanciar(n)), 1, Integer::sum);
+            }
+            total += modelo.getTotalVariacoes();
+        }
+        verificar(esperadas.size() == total, nome + ": " + total + " variações distintas pela base mista ("
+                + esperadas.size() + ")");
+
+        for (long semente : SEMENTES) {
+            HashMap<String, Integer> vistas = new HashMap<>();
+            long geradas = 0;
+            for (Questao questao : new GeradorVariacoes(modelos, semente)) {
+                vistas.merge(chave(questao), 1, Integer::sum);
+                geradas++;
+            }
+            verificar(geradas == total && vistas.equals(esperadas),
+                    nome + ", semente " + semente + ": " + geradas + " geradas, " + vistas.size()
+                            + " distintas de " + total);
+        }
+    }
+
+    // Variáveis trocadas, partes e maiúsculas aplicadas, chaves de código preservadas
+    private void substituicao() throws QuestaoException {
+        ModeloQuestao modelo = ModeloQuestao.completar(NivelDificuldade.MEDIO,
+                variaveis("classe", new String[]{"Conta"}, "atributo", new String[]{"double|saldo"}),
+                "Na classe {classe}: public {atributo#0} get{atributo#1:Maiuscula}() { return ______; } {desconhecida} {}",
+                "public {atributo#0} get{atributo#1:Maiuscula}() { return ______; }",
+                "{atributo#1}",
+                "{classe:Maiuscula} guarda {atributo}.");
+        Questao questao = modelo.instanciar(0);
+        verificar(questao.getEnunciado().equals(
+                        "Na classe Conta: public double getSaldo() { return ______; } {desconhecida} {}"),
+                "enunciado com chaves de código e variável desconhecida: " + questao.getEnunciado());
+        verificar(questao.getCorreta().equals("saldo"), "{atributo#1} vira a segunda parte: " + questao.getCorreta());
+        verificar(questao.getExplicacao().equals("Conta guarda double|saldo."),
+                "valor composto inteiro sem #n: " + questao.getExplicacao());
+        verificar(questao.exibirQuestao().contains("public double getSaldo() { return ______; }"),
+                "template com {atributo#1:Maiuscula} e chaves de código");
+
+        ModeloQuestao partes = ModeloQuestao.completar(NivelDificuldade.FACIL,
+                variaveis("x", new String[]{"a|bravo|c", "sem"}, "y", new String[]{""}),
+                "[{x#0}] [{x#1:Maiuscula}] [{x#2}] [{x#3}] [{y:Maiuscula}]", "______", "ok", "-");
+        verificar(partes.instanciar(0).getEnunciado().equals("[a] [Bravo] [c] [] []"),
+                "partes de valor composto: " + partes.instanciar(0).getEnunciado());
+        verificar(partes.instanciar(1).getEnunciado().equals("[sem] [] [] [] []"),
+                "partes ausentes ficam vazias: " + partes.instanciar(1).getEnunciado());
+    }
+
+    // A letra girada aponta para a alternativa certa, e todas as letras aparecem
+    private void letraCorreta() throws QuestaoException {
+        for (String topico : TOPICOS) {
+            for (ModeloQuestao modelo : ModelosQuestoes.criarModelos(topico)) {
+                if (modelo.getTipo() != TipoQuestao.IDENTIFICAR_ERRO) {
+                    continue;
+                }
+                Set<String> letras = new HashSet<>();
+                int erradas = 0;
+                String esperada = null;
+                for (long n = 0; n < modelo.getTotalVariacoes(); n++) {
+                    Questao questao = modelo.instanciar(n);
+                    esperada = alternativaCorreta(questao.getEnunciado());
+                    letras.add(questao.getCorreta());
+                    if (esperada == null || !esperada.equals(alternativa(questao, questao.getCorreta()))) {
+                        erradas++;
+                    }
+                }
+                verificar(erradas == 0, topico + ": letra correta aponta para \"" + esperada + "\" ("
+                        + erradas + " errada(s))");
+                verificar(letras.size() == 4, topico + ": letras corretas usadas " + letras);
+            }
+        }
+    }
+
+    // Pela fábrica: quantidade pedida, sem repetição, limitada ao total
+    private void parametrizadas() throws QuestaoException {
+        long total = 0;
+        for (ModeloQuestao modelo : ModelosQuestoes.criarModelos("interface")) {
+            total += modelo.getTotalVariacoes();
+        }
+        ArrayList<Questao> algumas = QuestaoFactory.criarQuestoesParametrizadas("interface", 25, 9);
+        ArrayList<Questao> todas = QuestaoFactory.criarQuestoesParametrizadas("interface", (int) total + 10, 9);
+        verificar(algumas.size() == 25 && distintas(algumas) == 25, "25 questões parametrizadas distintas");
+        verificar(todas.size() == total && distintas(todas) == total,
+                "pedido acima do total devolve as " + total + " variações (" + todas.size() + ")");
+        verificar(chave(algumas.get(0)).equals(chave(todas.get(0))), "mesma semente, mesma ordem");
+        try {
+            QuestaoFactory.criarQuestoesParametrizadas("inexistente", 1, 0);
+            falhar("tópico inexistente deveria ser recusado");
+        } catch (QuestaoException e) {
+            verificar(true, "tópico inexistente recusado");
+        }
+    }
+
+    // ---------------------------------------------
+    // Auxiliares
+    // ---------------------------------------------
+
+    private static String chave(Questao questao) {
+        return questao.getEnunciado() + '\u0000' + questao.exibirQuestao() + '\u0000' + questao.getCorreta();
+    }
+
+    private static int distintas(List<Questao> questoes) {
+        HashSet<String> chaves = new HashSet<>();
+        for (Questao questao : questoes) {
+            chaves.add(chave(questao));
+        }
+        return chaves.size();
+    }
+
+    // Texto da alternativa exibida com a letra dada ("B) texto")
+    private static String alternativa(Questao questao, String letra) {
+        for (String linha : questao.exibirQuestao().split("\n")) {
+            if (linha.startsWith(letra + ") ")) {
+                return linha.substring(letra.length() + 2);
+            }
+        }
+        return null;
+    }
+
+    private static String alternativaCorreta(String enunciado) {
+        for (Map.Entry<String, String> entrada : CORRETAS.entrySet()) {
+            if (enunciado.startsWith(entrada.getKey())) {
+                return entrada.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static ModeloQuestao modeloCompletar(LinkedHashMap<String, String[]> variaveis) throws QuestaoException {
+        return ModeloQuestao.completar(NivelDificuldade.FACIL, variaveis,
+                "Valores {a} e {b}", "{a} ______ {b}", "{b}", "Explicação de {a}.");
+    }
+
+    private static String[] valores(String prefixo, int quantidade) {
+        String[] valores = new String[quantidade];
+        for (int i = 0; i < quantidade; i++) {
+            valores[i] = prefixo + i;
+        }
+        return valores;
+    }
+
+    private static LinkedHashMap<String, String[]> variaveis(String nome1, String[] valores1,
+                                                             String nome2, String[] valores2) {
+        LinkedHashMap<String, String[]> variaveis = new LinkedHashMap<>();
+        variaveis.put(nome1, valores1);
+        variaveis.put(nome2, valores2);
+        return variaveis;
+    }
+
+    private void verificar(boolean condicao, String descricao) {
+        verificacoes++;
+        if (!condicao) {
+            falhar(descricao);
+        }
+    }
+
+    private void falhar(String descricao) {
+        falhas++;
+        System.out.println("❌ " + descricao);
+    }
+}
@@ -1,16 +1,19 @@
 package enums;
 
+import Idiomas.Catalogo;
+import Idiomas.Mensagem;
+
 public enum NivelDificuldade {
-    FACIL(1, "Fácil"),
-    MEDIO(2, "Médio"),
-    DIFICIL(3, "Difícil");
+    FACIL(1, Mensagem.NIVEL_FACIL),
+    MEDIO(2, Mensagem.NIVEL_MEDIO),
+    DIFICIL(3, Mensagem.NIVEL_DIFICIL);
 
     private final int valor;
-    private final String descricao;
+    private final Mensagem mensagem;
 
-    NivelDificuldade(int valor, String descricao) {
+    NivelDificuldade(int valor, Mensagem mensagem) {
         this.valor = valor;
-        this.descricao = descricao;
+        this.mensagem = mensagem;
     }
 
     public int getValor() {
@@ -18,12 +21,15 @@ public enum NivelDificuldade {
     }
 
     public String getDescricao() {
-        return descricao;
+        return getDescricao(Catalogo.PADRAO);
+    }
+
+    public String getDescricao(Catalogo catalogo) {
+        return catalogo.get(mensagem);
     }
 
     @Override
     public String toString() {
-        return descricao;
+        return getDescricao();
     }
 }
-
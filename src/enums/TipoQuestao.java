@@ -1,22 +1,29 @@
 package enums;
 
+import Idiomas.Catalogo;
+import Idiomas.Mensagem;
+
 public enum TipoQuestao {
-    MULTIPLA("Múltipla Escolha"),
-    COMPLETAR("Completar Código"),
-    IDENTIFICAR_ERRO("Identificar Erro");
+    MULTIPLA(Mensagem.TIPO_MULTIPLA),
+    COMPLETAR(Mensagem.TIPO_COMPLETAR),
+    IDENTIFICAR_ERRO(Mensagem.TIPO_IDENTIFICAR_ERRO);
 
-    private final String descricao;
+    private final Mensagem mensagem;
 
-    TipoQuestao(String descricao) {
-        this.descricao = descricao;
+    TipoQuestao(Mensagem mensagem) {
+        this.mensagem = mensagem;
     }
 
     public String getDescricao() {
-        return descricao;
+        return getDescricao(Catalogo.PADRAO);
+    }
+
+    public String getDescricao(Catalogo catalogo) {
+        return catalogo.get(mensagem);
     }
 
     @Override
     public String toString() {
-        return descricao;
+        return getDescricao();
     }
 }